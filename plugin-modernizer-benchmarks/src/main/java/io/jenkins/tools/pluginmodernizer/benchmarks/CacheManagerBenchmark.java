@@ -0,0 +1,73 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.model.UpdateCenterData;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reading and writing the update center through the cache with each codec
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CacheManagerBenchmark {
+
+    /**
+     * Number of plugins of the update center
+     */
+    @Param({"2000"})
+    private int plugins;
+
+    /**
+     * Cache key selecting the codec
+     */
+    @Param({"update-center.json", CacheManager.UPDATE_CENTER_CACHE_KEY})
+    private String key;
+
+    private Path directory;
+    private CacheManager cacheManager;
+    private UpdateCenterData updateCenter;
+
+    @Setup
+    public void setup() {
+        directory = Fixtures.createTempDirectory();
+        cacheManager = new CacheManager(directory);
+        cacheManager.init();
+        updateCenter = JsonUtils.fromJson(Fixtures.updateCenter(plugins), UpdateCenterData.class);
+        updateCenter.setKey(key);
+        updateCenter.setPath(cacheManager.root());
+        cacheManager.put(updateCenter);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(directory);
+    }
+
+    @Benchmark
+    public UpdateCenterData get() {
+        return cacheManager.get(cacheManager.root(), key, UpdateCenterData.class);
+    }
+
+    @Benchmark
+    public void put() {
+        cacheManager.put(updateCenter);
+    }
+}
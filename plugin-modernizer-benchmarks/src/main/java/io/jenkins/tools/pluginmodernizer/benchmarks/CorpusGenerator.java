@@ -0,0 +1,229 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Generate a synthetic plugin source tree for the recipe harness.
+ * <p>
+ * The tree uses the legacy APIs targeted by the recipes (Acegi security, JUnit 4, {@code Jenkins.getInstance()},
+ * commons-lang) so the recipes visit and change a realistic share of the files. Three quarters of the Java files
+ * are main sources, the rest are tests.
+ */
+final class CorpusGenerator {
+
+    /**
+     * Package of the generated classes
+     */
+    private static final String PACKAGE = "io.jenkins.plugins.generated";
+
+    private static final String BUILDER = """
+            package %1$s;
+
+            import hudson.Extension;
+            import hudson.FilePath;
+            import hudson.Launcher;
+            import hudson.model.AbstractProject;
+            import hudson.model.Run;
+            import hudson.model.TaskListener;
+            import hudson.tasks.BuildStepDescriptor;
+            import hudson.tasks.Builder;
+            import java.io.IOException;
+            import jenkins.model.Jenkins;
+            import jenkins.tasks.SimpleBuildStep;
+            import org.apache.commons.lang.StringUtils;
+            import org.kohsuke.stapler.DataBoundConstructor;
+
+            public class %2$s extends Builder implements SimpleBuildStep {
+
+                private final String name;
+
+                @DataBoundConstructor
+                public %2$s(String name) {
+                    this.name = StringUtils.trimToEmpty(name);
+                }
+
+                public String getName() {
+                    return name;
+                }
+
+                @Override
+                public void perform(Run<?, ?> run, FilePath workspace, Launcher launcher, TaskListener listener)
+                        throws InterruptedException, IOException {
+                    if (StringUtils.isBlank(name)) {
+                        listener.getLogger().println("Nothing to do on " + Jenkins.getInstance().getRootUrl());
+                        return;
+                    }
+                    listener.getLogger().println("Hello " + StringUtils.capitalize(name));
+                }
+
+                @Extension
+                public static class DescriptorImpl extends BuildStepDescriptor<Builder> {
+
+                    @Override
+                    public boolean isApplicable(Class<? extends AbstractProject> type) {
+                        return true;
+                    }
+
+                    @Override
+                    public String getDisplayName() {
+                        return "%2$s";
+                    }
+                }
+            }
+            """;
+
+    private static final String SECURITY = """
+            package %1$s;
+
+            import hudson.model.Item;
+            import hudson.security.ACL;
+            import jenkins.model.Jenkins;
+            import org.acegisecurity.Authentication;
+            import org.acegisecurity.context.SecurityContext;
+            import org.acegisecurity.context.SecurityContextHolder;
+
+            public final class %2$s {
+
+                private %2$s() {}
+
+                public static boolean canConfigure(Item item) {
+                    Authentication authentication = Jenkins.getAuthentication();
+                    return item.getACL().hasPermission(authentication, Item.CONFIGURE);
+                }
+
+                public static void runAsSystem(Runnable runnable) {
+                    SecurityContext previous = ACL.impersonate(ACL.SYSTEM);
+                    try {
+                        runnable.run();
+                    } finally {
+                        SecurityContextHolder.setContext(previous);
+                    }
+                }
+            }
+            """;
+
+    private static final String UTILITY = """
+            package %1$s;
+
+            import java.util.ArrayList;
+            import java.util.List;
+            import java.util.logging.Level;
+            import java.util.logging.Logger;
+            import org.apache.commons.lang.StringEscapeUtils;
+            import org.apache.commons.lang.StringUtils;
+
+            public class %2$s {
+
+                private static final Logger LOGGER = Logger.getLogger(%2$s.class.getName());
+
+                public List<String> split(String value) {
+                    List<String> result = new ArrayList<String>();
+                    for (String part : StringUtils.split(value, ',')) {
+                        if (StringUtils.isNotBlank(part)) {
+                            result.add(StringEscapeUtils.escapeHtml(part.trim()));
+                        }
+                    }
+                    LOGGER.log(Level.FINE, "Split {0} into {1} parts", new Object[] {value, result.size()});
+                    return result;
+                }
+            }
+            """;
+
+    private static final String TEST = """
+            package %1$s;
+
+            import static org.junit.Assert.assertEquals;
+            import static org.junit.Assert.assertTrue;
+
+            import hudson.model.FreeStyleProject;
+            import org.junit.Before;
+            import org.junit.Rule;
+            import org.junit.Test;
+            import org.jvnet.hudson.test.JenkinsRule;
+
+            public class %2$s {
+
+                @Rule
+                public JenkinsRule j = new JenkinsRule();
+
+                private FreeStyleProject project;
+
+                @Before
+                public void setUp() throws Exception {
+                    project = j.createFreeStyleProject();
+                }
+
+                @Test
+                public void shouldBuild() throws Exception {
+                    j.buildAndAssertSuccess(project);
+                    assertEquals(1, project.getBuilds().size());
+                }
+
+                @Test
+                public void shouldBeConfigurable() throws Exception {
+                    j.configRoundtrip(project);
+                    assertTrue(project.isBuildable());
+                }
+            }
+            """;
+
+    private static final String JENKINSFILE = """
+            buildPlugin(useContainerAgent: true, configurations: [
+              [platform: 'linux', jdk: 11],
+              [platform: 'windows', jdk: 8],
+            ])
+            """;
+
+    private static final String CONFIG = """
+            <?jelly escape-by-default='true'?>
+            <j:jelly xmlns:j="jelly:core" xmlns:f="/lib/form">
+              <f:entry title="${%%Name}" field="name">
+                <f:textbox />
+              </f:entry>
+            </j:jelly>
+            """;
+
+    /**
+     * Hidden constructor
+     */
+    private CorpusGenerator() {}
+
+    /**
+     * Generate a plugin source tree
+     * @param directory The plugin directory, created if needed
+     * @param javaFiles The number of Java files
+     * @return The plugin directory
+     */
+    static Path generate(Path directory, int javaFiles) {
+        try {
+            Path main = Files.createDirectories(directory.resolve("src/main/java/" + PACKAGE.replace('.', '/')));
+            Path test = Files.createDirectories(directory.resolve("src/test/java/" + PACKAGE.replace('.', '/')));
+            Path resources = directory.resolve("src/main/resources/" + PACKAGE.replace('.', '/'));
+            Fixtures.copy(Fixtures.POM, directory.resolve("pom.xml"));
+            Files.writeString(directory.resolve("Jenkinsfile"), JENKINSFILE);
+            for (int i = 0; i < javaFiles; i++) {
+                switch (i % 4) {
+                    case 0 -> {
+                        String name = "Builder" + i;
+                        write(main, BUILDER, name);
+                        Path jelly = Files.createDirectories(resources.resolve(name));
+                        Files.writeString(jelly.resolve("config.jelly"), CONFIG.formatted());
+                    }
+                    case 1 -> write(main, SECURITY, "Security" + i);
+                    case 2 -> write(main, UTILITY, "Utility" + i);
+                    default -> write(test, TEST, "Builder" + (i - 3) + "Test");
+                }
+            }
+            return directory;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void write(Path directory, String template, String name) throws IOException {
+        Files.writeString(directory.resolve(name + ".java"), template.formatted(PACKAGE, name));
+    }
+}
@@ -0,0 +1,191 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.jenkins.tools.pluginmodernizer.core.extractor.ArchetypeCommonFile;
+import io.jenkins.tools.pluginmodernizer.core.extractor.MetadataFlag;
+import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import io.jenkins.tools.pluginmodernizer.core.model.JDK;
+import io.jenkins.tools.pluginmodernizer.core.model.Platform;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.commons.io.FileUtils;
+
+/**
+ * Fixtures shared by the benchmarks
+ */
+final class Fixtures {
+
+    /**
+     * Recorded plugins of the update center, trimmed to a few entries
+     */
+    static final String UPDATE_CENTER = "fixtures/update-center.json";
+
+    /**
+     * A plugin POM file
+     */
+    static final String POM = "fixtures/pom.xml";
+
+    /**
+     * Hidden constructor
+     */
+    private Fixtures() {}
+
+    /**
+     * Read a fixture from the classpath
+     * @param name The fixture name
+     * @return The content
+     */
+    static String read(String name) {
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Fixture not found: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write a fixture to a file
+     * @param name The fixture name
+     * @param file The file
+     * @return The file
+     */
+    static Path copy(String name, Path file) {
+        try {
+            return Files.writeString(file, read(name));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the recorded update center scaled to the given number of plugins.
+     * Each recorded plugin is copied with a numbered name, so lookups hit a realistic mix of records
+     * @param size The minimum number of plugins
+     * @return The update center JSON
+     */
+    static String updateCenter(int size) {
+        JsonObject recorded = JsonParser.parseString(read(UPDATE_CENTER)).getAsJsonObject();
+        JsonObject plugins = recorded.getAsJsonObject("plugins");
+        JsonObject deprecations = recorded.getAsJsonObject("deprecations");
+        JsonObject scaledPlugins = new JsonObject();
+        JsonObject scaledDeprecations = new JsonObject();
+        for (int i = 0; scaledPlugins.size() < size; i++) {
+            String suffix = i == 0 ? "" : "-" + i;
+            for (Map.Entry<String, JsonElement> entry : plugins.entrySet()) {
+                JsonObject plugin = entry.getValue().getAsJsonObject().deepCopy();
+                plugin.addProperty("name", entry.getKey() + suffix);
+                scaledPlugins.add(entry.getKey() + suffix, plugin);
+            }
+            for (Map.Entry<String, JsonElement> entry : deprecations.entrySet()) {
+                scaledDeprecations.add(entry.getKey() + suffix, entry.getValue());
+            }
+        }
+        JsonObject scaled = new JsonObject();
+        scaled.add("plugins", scaledPlugins);
+        scaled.add("deprecations", scaledDeprecations);
+        return scaled.toString();
+    }
+
+    /**
+     * Get the metadata extracted from a plugin POM
+     * @return The metadata
+     */
+    static PluginMetadata pomMetadata() {
+        PluginMetadata metadata = new PluginMetadata();
+        metadata.setPluginName("git");
+        metadata.setParentVersion("5.9");
+        metadata.setJenkinsVersion("2.479.3");
+        metadata.setBomArtifactId("bom-2.479.x");
+        metadata.setBomVersion("4488.v7fe26526366e");
+        metadata.addFlags(
+                List.of(MetadataFlag.SCM_HTTPS, MetadataFlag.MAVEN_REPOSITORIES_HTTPS, MetadataFlag.LICENSE_SET));
+        metadata.addProperty("jenkins.version", "2.479.3");
+        metadata.addProperty("gitHubRepo", "jenkinsci/git-plugin");
+        metadata.addProperty("spotbugs.effort", "Max");
+        return metadata;
+    }
+
+    /**
+     * Get the metadata extracted from the Java sources of a plugin
+     * @return The metadata
+     */
+    static PluginMetadata javaMetadata() {
+        PluginMetadata metadata = new PluginMetadata();
+        metadata.setJdks(Set.of(JDK.JAVA_17, JDK.JAVA_21));
+        metadata.addFlag(MetadataFlag.DEVELOPER_SET);
+        return metadata;
+    }
+
+    /**
+     * Get the metadata extracted from the Jenkinsfile of a plugin
+     * @return The metadata
+     */
+    static PluginMetadata jenkinsFileMetadata() {
+        PluginMetadata metadata = new PluginMetadata();
+        metadata.addPlatform(Platform.LINUX, JDK.JAVA_21, null);
+        metadata.addPlatform(Platform.WINDOWS, JDK.JAVA_17, null);
+        metadata.setUseContainerAgent(true);
+        metadata.setForkCount("1C");
+        return metadata;
+    }
+
+    /**
+     * Get the metadata of the common files of a plugin
+     * @return The metadata
+     */
+    static PluginMetadata commonMetadata() {
+        PluginMetadata metadata = new PluginMetadata();
+        metadata.setCommonFiles(List.of(
+                ArchetypeCommonFile.JENKINSFILE, ArchetypeCommonFile.POM, ArchetypeCommonFile.WORKFLOW_CD));
+        return metadata;
+    }
+
+    /**
+     * Get installation stats in the format of the Jenkins infra statistics
+     * @param size The number of plugins
+     * @return The CSV data
+     */
+    static String installationStats(int size) {
+        StringBuilder csv = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            csv.append("\"plugin-")
+                    .append(i)
+                    .append("\",\"")
+                    .append((size - i) * 17)
+                    .append("\"\n");
+        }
+        return csv.toString();
+    }
+
+    /**
+     * Create a temporary directory
+     * @return The directory
+     */
+    static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("plugin-modernizer-benchmarks");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Delete a temporary directory
+     * @param directory The directory
+     */
+    static void delete(Path directory) {
+        FileUtils.deleteQuietly(directory.toFile());
+    }
+}
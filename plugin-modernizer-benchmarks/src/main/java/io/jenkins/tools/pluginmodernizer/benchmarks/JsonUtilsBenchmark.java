@@ -0,0 +1,76 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.model.UpdateCenterData;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Merge and comparison of metadata JSON, and writing of a large JSON file
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonUtilsBenchmark {
+
+    /**
+     * Number of plugins of the update center written to file
+     */
+    @Param({"2000"})
+    private int plugins;
+
+    private String pomMetadata;
+    private String javaMetadata;
+    private String pomMetadataCopy;
+    private UpdateCenterData updateCenter;
+    private Path directory;
+
+    @Setup
+    public void setup() {
+        pomMetadata = Fixtures.pomMetadata().toJson();
+        pomMetadataCopy = Fixtures.pomMetadata().toJson();
+        javaMetadata = Fixtures.javaMetadata().toJson();
+        updateCenter = JsonUtils.fromJson(Fixtures.updateCenter(plugins), UpdateCenterData.class);
+        directory = Fixtures.createTempDirectory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(directory);
+    }
+
+    @Benchmark
+    public String merge() {
+        return JsonUtils.merge(javaMetadata, pomMetadata);
+    }
+
+    @Benchmark
+    public boolean equalsSame() {
+        return JsonUtils.equals(pomMetadata, pomMetadataCopy);
+    }
+
+    @Benchmark
+    public boolean equalsDifferent() {
+        return JsonUtils.equals(pomMetadata, javaMetadata);
+    }
+
+    @Benchmark
+    public void toJsonFile() {
+        JsonUtils.toJsonFile(updateCenter, directory.resolve("update-center.json"));
+    }
+}
@@ -0,0 +1,55 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.extractor.MetadataExecutionContext;
+import io.jenkins.tools.pluginmodernizer.core.extractor.MetadataFinalizerVisitor;
+import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openrewrite.Tree;
+import org.openrewrite.text.PlainText;
+
+/**
+ * Merging of the metadata collected from the POM, Java sources, Jenkinsfile and common files.
+ * Like during metadata collection, the merged metadata is saved under the target directory of the working directory
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MetadataFinalizerVisitorBenchmark {
+
+    private MetadataExecutionContext context;
+    private PluginMetadata merged;
+    private Tree tree;
+
+    @Setup
+    public void setup() {
+        context = new MetadataExecutionContext();
+        context.setPomMetadata(Fixtures.pomMetadata());
+        context.setJavaMetadata(Fixtures.javaMetadata());
+        context.setJenkinsFileMetadata(Fixtures.jenkinsFileMetadata());
+        context.setCommonMetadata(Fixtures.commonMetadata());
+        merged = new PluginMetadata();
+        tree = PlainText.builder().sourcePath(Path.of("pom.xml")).text("").build();
+    }
+
+    @Benchmark
+    public PluginMetadata merge() {
+        // Start from the same merged metadata on each call
+        context.setMergedMetadata(merged);
+        new MetadataFinalizerVisitor().visit(tree, context);
+        return context.getMergedMetadata();
+    }
+}
@@ -0,0 +1,101 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import io.jenkins.tools.pluginmodernizer.core.GuiceModule;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.UpdateCenterData;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Update center lookups of the plugin service against the recorded update center, served from the cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PluginServiceBenchmark {
+
+    /**
+     * Number of plugins of the update center
+     */
+    @Param({"2000"})
+    private int plugins;
+
+    private Path directory;
+    private PluginService pluginService;
+    private List<Plugin> lookups;
+    private int next;
+
+    @Setup
+    public void setup() {
+        directory = Fixtures.createTempDirectory();
+        Config config = Config.builder().withCachePath(directory).build();
+        Injector injector = Guice.createInjector(new GuiceModule(config));
+        CacheManager cacheManager = injector.getInstance(CacheManager.class);
+        cacheManager.init();
+        UpdateCenterData updateCenter = JsonUtils.fromJson(Fixtures.updateCenter(plugins), UpdateCenterData.class);
+        updateCenter.setKey(CacheManager.UPDATE_CENTER_CACHE_KEY);
+        updateCenter.setPath(cacheManager.root());
+        cacheManager.put(updateCenter);
+        pluginService = injector.getInstance(PluginService.class);
+
+        // Visit plugins in a random but reproducible order
+        List<String> names = new ArrayList<>(updateCenter.getPlugins().keySet());
+        Collections.shuffle(names, new Random(42));
+        lookups = names.stream().map(Plugin::build).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(directory);
+    }
+
+    private Plugin nextPlugin() {
+        next = (next + 1) % lookups.size();
+        return lookups.get(next);
+    }
+
+    @Benchmark
+    public boolean existsInUpdateCenter() {
+        return pluginService.existsInUpdateCenter(nextPlugin());
+    }
+
+    @Benchmark
+    public String extractRepoName() {
+        return pluginService.extractRepoName(nextPlugin());
+    }
+
+    @Benchmark
+    public boolean isDeprecated() {
+        return pluginService.isDeprecated(nextPlugin());
+    }
+
+    @Benchmark
+    public boolean isApiPlugin() {
+        return pluginService.isApiPlugin(nextPlugin());
+    }
+}
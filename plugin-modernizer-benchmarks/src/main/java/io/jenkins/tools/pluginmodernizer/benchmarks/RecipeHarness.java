@@ -0,0 +1,288 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.impl.SourceParser;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.HttpSenderExecutionContextView;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.ipc.http.HttpSender;
+
+/**
+ * Run each recipe of {@code recipes.yml} on a corpus of plugin source trees and report what it costs.
+ * <p>
+ * Each tree is parsed once with the same parser as the analyze command, then every recipe is run in memory on
+ * the parsed sources. Nothing is written back. The harness is fully offline: Maven downloads are answered as not
+ * found, so POMs and Java sources are only resolved and attributed with what the local Maven repository holds.
+ * <p>
+ * Usage: {@code RecipeHarness [--corpus <dir>] [--generate <java files>] [--recipes <regex>] [--iterations <n>]
+ * [--output <file>]}. Without a corpus a plugin tree is generated in a temporary directory.
+ */
+public final class RecipeHarness {
+
+    /**
+     * Default number of Java files of the generated plugin
+     */
+    private static final int DEFAULT_GENERATED_FILES = 2000;
+
+    /**
+     * Allocation counter of the current thread. Parsers and recipes run on the calling thread
+     */
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /**
+     * Cost of parsing a plugin tree
+     * @param tree The tree directory name
+     * @param sourceFiles Number of parsed source files
+     * @param parseMillis Duration of the parsing
+     * @param parseAllocatedBytes Bytes allocated by the parsing
+     */
+    public record TreeResult(String tree, int sourceFiles, long parseMillis, long parseAllocatedBytes) {}
+
+    /**
+     * Cost of a recipe on the whole corpus
+     * @param recipe The recipe name without the common prefix
+     * @param minVisitMillis Fastest run over all iterations
+     * @param avgVisitMillis Average run over all iterations
+     * @param allocatedBytes Bytes allocated by the last run
+     * @param changedFiles Source files changed by the last run
+     * @param errors Errors reported to the execution context by the last run
+     * @param error The error message if the recipe failed
+     */
+    public record RecipeResult(
+            String recipe,
+            long minVisitMillis,
+            long avgVisitMillis,
+            long allocatedBytes,
+            int changedFiles,
+            int errors,
+            String error) {}
+
+    /**
+     * Report of the harness
+     * @param corpus The corpus directory
+     * @param startedAt Start of the run
+     * @param iterations Number of runs of each recipe
+     * @param trees Parsing cost by tree
+     * @param recipes Cost by recipe, slowest first
+     */
+    public record Report(
+            String corpus, String startedAt, int iterations, List<TreeResult> trees, List<RecipeResult> recipes) {}
+
+    /**
+     * Parsed sources of a tree
+     */
+    private record ParsedTree(Path directory, List<SourceFile> sources) {}
+
+    /**
+     * Hidden constructor
+     */
+    private RecipeHarness() {}
+
+    public static void main(String[] args) {
+        Path corpus = null;
+        int generated = DEFAULT_GENERATED_FILES;
+        Pattern filter = Pattern.compile(".*");
+        int iterations = 3;
+        Path output = Path.of("recipe-harness.json");
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--corpus" -> corpus = Path.of(required(args[i], value));
+                case "--generate" -> generated = Integer.parseInt(required(args[i], value));
+                case "--recipes" -> filter = Pattern.compile(required(args[i], value));
+                case "--iterations" -> iterations = Math.max(1, Integer.parseInt(required(args[i], value)));
+                case "--output" -> output = Path.of(required(args[i], value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+
+        Path temporary = null;
+        if (corpus == null) {
+            temporary = Fixtures.createTempDirectory();
+            corpus = temporary;
+            CorpusGenerator.generate(corpus.resolve("generated-plugin"), generated);
+            System.out.printf("Generated a plugin with %d Java files in %s%n", generated, corpus);
+        }
+        try {
+            Report report = run(corpus, filter, iterations);
+            JsonUtils.toJsonFile(report, output);
+            print(report);
+            System.out.printf("Report written to %s%n", output.toAbsolutePath());
+        } finally {
+            if (temporary != null) {
+                Fixtures.delete(temporary);
+            }
+        }
+    }
+
+    /**
+     * Parse the corpus then run the selected recipes on it
+     * @param corpus The corpus directory, a plugin tree or a directory of plugin trees
+     * @param filter Selects the recipes by name without the common prefix
+     * @param iterations Number of runs of each recipe
+     * @return The report
+     */
+    static Report run(Path corpus, Pattern filter, int iterations) {
+        String startedAt = ZonedDateTime.now(ZoneId.of("UTC")).toString();
+        SourceParser parser = new SourceParser(Settings.DEFAULT_MAVEN_LOCAL_REPO);
+        List<TreeResult> treeResults = new ArrayList<>();
+        List<ParsedTree> trees = new ArrayList<>();
+        for (Path directory : listTrees(corpus)) {
+            long allocated = THREADS.getCurrentThreadAllocatedBytes();
+            long start = System.nanoTime();
+            List<SourceFile> sources = parser.parse(directory, offlineContext(new ArrayList<>()));
+            long parseMillis = elapsed(start);
+            allocated = THREADS.getCurrentThreadAllocatedBytes() - allocated;
+            trees.add(new ParsedTree(directory, sources));
+            treeResults.add(
+                    new TreeResult(directory.getFileName().toString(), sources.size(), parseMillis, allocated));
+            System.out.printf("Parsed %d files of %s in %d ms%n", sources.size(), directory, parseMillis);
+        }
+
+        Environment environment = Environment.builder().scanRuntimeClasspath().build();
+        List<RecipeResult> recipeResults = new ArrayList<>();
+        for (io.jenkins.tools.pluginmodernizer.core.model.Recipe recipe : Settings.getAvailableRecipes()) {
+            String name = recipe.getName().replace(Settings.RECIPE_FQDN_PREFIX + ".", "");
+            // FetchMetadata writes the collected metadata to the plugin directory
+            if (recipe.getName().equals(Settings.getFetchMetadataRecipe().getName())
+                    || !filter.matcher(name).matches()) {
+                continue;
+            }
+            recipeResults.add(run(environment, recipe.getName(), name, trees, iterations));
+        }
+        recipeResults.sort(Comparator.comparingLong(RecipeResult::minVisitMillis)
+                .reversed()
+                .thenComparing(RecipeResult::recipe));
+        return new Report(corpus.toString(), startedAt, iterations, treeResults, recipeResults);
+    }
+
+    /**
+     * Run a recipe on all trees
+     * @param environment The environment to load the recipe from
+     * @param fqdn The recipe name
+     * @param name The recipe name without the common prefix
+     * @param trees The parsed trees
+     * @param iterations Number of runs
+     * @return The result
+     */
+    private static RecipeResult run(
+            Environment environment, String fqdn, String name, List<ParsedTree> trees, int iterations) {
+        long min = Long.MAX_VALUE;
+        long total = 0;
+        long allocated = 0;
+        int changedFiles = 0;
+        List<Throwable> errors = new ArrayList<>();
+        try {
+            for (int i = 0; i < iterations; i++) {
+                allocated = 0;
+                changedFiles = 0;
+                errors.clear();
+                long duration = 0;
+                for (ParsedTree tree : trees) {
+                    // Recipes may hold state, a new instance is used for each run
+                    Recipe recipe = environment.activateRecipes(fqdn);
+                    ExecutionContext ctx = offlineContext(errors);
+                    long before = THREADS.getCurrentThreadAllocatedBytes();
+                    long start = System.nanoTime();
+                    changedFiles += recipe.run(new InMemoryLargeSourceSet(tree.sources()), ctx)
+                            .getChangeset()
+                            .getAllResults()
+                            .size();
+                    duration += System.nanoTime() - start;
+                    allocated += THREADS.getCurrentThreadAllocatedBytes() - before;
+                }
+                min = Math.min(min, duration);
+                total += duration;
+            }
+        } catch (RuntimeException e) {
+            System.out.printf("Recipe %s failed: %s%n", name, e.getMessage());
+            return new RecipeResult(name, 0, 0, 0, 0, errors.size(), String.valueOf(e.getMessage()));
+        }
+        RecipeResult result = new RecipeResult(
+                name,
+                TimeUnit.NANOSECONDS.toMillis(min),
+                TimeUnit.NANOSECONDS.toMillis(total / iterations),
+                allocated,
+                changedFiles,
+                errors.size(),
+                null);
+        System.out.printf("Ran %s in %d ms, %d files changed%n", name, result.minVisitMillis(), changedFiles);
+        return result;
+    }
+
+    /**
+     * Create an execution context where no artifact is downloaded
+     * @param errors Collects the errors reported to the context
+     * @return The execution context
+     */
+    private static ExecutionContext offlineContext(List<Throwable> errors) {
+        ExecutionContext ctx = new InMemoryExecutionContext(errors::add);
+        HttpSenderExecutionContextView.view(ctx).setHttpSender(request -> new HttpSender.Response(404, null, () -> {}));
+        return ctx;
+    }
+
+    /**
+     * List the plugin trees of the corpus
+     * @param corpus A plugin tree or a directory of plugin trees
+     * @return The plugin trees, sorted
+     */
+    private static List<Path> listTrees(Path corpus) {
+        if (Files.isRegularFile(corpus.resolve("pom.xml"))) {
+            return List.of(corpus);
+        }
+        try (Stream<Path> children = Files.list(corpus)) {
+            List<Path> trees = children.filter(Files::isDirectory).sorted().toList();
+            if (trees.isEmpty()) {
+                throw new IllegalArgumentException("No plugin tree found in " + corpus);
+            }
+            return trees;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list the corpus " + corpus, e);
+        }
+    }
+
+    private static void print(Report report) {
+        System.out.printf(
+                "%n%-60s %10s %10s %14s %8s%n", "Recipe", "Min (ms)", "Avg (ms)", "Allocated (MB)", "Changed");
+        for (RecipeResult result : report.recipes()) {
+            System.out.printf(
+                    "%-60s %10d %10d %14d %8s%n",
+                    result.recipe(),
+                    result.minVisitMillis(),
+                    result.avgVisitMillis(),
+                    result.allocatedBytes() / (1024 * 1024),
+                    result.error() == null ? String.valueOf(result.changedFiles()) : "failed");
+        }
+    }
+
+    private static String required(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing value for option " + option);
+        }
+        return value;
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,383 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunJournal;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+/**
+ * Measure the startup of the CLI jar with and without its ahead-of-time cache.
+ * <p>
+ * Each iteration starts a new JVM for {@code version} and {@code list-recipes}, timed until the process exits, and
+ * for a dry-run of a fixture plugin, timed until the first plugin is written to the run journal
+ * (time-to-first-plugin). The dry-run is then stopped. It connects to a local stub of the GitHub API and of the update
+ * center started by the benchmark instead of the real services, so no credentials are needed. A first unmeasured
+ * iteration fills the cache directory shared by all runs. Comparing two builds of the jar shows the startup cost of
+ * the static state loaded by every command.
+ * <p>
+ * Usage: {@code StartupBenchmark --jar <cli jar> --plugin <fixture plugin dir> [--aot-cache <file>]
+ * [--iterations <n>] [--output <file>]}. Without an AOT cache only the startup without it is measured.
+ */
+public final class StartupBenchmark {
+
+    /**
+     * Recipe of the dry-run
+     */
+    private static final String RECIPE = "SetupJenkinsfile";
+
+    /**
+     * Maximum duration of a measured command
+     */
+    private static final Duration TIMEOUT = Duration.ofMinutes(10);
+
+    /**
+     * Interval between checks of the run journal
+     */
+    private static final long POLL_MILLIS = 10;
+
+    /**
+     * Responses of the local stub by path: the authenticated GitHub user, an empty update center and no plugin versions
+     */
+    private static final Map<String, String> STUB_RESPONSES = Map.of(
+            "/api/user", "{\"login\":\"startup-benchmark\",\"type\":\"User\"}",
+            "/update-center.json", "{\"plugins\":{},\"deprecations\":{}}",
+            "/plugin-versions.json", "{\"plugins\":{}}");
+
+    /**
+     * Startup of the CLI in one mode
+     * @param mode The mode, {@code default} or {@code aot-cache}
+     * @param minVersionMillis Fastest run of version
+     * @param avgVersionMillis Average run of version
+     * @param minListRecipesMillis Fastest run of list-recipes
+     * @param avgListRecipesMillis Average run of list-recipes
+     * @param minFirstPluginMillis Fastest time-to-first-plugin of the dry-run
+     * @param avgFirstPluginMillis Average time-to-first-plugin of the dry-run
+     */
+    public record ModeResult(
+            String mode,
+            long minVersionMillis,
+            long avgVersionMillis,
+            long minListRecipesMillis,
+            long avgListRecipesMillis,
+            long minFirstPluginMillis,
+            long avgFirstPluginMillis) {}
+
+    /**
+     * Report of the benchmark
+     * @param jar The CLI jar
+     * @param aotCache The AOT cache or null
+     * @param startedAt Start of the run
+     * @param iterations Number of measured runs of each command
+     * @param modes Startup by mode
+     */
+    public record Report(String jar, String aotCache, String startedAt, int iterations, List<ModeResult> modes) {}
+
+    /**
+     * Hidden constructor
+     */
+    private StartupBenchmark() {}
+
+    public static void main(String[] args) {
+        Path jar = null;
+        Path plugin = null;
+        Path aotCache = null;
+        int iterations = 5;
+        Path output = Path.of("startup-benchmark.json");
+        for (int i = 0; i < args.length; i++) {
+            String value = i + 1 < args.length ? args[i + 1] : null;
+            switch (args[i]) {
+                case "--jar" -> jar = Path.of(required(args[i], value)).toAbsolutePath();
+                case "--plugin" -> plugin = Path.of(required(args[i], value));
+                case "--aot-cache" -> aotCache = Path.of(required(args[i], value)).toAbsolutePath();
+                case "--iterations" -> iterations = Math.max(1, Integer.parseInt(required(args[i], value)));
+                case "--output" -> output = Path.of(required(args[i], value));
+                default -> throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+            i++;
+        }
+        if (jar == null || plugin == null) {
+            throw new IllegalArgumentException("Options --jar and --plugin are required");
+        }
+
+        String startedAt = ZonedDateTime.now(ZoneId.of("UTC")).toString();
+        Path workDir = Fixtures.createTempDirectory();
+        HttpServer stub = startStub();
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        try {
+            List<ModeResult> modes = new ArrayList<>();
+            modes.add(run("default", List.of(), jar, plugin, stubUrl, workDir, iterations));
+            if (aotCache != null) {
+                modes.add(run(
+                        "aot-cache", List.of("-XX:AOTCache=" + aotCache), jar, plugin, stubUrl, workDir, iterations));
+            }
+            Report report = new Report(
+                    jar.toString(), aotCache != null ? aotCache.toString() : null, startedAt, iterations, modes);
+            JsonUtils.toJsonFile(report, output);
+            print(report);
+            System.out.printf("Report written to %s%n", output.toAbsolutePath());
+        } finally {
+            stub.stop(0);
+            Fixtures.delete(workDir);
+        }
+    }
+
+    /**
+     * Measure the startup of the CLI in one mode
+     * @param mode The mode name
+     * @param jvmOptions Options of the JVM for this mode
+     * @param jar The CLI jar
+     * @param plugin The fixture plugin directory
+     * @param stubUrl URL of the local stub
+     * @param workDir Directory of the cache and the plugin copies
+     * @param iterations Number of measured runs of each command
+     * @return The result
+     */
+    private static ModeResult run(
+            String mode, List<String> jvmOptions, Path jar, Path plugin, String stubUrl, Path workDir, int iterations) {
+        long[] version = new long[iterations];
+        long[] listRecipes = new long[iterations];
+        long[] firstPlugin = new long[iterations];
+        Path cache = workDir.resolve("cache");
+        // The first iteration fills the cache and is not measured
+        for (int i = -1; i < iterations; i++) {
+            List<String> command = command(jvmOptions, jar, "version");
+            long start = System.nanoTime();
+            Process process = start(command, workDir);
+            await(process, () -> false);
+            long versionMillis = elapsed(start);
+
+            command = command(jvmOptions, jar, "list-recipes");
+            start = System.nanoTime();
+            process = start(command, workDir);
+            await(process, () -> false);
+            long listMillis = elapsed(start);
+
+            Path copy = workDir.resolve(mode + "-plugin-" + (i + 1));
+            copyTree(plugin, copy);
+            command = command(
+                    jvmOptions,
+                    jar,
+                    "dry-run",
+                    "--plugin-path",
+                    copy.toString(),
+                    "--recipe",
+                    RECIPE,
+                    "--skip-metadata",
+                    "--cache-path",
+                    cache.toString(),
+                    "--github-owner",
+                    "startup-benchmark",
+                    "--github-api-url",
+                    stubUrl + "/api",
+                    "--jenkins-update-center",
+                    stubUrl + "/update-center.json",
+                    "--jenkins-plugin-info",
+                    stubUrl + "/plugin-versions.json");
+            int journals = countJournalEntries(cache);
+            start = System.nanoTime();
+            process = start(command, workDir);
+            await(process, () -> countJournalEntries(cache) > journals);
+            long firstPluginMillis = elapsed(start);
+            if (countJournalEntries(cache) == journals) {
+                throw new IllegalStateException(
+                        "The dry-run in mode " + mode + " exited before processing the plugin");
+            }
+            if (i >= 0) {
+                version[i] = versionMillis;
+                listRecipes[i] = listMillis;
+                firstPlugin[i] = firstPluginMillis;
+            }
+            System.out.printf(
+                    "%s %s: version %d ms, list-recipes %d ms, first plugin %d ms%n",
+                    mode, i < 0 ? "warmup" : "iteration " + (i + 1), versionMillis, listMillis, firstPluginMillis);
+        }
+        return new ModeResult(
+                mode,
+                min(version),
+                avg(version),
+                min(listRecipes),
+                avg(listRecipes),
+                min(firstPlugin),
+                avg(firstPlugin));
+    }
+
+    private static List<String> command(List<String> jvmOptions, Path jar, String... args) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.add("-jar");
+        command.add(jar.toString());
+        command.addAll(List.of(args));
+        return command;
+    }
+
+    private static Process start(List<String> command, Path workDir) {
+        ProcessBuilder builder = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD);
+        // The dry-run connects to the local stub, which accepts any token
+        builder.environment().put("GH_TOKEN", "startup-benchmark");
+        try {
+            return builder.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start " + command, e);
+        }
+    }
+
+    /**
+     * Start the local stub of the GitHub API and of the update center on a free loopback port
+     * @return The started stub
+     */
+    private static HttpServer startStub() {
+        try {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+            STUB_RESPONSES.forEach((path, body) -> server.createContext(path, exchange -> {
+                byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, bytes.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(bytes);
+                }
+            }));
+            server.start();
+            return server;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the local stub", e);
+        }
+    }
+
+    /**
+     * Wait for a process to exit or for a condition, then stop the process and its children
+     * @param process The process
+     * @param condition The condition
+     */
+    private static void await(Process process, BooleanSupplier condition) {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        try {
+            while (process.isAlive() && !condition.getAsBoolean()) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Command did not finish after " + TIMEOUT);
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the command", e);
+        } finally {
+            process.descendants().forEach(ProcessHandle::destroyForcibly);
+            process.destroyForcibly();
+            try {
+                process.waitFor();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Count the entries of all run journals of a cache
+     * @param cache The cache directory
+     * @return The number of entries
+     */
+    private static int countJournalEntries(Path cache) {
+        Path runs = cache.resolve(RunJournal.RUNS_DIRECTORY);
+        if (!Files.isDirectory(runs)) {
+            return 0;
+        }
+        try (Stream<Path> children = Files.list(runs)) {
+            int entries = 0;
+            for (Path run : children.toList()) {
+                Path journal = run.resolve(RunJournal.JOURNAL_FILE);
+                if (Files.isRegularFile(journal)) {
+                    try (Stream<String> lines = Files.lines(journal)) {
+                        entries += (int) lines.count();
+                    }
+                }
+            }
+            return entries;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read the run journals of " + cache, e);
+        }
+    }
+
+    private static void copyTree(Path source, Path target) {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : files.toList()) {
+                Path copy = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(copy);
+                } else {
+                    Files.copy(file, copy);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to copy " + source, e);
+        }
+    }
+
+    private static void print(Report report) {
+        System.out.printf(
+                "%n%-12s %16s %16s %16s %16s %16s %16s%n",
+                "Mode",
+                "Min version (ms)",
+                "Avg version (ms)",
+                "Min list (ms)",
+                "Avg list (ms)",
+                "Min first (ms)",
+                "Avg first (ms)");
+        for (ModeResult result : report.modes()) {
+            System.out.printf(
+                    "%-12s %16d %16d %16d %16d %16d %16d%n",
+                    result.mode(),
+                    result.minVersionMillis(),
+                    result.avgVersionMillis(),
+                    result.minListRecipesMillis(),
+                    result.avgListRecipesMillis(),
+                    result.minFirstPluginMillis(),
+                    result.avgFirstPluginMillis());
+        }
+    }
+
+    private static long min(long[] values) {
+        long min = Long.MAX_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+
+    private static long avg(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total / values.length;
+    }
+
+    private static String required(String option, String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Missing value for option " + option);
+        }
+        return value;
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,60 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.utils.StaticPomParser;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Extraction of the POM fields, parsed or served from the parser cache
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StaticPomParserBenchmark {
+
+    private Path directory;
+    private String pom;
+    private long modified;
+
+    @Setup
+    public void setup() {
+        directory = Fixtures.createTempDirectory();
+        pom = Fixtures.copy(Fixtures.POM, directory.resolve("pom.xml")).toString();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Fixtures.delete(directory);
+    }
+
+    /**
+     * Parse the POM on each call. Touching the file invalidates the parser cache and adds a syscall
+     */
+    @Benchmark
+    public String parse() throws IOException {
+        Files.setLastModifiedTime(Path.of(pom), FileTime.fromMillis(++modified));
+        return new StaticPomParser(pom).getJenkinsVersion();
+    }
+
+    @Benchmark
+    public String cached() {
+        return new StaticPomParser(pom).getJenkinsVersion();
+    }
+}
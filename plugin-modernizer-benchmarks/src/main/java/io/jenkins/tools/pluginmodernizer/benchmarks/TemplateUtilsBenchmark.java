@@ -0,0 +1,64 @@
+package io.jenkins.tools.pluginmodernizer.benchmarks;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import io.jenkins.tools.pluginmodernizer.core.utils.TemplateUtils;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rendering of the pull request and commit templates
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TemplateUtilsBenchmark {
+
+    /**
+     * Recipe with its own templates and recipe using the default templates
+     */
+    @Param({"AddCodeOwner", "RemoveOldJavaVersionForModernJenkins"})
+    private String recipeName;
+
+    private Plugin plugin;
+    private Recipe recipe;
+
+    @Setup
+    public void setup() {
+        plugin = Plugin.build("git");
+        plugin.setMetadata(Fixtures.pomMetadata());
+        recipe = Settings.getAvailableRecipes().stream()
+                .filter(r -> r.getName().equals(Settings.RECIPE_FQDN_PREFIX + "." + recipeName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown recipe " + recipeName));
+    }
+
+    @Benchmark
+    public String renderPullRequestBody() {
+        return TemplateUtils.renderPullRequestBody(plugin, recipe);
+    }
+
+    @Benchmark
+    public String renderPullRequestTitle() {
+        return TemplateUtils.renderPullRequestTitle(plugin, recipe);
+    }
+
+    @Benchmark
+    public String renderCommitMessage() {
+        return TemplateUtils.renderCommitMessage(plugin, recipe);
+    }
+}
@@ -0,0 +1,153 @@
+package io.jenkins.tools.pluginmodernizer.cli;
+
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunJournal;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Training run of the ahead-of-time cache of the CLI, started with {@code -XX:AOTCacheOutput=<cache>}.
+ * <p>
+ * Runs the {@code list-recipes} command then a dry-run of a fixture plugin in the same JVM, so the cache holds the
+ * classes both commands load and link: picocli, Guice, Jackson, Gson, github-api, JGit, OpenRewrite... The dry-run
+ * connects to a local stub of the GitHub API and of the update center started by the training instead of the real
+ * services, so it needs no credentials. It is stopped after a timeout since the Maven builds it forks do not load
+ * classes in this JVM. The training fails if the dry-run did not reach the plugin.
+ * <p>
+ * Usage: {@code AotTraining <fixture plugin directory> <cache directory> [<maven local repository>]}
+ */
+public final class AotTraining {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AotTraining.class);
+
+    /**
+     * Recipe of the training dry-run
+     */
+    private static final String RECIPE = "SetupJenkinsfile";
+
+    /**
+     * Maximum duration of the training dry-run
+     */
+    private static final Duration DRY_RUN_TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * Responses of the local stub by path: the authenticated GitHub user, an empty update center and no plugin versions
+     */
+    private static final Map<String, String> STUB_RESPONSES = Map.of(
+            "/api/user", "{\"login\":\"aot-training\",\"type\":\"User\"}",
+            "/update-center.json", "{\"plugins\":{},\"deprecations\":{}}",
+            "/plugin-versions.json", "{\"plugins\":{}}");
+
+    /**
+     * Hidden constructor
+     */
+    private AotTraining() {}
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException(
+                    "Usage: AotTraining <fixture plugin directory> <cache directory> [<maven local repository>]");
+        }
+        run(List.of("list-recipes"));
+
+        HttpServer stub = startStub();
+        String stubUrl = "http://127.0.0.1:" + stub.getAddress().getPort();
+        List<String> dryRun = new ArrayList<>(List.of(
+                "dry-run",
+                "--plugin-path",
+                args[0],
+                "--recipe",
+                RECIPE,
+                "--skip-metadata",
+                "--cache-path",
+                args[1],
+                "--github-owner",
+                "aot-training",
+                "--github-api-url",
+                stubUrl + "/api",
+                "--jenkins-update-center",
+                stubUrl + "/update-center.json",
+                "--jenkins-plugin-info",
+                stubUrl + "/plugin-versions.json"));
+        if (args.length > 2) {
+            Files.createDirectories(Path.of(args[2]));
+            dryRun.addAll(List.of("--maven-local-repo", args[2]));
+        }
+        Thread thread = Thread.ofPlatform().daemon().name("aot-training").start(() -> run(dryRun));
+        if (!thread.join(DRY_RUN_TIMEOUT)) {
+            LOG.info("Training dry-run still running after {}. Stopping", DRY_RUN_TIMEOUT);
+        }
+        stub.stop(0);
+        TraceExporter.shutdown();
+        if (countJournalEntries(Path.of(args[1])) == 0) {
+            LOG.error("Training dry-run did not process the plugin. Check the logs above");
+            System.exit(1);
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Run a command of the CLI, ignoring its result
+     * @param args The command line arguments
+     */
+    private static void run(List<String> args) {
+        GlobalOptions.reset();
+        int exitCode = Main.createCommandLine().execute(args.toArray(String[]::new));
+        LOG.info("Training command {} exited with {}", args.get(0), exitCode);
+    }
+
+    /**
+     * Start the local stub of the GitHub API and of the update center on a free loopback port
+     * @return The started stub
+     * @throws IOException If the stub cannot be started
+     */
+    private static HttpServer startStub() throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        STUB_RESPONSES.forEach((path, body) -> server.createContext(path, exchange -> {
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }));
+        server.start();
+        return server;
+    }
+
+    /**
+     * Count the entries of all run journals of a cache
+     * @param cache The cache directory
+     * @return The number of entries
+     * @throws IOException If a journal cannot be read
+     */
+    private static long countJournalEntries(Path cache) throws IOException {
+        Path runs = cache.resolve(RunJournal.RUNS_DIRECTORY);
+        if (!Files.isDirectory(runs)) {
+            return 0;
+        }
+        long entries = 0;
+        try (Stream<Path> children = Files.list(runs)) {
+            for (Path journal : children.map(run -> run.resolve(RunJournal.JOURNAL_FILE))
+                    .filter(Files::isRegularFile)
+                    .toList()) {
+                try (Stream<String> lines = Files.lines(journal)) {
+                    entries += lines.count();
+                }
+            }
+        }
+        return entries;
+    }
+}
@@ -1,10 +1,14 @@
 package io.jenkins.tools.pluginmodernizer.cli;
 
+import io.jenkins.tools.pluginmodernizer.cli.command.AnalyzeCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.BuildMetadataCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.CleanupCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.DryRunCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.ListRecipesCommand;
+import io.jenkins.tools.pluginmodernizer.cli.command.MergeCommand;
+import io.jenkins.tools.pluginmodernizer.cli.command.QueryCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.RunCommand;
+import io.jenkins.tools.pluginmodernizer.cli.command.ServeCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.ValidateCommand;
 import io.jenkins.tools.pluginmodernizer.cli.command.VersionCommand;
 import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
@@ -23,7 +27,11 @@ import picocli.CommandLine.Command;
             ListRecipesCommand.class,
             BuildMetadataCommand.class,
             DryRunCommand.class,
+            AnalyzeCommand.class,
+            QueryCommand.class,
             RunCommand.class,
+            MergeCommand.class,
+            ServeCommand.class,
             CleanupCommand.class,
             VersionCommand.class
         },
@@ -42,11 +50,21 @@ public class Main {
      * @param args Command line arguments
      */
     public static void main(final String[] args) {
+        int exitCode = createCommandLine().execute(args);
+        TraceExporter.shutdown();
+        System.exit(exitCode);
+    }
+
+    /**
+     * Create the command line with all subcommands
+     * @return The command line
+     */
+    static CommandLine createCommandLine() {
         GlobalOptions globalOptions = GlobalOptions.getInstance();
         CommandLine cmd = new CommandLine(new Main());
         cmd.addMixin("globalOptions", globalOptions);
         CommandLine gen = cmd.getSubcommands().get("generate-completion");
         gen.getCommandSpec().usageMessage().hidden(true);
-        System.exit(cmd.execute(args));
+        return cmd;
     }
 }
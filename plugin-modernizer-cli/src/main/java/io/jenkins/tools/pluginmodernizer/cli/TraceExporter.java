@@ -0,0 +1,76 @@
+package io.jenkins.tools.pluginmodernizer.cli;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Install the OpenTelemetry SDK exporting the spans of the run over OTLP/HTTP.
+ * Without a configured endpoint nothing is installed and the spans created by the core are no-ops.
+ */
+public final class TraceExporter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TraceExporter.class);
+
+    /**
+     * Maximum time to wait for the last spans to be exported on exit
+     */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private static OpenTelemetrySdk sdk;
+
+    /**
+     * Hidden constructor
+     */
+    private TraceExporter() {}
+
+    /**
+     * Start exporting traces if an OTLP endpoint is configured. Must be called before any span is created
+     * @param config The configuration
+     */
+    public static synchronized void start(Config config) {
+        if (sdk != null || config.getOtelEndpoint() == null) {
+            return;
+        }
+        String endpoint = config.getOtelEndpoint().toString().replaceAll("/+$", "") + "/v1/traces";
+        Resource resource = Resource.getDefault()
+                .merge(Resource.create(Attributes.of(
+                        AttributeKey.stringKey("service.name"),
+                        "plugin-modernizer",
+                        AttributeKey.stringKey("service.version"),
+                        String.valueOf(config.getVersion()))));
+        SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+                .setResource(resource)
+                .addSpanProcessor(BatchSpanProcessor.builder(OtlpHttpSpanExporter.builder()
+                                .setEndpoint(endpoint)
+                                .build())
+                        .build())
+                .build();
+        sdk = OpenTelemetrySdk.builder()
+                .setTracerProvider(tracerProvider)
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .buildAndRegisterGlobal();
+        LOG.debug("Exporting traces to {}", endpoint);
+    }
+
+    /**
+     * Export the remaining spans and stop the SDK
+     */
+    public static synchronized void shutdown() {
+        if (sdk == null) {
+            return;
+        }
+        sdk.getSdkTracerProvider().shutdown().join(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        sdk = null;
+    }
+}
@@ -0,0 +1,92 @@
+package io.jenkins.tools.pluginmodernizer.cli.command;
+
+import io.jenkins.tools.pluginmodernizer.cli.converter.AnalysisRecipeConverter;
+import io.jenkins.tools.pluginmodernizer.cli.converter.RecipeConverter;
+import io.jenkins.tools.pluginmodernizer.cli.options.EnvOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.PluginOptions;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginAnalyzer;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+/**
+ * Analyze command
+ */
+@CommandLine.Command(
+        name = "analyze",
+        description = "Run read-only recipes on many plugins in parallel and aggregate the results into a report")
+public class AnalyzeCommand implements ICommand {
+
+    /**
+     * Logger
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(AnalyzeCommand.class);
+
+    /**
+     * Plugins options
+     */
+    @CommandLine.ArgGroup
+    private PluginOptions pluginOptions;
+
+    /**
+     * Recipes to be run
+     */
+    @CommandLine.Option(
+            names = {"-r", "--recipe"},
+            required = true,
+            split = ",",
+            description =
+                    "Recipe to be run. Any fully qualified OpenRewrite recipe is accepted. Repeat the option or separate recipes with commas to run several recipes.",
+            completionCandidates = RecipeConverter.class,
+            converter = AnalysisRecipeConverter.class)
+    private List<Recipe> recipes;
+
+    /**
+     * Number of plugins analyzed concurrently
+     */
+    @CommandLine.Option(
+            names = {"--parallelism"},
+            description = "Number of plugins analyzed concurrently. Default to the number of processors.")
+    private int parallelism;
+
+    /**
+     * Environment options
+     */
+    @CommandLine.Mixin
+    private EnvOptions envOptions;
+
+    /**
+     * Global options for all commands
+     */
+    @CommandLine.Mixin
+    private GlobalOptions options = GlobalOptions.getInstance();
+
+    @Override
+    public Config setup(Config.Builder builder) {
+        options.config(builder);
+        if (pluginOptions == null) {
+            pluginOptions = new PluginOptions();
+        }
+        pluginOptions.config(builder);
+        envOptions.config(builder);
+        return builder.withRecipes(recipes).withParallelism(parallelism).build();
+    }
+
+    @Override
+    public Integer call() {
+        LOG.info("Run Plugin Modernizer in analysis mode");
+        try {
+            PluginAnalyzer.Report report = getAnalyzer().analyze();
+            return report.failed() > 0 ? 1 : 0;
+        } catch (ModernizerException e) {
+            LOG.error("Analysis error");
+            LOG.error(e.getMessage());
+            return 1;
+        }
+    }
+}
@@ -61,7 +61,7 @@ public class BuildMetadataCommand implements ICommand {
         }
         pluginOptions.config(builder);
         return builder.withSshPrivateKey(sshPrivateKey)
-                .withRecipe(Settings.FETCH_METADATA_RECIPE)
+                .withRecipe(Settings.getFetchMetadataRecipe())
                 .build();
     }
 
@@ -5,10 +5,12 @@ import io.jenkins.tools.pluginmodernizer.cli.options.EnvOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.GitHubOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.PluginOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.ShardOptions;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.impl.PluginModernizer;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
@@ -31,15 +33,17 @@ public class DryRunCommand implements ICommand {
     private PluginOptions pluginOptions;
 
     /**
-     * Recipe to be applied
+     * Recipes to be applied in order
      */
     @CommandLine.Option(
             names = {"-r", "--recipe"},
             required = true,
-            description = "Recipe to be applied.",
+            split = ",",
+            description =
+                    "Recipe to be applied. Repeat the option or separate recipes with commas to apply several recipes in order in a single pass.",
             completionCandidates = RecipeConverter.class,
             converter = RecipeConverter.class)
-    private Recipe recipe;
+    private List<Recipe> recipes;
 
     /**
      * Skip modernization metadata
@@ -55,6 +59,12 @@ public class DryRunCommand implements ICommand {
     @CommandLine.Mixin
     private EnvOptions envOptions;
 
+    /**
+     * Shard options
+     */
+    @CommandLine.Mixin
+    private ShardOptions shardOptions;
+
     /**
      * Global options for all commands
      */
@@ -76,8 +86,9 @@ public class DryRunCommand implements ICommand {
         pluginOptions.config(builder);
         githubOptions.config(builder);
         envOptions.config(builder);
+        shardOptions.config(builder);
         return builder.withDryRun(true)
-                .withRecipe(recipe)
+                .withRecipes(recipes)
                 .withSkipMetadata(skipMetadata)
                 .build();
     }
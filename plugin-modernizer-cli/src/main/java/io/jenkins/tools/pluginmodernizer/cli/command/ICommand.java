@@ -1,8 +1,10 @@
 package io.jenkins.tools.pluginmodernizer.cli.command;
 
 import com.google.inject.Guice;
+import io.jenkins.tools.pluginmodernizer.cli.TraceExporter;
 import io.jenkins.tools.pluginmodernizer.core.GuiceModule;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginAnalyzer;
 import io.jenkins.tools.pluginmodernizer.core.impl.PluginModernizer;
 import java.util.concurrent.Callable;
 
@@ -25,6 +27,18 @@ public interface ICommand extends Callable<Integer> {
      * @return the modernizer instance
      */
     default PluginModernizer getModernizer() {
-        return Guice.createInjector(new GuiceModule(setup(Config.builder()))).getInstance(PluginModernizer.class);
+        Config config = setup(Config.builder());
+        TraceExporter.start(config);
+        return Guice.createInjector(new GuiceModule(config)).getInstance(PluginModernizer.class);
+    }
+
+    /**
+     * Get the analyzer instance
+     * @return the analyzer instance
+     */
+    default PluginAnalyzer getAnalyzer() {
+        Config config = setup(Config.builder());
+        TraceExporter.start(config);
+        return Guice.createInjector(new GuiceModule(config)).getInstance(PluginAnalyzer.class);
     }
 }
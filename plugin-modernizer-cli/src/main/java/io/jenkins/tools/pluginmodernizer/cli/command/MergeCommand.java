@@ -0,0 +1,88 @@
+package io.jenkins.tools.pluginmodernizer.cli.command;
+
+import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunReport;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.nio.file.Path;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+/**
+ * Merge command
+ */
+@CommandLine.Command(name = "merge", description = "Merge the reports of the shards of a run into a single report")
+public class MergeCommand implements ICommand {
+
+    /**
+     * Logger
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(MergeCommand.class);
+
+    @CommandLine.Parameters(
+            arity = "1..*",
+            paramLabel = "<path>",
+            description =
+                    "Report files, run directories, or cache paths of the shards. The report of the latest run of a cache path is merged.")
+    private List<Path> paths;
+
+    @CommandLine.Option(
+            names = {"-o", "--output"},
+            paramLabel = "<file>",
+            description = "File of the merged report. Default to report.json.")
+    private Path output = Path.of(RunReport.REPORT_FILE);
+
+    @CommandLine.Option(
+            names = {"--update-cache"},
+            description =
+                    "Save the modernization metadata of all shards to the cache, so the next sharded run balances the shards with their durations.")
+    private boolean updateCache;
+
+    /**
+     * Global options for all commands
+     */
+    @CommandLine.Mixin
+    private GlobalOptions options = GlobalOptions.getInstance();
+
+    @Override
+    public Config setup(Config.Builder builder) {
+        options.config(builder);
+        return builder.build();
+    }
+
+    @Override
+    public Integer call() {
+        List<Path> files;
+        RunReport report;
+        try {
+            files = RunReport.find(paths);
+            report = RunReport.merge(files.stream().map(RunReport::read).toList());
+        } catch (ModernizerException e) {
+            LOG.error(e.getMessage());
+            return 1;
+        }
+        report.write(output);
+        report.shards()
+                .forEach(shard -> LOG.info(
+                        "Run {} (shard {}): {} plugins in {} s",
+                        shard.runId(),
+                        shard.shard(),
+                        shard.plugins(),
+                        shard.wallMillis() / 1000));
+        LOG.info(
+                "Merged {} reports with {} plugins {} to {}",
+                files.size(),
+                report.plugins().size(),
+                report.outcomes(),
+                output);
+        if (updateCache) {
+            CacheManager cacheManager = new CacheManager(setup(Config.builder()).getCachePath());
+            cacheManager.init();
+            LOG.info("Saved modernization metadata of {} plugins to the cache", report.saveMetadata(cacheManager));
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,98 @@
+package io.jenkins.tools.pluginmodernizer.cli.command;
+
+import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.MetadataStore;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+/**
+ * Query command
+ */
+@CommandLine.Command(name = "query", description = "Query the metadata of all plugins collected locally")
+public class QueryCommand implements ICommand {
+
+    /**
+     * Logger
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(QueryCommand.class);
+
+    /**
+     * Table to query
+     */
+    @CommandLine.Option(
+            names = {"--table"},
+            description = "Table to query: ${COMPLETION-CANDIDATES}. Default to PLUGIN.")
+    private MetadataStore.Table table = MetadataStore.Table.PLUGIN;
+
+    /**
+     * Filters
+     */
+    @CommandLine.Option(
+            names = {"-w", "--where"},
+            description =
+                    "Filter as <column><operator><value> with operator = != ^= (starts with) or ~= (contains). Repeat the option to combine filters.")
+    private List<String> filters = List.of();
+
+    /**
+     * Selected columns
+     */
+    @CommandLine.Option(
+            names = {"--columns"},
+            split = ",",
+            description = "Columns to display. Default to all columns.")
+    private List<String> columns = List.of();
+
+    /**
+     * Include history
+     */
+    @CommandLine.Option(
+            names = {"--history"},
+            description = "Include all records instead of only the last record of each plugin.")
+    private boolean history;
+
+    /**
+     * Only count
+     */
+    @CommandLine.Option(
+            names = {"--count"},
+            description = "Only display the number of matching records.")
+    private boolean count;
+
+    /**
+     * Global options for all commands
+     */
+    @CommandLine.Mixin
+    private GlobalOptions options = GlobalOptions.getInstance();
+
+    @Override
+    public Config setup(Config.Builder builder) {
+        options.config(builder);
+        return builder.build();
+    }
+
+    @Override
+    public Integer call() {
+        MetadataStore store = new MetadataStore(setup(Config.builder()).getCachePath());
+        MetadataStore.Result result;
+        try {
+            result = store.query(
+                    table,
+                    filters.stream().map(MetadataStore.Filter::parse).toList(),
+                    columns,
+                    history);
+        } catch (ModernizerException e) {
+            LOG.error(e.getMessage());
+            return 1;
+        }
+        if (!count) {
+            LOG.info("{}", String.join("\t", result.columns()));
+            result.rows().forEach(row -> LOG.info("{}", String.join("\t", row)));
+        }
+        LOG.info("{} records", result.rows().size());
+        return 0;
+    }
+}
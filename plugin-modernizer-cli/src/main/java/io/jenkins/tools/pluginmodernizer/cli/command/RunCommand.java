@@ -5,10 +5,13 @@ import io.jenkins.tools.pluginmodernizer.cli.options.EnvOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.GitHubOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
 import io.jenkins.tools.pluginmodernizer.cli.options.PluginOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.ShardOptions;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.impl.PluginModernizer;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import java.nio.file.Path;
+import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import picocli.CommandLine;
@@ -31,15 +34,17 @@ public class RunCommand implements ICommand {
     private PluginOptions pluginOptions;
 
     /**
-     * Recipe to be applied
+     * Recipes to be applied in order
      */
     @CommandLine.Option(
             names = {"-r", "--recipe"},
             required = true,
-            description = "Recipe to be applied.",
+            split = ",",
+            description =
+                    "Recipe to be applied. Repeat the option or separate recipes with commas to apply several recipes in order in a single pass.",
             completionCandidates = RecipeConverter.class,
             converter = RecipeConverter.class)
-    private Recipe recipe;
+    private List<Recipe> recipes;
 
     @CommandLine.Option(
             names = {"--draft"},
@@ -52,6 +57,34 @@ public class RunCommand implements ICommand {
                     "Remove forked repositories before and after the modernization process. Might cause data loss if you have other changes pushed on those forks. Forks with open pull request targeting original repo are not removed to prevent closing unmerged pull requests.")
     public boolean removeForks;
 
+    /**
+     * Prepare forks ahead of processing
+     */
+    @CommandLine.Option(
+            names = {"--pre-fork"},
+            description =
+                    "Create or sync forks of all candidate plugins in the background at the start of the run, so pushing changes never waits on fork creation.")
+    private boolean preFork;
+
+    /**
+     * Resume a previous run
+     */
+    @CommandLine.Option(
+            names = {"--resume"},
+            paramLabel = "<run-id>",
+            description =
+                    "Resume an interrupted run. Plugins completed by that run are skipped and partially processed plugins restart after their last durable stage.")
+    private String resumeRunId;
+
+    /**
+     * Process plugins even if their inputs did not change
+     */
+    @CommandLine.Option(
+            names = {"--ignore-fingerprint"},
+            description =
+                    "Process plugins even if their commit, the recipe and the tool versions match a previous result.")
+    private boolean ignoreFingerprint;
+
     /**
      * Skip modernization metadata
      */
@@ -68,6 +101,16 @@ public class RunCommand implements ICommand {
             description = "Override the default behavior to allow PRs to plugins marked as opt-out")
     private boolean overrideOptOutPlugins;
 
+    /**
+     * Metrics file
+     */
+    @CommandLine.Option(
+            names = {"--metrics-file"},
+            paramLabel = "<file>",
+            description =
+                    "Write the wall time, forked processes CPU time, downloaded bytes and GitHub API calls of each stage of each plugin to this file in the OpenMetrics text format.")
+    private Path metricsFile;
+
     @CommandLine.Option(
             names = {"--on-duplicate-pr"},
             description = "Strategy to apply when a pull request already exists. Default: SKIP.",
@@ -80,6 +123,12 @@ public class RunCommand implements ICommand {
     @CommandLine.Mixin
     private EnvOptions envOptions;
 
+    /**
+     * Shard options
+     */
+    @CommandLine.Mixin
+    private ShardOptions shardOptions;
+
     /**
      * Global options for all commands
      */
@@ -96,17 +145,22 @@ public class RunCommand implements ICommand {
     public Config setup(Config.Builder builder) {
         options.config(builder);
         envOptions.config(builder);
+        shardOptions.config(builder);
         if (pluginOptions == null) {
             pluginOptions = new PluginOptions();
         }
         pluginOptions.config(builder);
         githubOptions.config(builder);
-        return builder.withRecipe(recipe)
+        return builder.withRecipes(recipes)
                 .withDraft(draft)
                 .withRemoveForks(removeForks)
+                .withPreFork(preFork)
+                .withResumeRunId(resumeRunId)
+                .withIgnoreFingerprint(ignoreFingerprint)
                 .withSkipMetadata(skipMetadata)
                 .withOverrideOptOutPlugins(overrideOptOutPlugins)
                 .withDuplicatePrStrategy(duplicatePrStrategy)
+                .withMetricsFile(metricsFile)
                 .build();
     }
 
@@ -0,0 +1,185 @@
+package io.jenkins.tools.pluginmodernizer.cli.command;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import io.jenkins.tools.pluginmodernizer.cli.TraceExporter;
+import io.jenkins.tools.pluginmodernizer.cli.converter.RecipeConverter;
+import io.jenkins.tools.pluginmodernizer.cli.options.EnvOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.GitHubOptions;
+import io.jenkins.tools.pluginmodernizer.cli.options.GlobalOptions;
+import io.jenkins.tools.pluginmodernizer.cli.server.Job;
+import io.jenkins.tools.pluginmodernizer.cli.server.JobRequest;
+import io.jenkins.tools.pluginmodernizer.cli.server.JobServer;
+import io.jenkins.tools.pluginmodernizer.core.GuiceModule;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.github.GHService;
+import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginModernizer;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
+import java.net.InetSocketAddress;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import picocli.CommandLine;
+
+/**
+ * Serve command
+ */
+@CommandLine.Command(
+        name = "serve",
+        description = "Keep the modernizer running and run the jobs submitted to a local HTTP API")
+public class ServeCommand implements ICommand {
+
+    /**
+     * Logger
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(ServeCommand.class);
+
+    @CommandLine.Option(
+            names = {"--host"},
+            paramLabel = "<host>",
+            description =
+                    "Address to listen on. Default to 127.0.0.1. The token of the API is sent in clear text, so other "
+                            + "addresses require --allow-remote.")
+    private String host = "127.0.0.1";
+
+    @CommandLine.Option(
+            names = {"--allow-remote"},
+            description =
+                    "Allow listening on a non-loopback address. Anyone reaching the port with the token can run jobs "
+                            + "with the GitHub credentials of the server.")
+    private boolean allowRemote;
+
+    @CommandLine.Option(
+            names = {"--port"},
+            paramLabel = "<port>",
+            description = "Port to listen on. Default to 8080.")
+    private int port = 8080;
+
+    /**
+     * Environment options
+     */
+    @CommandLine.Mixin
+    private EnvOptions envOptions;
+
+    /**
+     * Global options for all commands
+     */
+    @CommandLine.Mixin
+    private GlobalOptions options = GlobalOptions.getInstance();
+
+    /**
+     * GitHub options
+     */
+    @CommandLine.Mixin
+    private GitHubOptions githubOptions;
+
+    /**
+     * Held while a job runs. The services of the server are injected again with the configuration of each job, so
+     * jobs must never run at the same time
+     */
+    private final Lock jobLock = new ReentrantLock();
+
+    @Override
+    public Config setup(Config.Builder builder) {
+        options.config(builder);
+        envOptions.config(builder);
+        githubOptions.config(builder);
+        return builder.build();
+    }
+
+    @Override
+    public Integer call() throws Exception {
+        LOG.info("Starting Plugin Modernizer server");
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        if (address.isUnresolved()) {
+            LOG.error("Unable to resolve host {}", host);
+            return 1;
+        }
+        if (!address.getAddress().isLoopbackAddress()) {
+            if (!allowRemote) {
+                LOG.error(
+                        "Refusing to listen on non-loopback address {}: the token of the API is sent in clear text. "
+                                + "Use --allow-remote to listen on it anyway.",
+                        host);
+                return 1;
+            }
+            LOG.warn(
+                    "Listening on {}. Anyone reaching port {} with the token can run jobs with the GitHub credentials",
+                    host,
+                    port);
+        }
+        Config config = setup(Config.builder());
+        TraceExporter.start(config);
+
+        // Wire, validate and warm the services once. Jobs reuse them
+        Injector resident = Guice.createInjector(new GuiceModule(config));
+        try {
+            resident.getInstance(PluginModernizer.class).validate();
+        } catch (ModernizerException e) {
+            LOG.error("Validation error");
+            LOG.error(e.getMessage());
+            return 1;
+        }
+        resident.getInstance(CacheManager.class).init();
+        resident.getInstance(PluginService.class).loadSnapshots();
+
+        JobServer.Runner runner = job -> run(resident, job);
+        try (JobServer server = new JobServer(address, this::jobConfig, runner)) {
+            Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+            server.start();
+            server.awaitTermination();
+        } finally {
+            resident.getInstance(GHService.class).close();
+        }
+        return 0;
+    }
+
+    /**
+     * Run a job with the services of the server. The run maps the update center again if it expired
+     * @param resident The server injector
+     * @param job The job
+     */
+    private void run(Injector resident, Job job) {
+        jobLock.lock();
+        try {
+            PluginModernizer modernizer = Guice.createInjector(new GuiceModule(job.getConfig(), resident))
+                    .getInstance(PluginModernizer.class);
+            modernizer.onRunStarted(job::setRunId);
+            modernizer.start();
+        } finally {
+            jobLock.unlock();
+        }
+    }
+
+    /**
+     * Create the configuration of a job from the server options and the job options
+     * @param request The job request
+     * @return The configuration
+     */
+    private Config jobConfig(JobRequest request) {
+        if (request.recipes() == null || request.recipes().isEmpty()) {
+            throw new ModernizerException("At least one recipe is required");
+        }
+        RecipeConverter recipes = new RecipeConverter();
+        Config.Builder builder = Config.builder();
+        options.config(builder);
+        envOptions.config(builder);
+        githubOptions.config(builder);
+        return builder.withPlugins(request.plugins().stream().map(Plugin::build).toList())
+                .withRecipes(request.recipes().stream().map(recipes::convert).toList())
+                .withDryRun(request.dryRun())
+                .withDraft(request.draft())
+                .withSkipMetadata(request.skipMetadata())
+                .withIgnoreFingerprint(request.ignoreFingerprint())
+                .withOverrideOptOutPlugins(request.overrideOptOutPlugins())
+                .withDuplicatePrStrategy(
+                        request.duplicatePrStrategy() != null
+                                ? Config.DuplicatePrStrategy.valueOf(request.duplicatePrStrategy())
+                                : Config.DuplicatePrStrategy.SKIP)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package io.jenkins.tools.pluginmodernizer.cli.converter;
+
+import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import picocli.CommandLine;
+
+/**
+ * Custom converter for recipes of the analysis mode.
+ * Besides the available recipes, any fully qualified OpenRewrite recipe on the classpath is accepted.
+ */
+public final class AnalysisRecipeConverter implements CommandLine.ITypeConverter<Recipe> {
+
+    private final RecipeConverter recipeConverter = new RecipeConverter();
+
+    @Override
+    public Recipe convert(String value) {
+        try {
+            return recipeConverter.convert(value);
+        } catch (IllegalArgumentException e) {
+            if (!value.contains(".")) {
+                throw e;
+            }
+            Recipe recipe = new Recipe();
+            recipe.setName(value);
+            recipe.setDisplayName(value);
+            return recipe;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import picocli.CommandLine;
 public final class RecipeConverter implements CommandLine.ITypeConverter<Recipe>, Iterable<String> {
     @Override
     public Recipe convert(String value) {
-        return Settings.AVAILABLE_RECIPES.stream()
+        return Settings.getAvailableRecipes().stream()
                 // Compare without and without the FQDN prefix
                 .filter(recipe -> recipe.getName().equals(value)
                         || recipe.getName()
@@ -23,7 +23,7 @@ public final class RecipeConverter implements CommandLine.ITypeConverter<Recipe>
 
     @Override
     public Iterator<String> iterator() {
-        return Settings.AVAILABLE_RECIPES.stream()
+        return Settings.getAvailableRecipes().stream()
                 .map(r -> r.getName().replace(Settings.RECIPE_FQDN_PREFIX + ".", ""))
                 .iterator();
     }
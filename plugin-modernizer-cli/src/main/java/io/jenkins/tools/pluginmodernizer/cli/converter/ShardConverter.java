@@ -0,0 +1,19 @@
+package io.jenkins.tools.pluginmodernizer.cli.converter;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Shard;
+import picocli.CommandLine;
+
+/**
+ * Custom converter for Shard class.
+ */
+public final class ShardConverter implements CommandLine.ITypeConverter<Shard> {
+    @Override
+    public Shard convert(String value) {
+        try {
+            return Shard.parse(value);
+        } catch (ModernizerException e) {
+            throw new CommandLine.TypeConversionException(e.getMessage());
+        }
+    }
+}
@@ -3,6 +3,7 @@ package io.jenkins.tools.pluginmodernizer.cli.options;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
 import java.net.URL;
+import java.nio.file.Path;
 import picocli.CommandLine;
 
 /**
@@ -20,37 +21,49 @@ public class EnvOptions implements IOption {
             names = "--jenkins-update-center",
             description =
                     "Sets main update center; will override JENKINS_UC environment variable. If not set via CLI option or environment variable, will use default update center url.")
-    private URL jenkinsUpdateCenter = Settings.DEFAULT_UPDATE_CENTER_URL;
+    private URL jenkinsUpdateCenter;
 
     @CommandLine.Option(
             names = "--jenkins-plugin-info",
             description =
                     "Sets jenkins plugin version; will override JENKINS_PLUGIN_INFO environment variable. If not set via CLI option or environment variable, will use default plugin info")
-    private URL jenkinsPluginVersions = Settings.DEFAULT_PLUGIN_VERSIONS;
+    private URL jenkinsPluginVersions;
 
     @CommandLine.Option(
             names = "--plugin-health-score",
             description =
                     "Sets the plugin health score URL; will override JENKINS_PHS environment variable. If not set via CLI option or environment variable, will use default health score url.")
-    private URL pluginHealthScore = Settings.DEFAULT_HEALTH_SCORE_URL;
+    private URL pluginHealthScore;
 
     @CommandLine.Option(
             names = "--jenkins-plugins-stats-installations-url",
             description =
                     "Sets the Jenkins stats top plugins URL; will override JENKINS_PLUGINS_STATS_INSTALLATIONS_URL environment variable. If not set via CLI option or environment variable, will use default Jenkins stats top plugins url.")
-    private URL jenkinsPluginsStatsInstallationsUrl = Settings.DEFAULT_PLUGINS_STATS_INSTALLATIONS_URL;
+    private URL jenkinsPluginsStatsInstallationsUrl;
 
     @CommandLine.Option(
             names = {"--opt-out-plugins-url"},
             description =
                     "Sets the opt out plugins URL; will override OPT_OUT_PLUGINS_URL environment variable. If not set via CLI option or environment variable, will use default opt out plugins url.")
-    private URL optOutPluginsUrl = Settings.OPT_OUT_PLUGINS_URL;
+    private URL optOutPluginsUrl;
 
     @CommandLine.Option(
             names = {"--github-api-url"},
             description = "GitHub API URL. Default to https://api.github.com")
     private URL githubApiUrl = Settings.GITHUB_API_URL;
 
+    @CommandLine.Option(
+            names = {"--otel-endpoint"},
+            description =
+                    "Export traces of the run to this OTLP/HTTP endpoint, for example http://localhost:4318; will override OTEL_EXPORTER_OTLP_ENDPOINT environment variable. Tracing is disabled if not set.")
+    private URL otelEndpoint = Settings.OTEL_EXPORTER_OTLP_ENDPOINT;
+
+    @CommandLine.Option(
+            names = {"--otel-maven-extension"},
+            description =
+                    "Path to the OpenTelemetry Maven extension jar, loaded in forked Maven builds so their spans attach to the plugin being processed; will override OTEL_MAVEN_EXTENSION environment variable.")
+    private Path otelMavenExtension = Settings.OTEL_MAVEN_EXTENSION;
+
     @Override
     public void config(Config.Builder builder) {
         builder.withJenkinsUpdateCenter(jenkinsUpdateCenter)
@@ -58,6 +71,8 @@ public class EnvOptions implements IOption {
                 .withPluginHealthScore(pluginHealthScore)
                 .withPluginStatsInstallations(jenkinsPluginsStatsInstallationsUrl)
                 .withOptOutPlugins(optOutPluginsUrl)
-                .withGithubApiUrl(githubApiUrl);
+                .withGithubApiUrl(githubApiUrl)
+                .withOtelEndpoint(otelEndpoint)
+                .withOtelMavenExtension(otelMavenExtension);
     }
 }
@@ -60,6 +60,12 @@ public class GlobalOptions implements IOption {
             description = "Path to the Maven local repository.")
     private Path mavenLocalRepo = Settings.DEFAULT_MAVEN_LOCAL_REPO;
 
+    @CommandLine.Option(
+            names = {"--maven-metadata"},
+            description =
+                    "Always collect plugin metadata with Maven from the effective POM instead of reading the pom.xml.")
+    private boolean mavenMetadata = false;
+
     /**
      * Create a new config build for the global options
      */
@@ -73,7 +79,8 @@ public class GlobalOptions implements IOption {
                                 : cachePath)
                 .withMavenHome(mavenHome)
                 .withMavenLocalRepo(mavenLocalRepo)
-                .withAllowDeprecatedPlugins(allowDeprecatedPlugins);
+                .withAllowDeprecatedPlugins(allowDeprecatedPlugins)
+                .withMavenMetadata(mavenMetadata);
     }
 
     /**
@@ -0,0 +1,56 @@
+package io.jenkins.tools.pluginmodernizer.cli.options;
+
+import io.jenkins.tools.pluginmodernizer.cli.converter.ShardConverter;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.model.Shard;
+import java.nio.file.Path;
+import java.time.Duration;
+import picocli.CommandLine;
+
+/**
+ * Options to split the plugins of a run across several runners
+ */
+@CommandLine.Command(
+        synopsisHeading = "%nUsage:%n",
+        descriptionHeading = "%nDescription:%n",
+        parameterListHeading = "%nParameters:%n",
+        optionListHeading = "%nOptions:%n",
+        commandListHeading = "%nCommands:%n")
+public class ShardOptions implements IOption {
+
+    @CommandLine.Option(
+            names = {"--shard"},
+            paramLabel = "<i/N>",
+            description =
+                    "Only process the plugins of shard i out of N, for example 2/8. Start N runners with the same plugins and shards 1/N to N/N to process each plugin exactly once.",
+            converter = ShardConverter.class)
+    private Shard shard;
+
+    @CommandLine.Option(
+            names = {"--shard-by-duration"},
+            description =
+                    "Balance the shards with the duration of the previous processing of each plugin, read from the cached modernization metadata, instead of hashing plugin names. All runners must use the same cache content to agree on the assignment.")
+    private boolean shardByDuration;
+
+    @CommandLine.Option(
+            names = {"--queue"},
+            paramLabel = "<dir>",
+            description =
+                    "Pull plugins from a work queue in this directory, shared with other runners started with the same plugins, local or on a shared filesystem. Each plugin is processed by the first runner claiming it.")
+    private Path queuePath;
+
+    @CommandLine.Option(
+            names = {"--lease-duration"},
+            paramLabel = "<duration>",
+            description =
+                    "Time after which a plugin claimed from the queue by a runner that died is claimed again by another runner, as an ISO-8601 duration. Default to PT2M.")
+    private Duration leaseDuration;
+
+    @Override
+    public void config(Config.Builder builder) {
+        builder.withShard(shard)
+                .withShardByDuration(shardByDuration)
+                .withQueuePath(queuePath)
+                .withLeaseDuration(leaseDuration);
+    }
+}
@@ -0,0 +1,136 @@
+package io.jenkins.tools.pluginmodernizer.cli.server;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunJournal;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunReport;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A job of the server and its state, serialized as JSON by the API
+ */
+public final class Job {
+
+    /**
+     * State of a job
+     */
+    public enum Status {
+        QUEUED,
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private final String id;
+    private final JobRequest request;
+    private volatile Status status = Status.QUEUED;
+    private final String submitted;
+    private volatile String started;
+    private volatile String finished;
+    private volatile String runId;
+    private volatile String error;
+
+    /**
+     * Report of the run, set once completed
+     */
+    private volatile RunReport report;
+
+    private final transient Config config;
+    private final transient CountDownLatch done = new CountDownLatch(1);
+
+    Job(String id, JobRequest request, Config config) {
+        this.id = id;
+        this.request = request;
+        this.config = config;
+        this.submitted = Instant.now().toString();
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public JobRequest getRequest() {
+        return request;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Get the configuration of the run of this job
+     * @return The configuration
+     */
+    public Config getConfig() {
+        return config;
+    }
+
+    /**
+     * Record the run of this job once it started, to stream its progress while it runs
+     * @param runId The run ID
+     */
+    public void setRunId(String runId) {
+        this.runId = runId;
+    }
+
+    /**
+     * Get the run ID of the job
+     * @return The run ID or null if the run did not start yet
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Get the journal of the run of this job
+     * @return The journal file or null if the run did not start yet
+     */
+    Path getJournalFile() {
+        String current = runId;
+        if (current == null) {
+            return null;
+        }
+        return config.getCachePath()
+                .resolve(RunJournal.RUNS_DIRECTORY)
+                .resolve(current)
+                .resolve(RunJournal.JOURNAL_FILE);
+    }
+
+    /**
+     * Wait for the job to finish
+     * @param timeout The maximum time to wait
+     * @return True if the job is finished
+     * @throws InterruptedException If interrupted while waiting
+     */
+    boolean await(Duration timeout) throws InterruptedException {
+        return done.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    void start() {
+        status = Status.RUNNING;
+        started = Instant.now().toString();
+    }
+
+    void complete() {
+        Path journalFile = getJournalFile();
+        if (journalFile != null && Files.isRegularFile(journalFile.resolveSibling(RunReport.REPORT_FILE))) {
+            report = RunReport.read(journalFile.resolveSibling(RunReport.REPORT_FILE));
+        }
+        finish(Status.COMPLETED);
+    }
+
+    void fail(String error) {
+        this.error = error;
+        finish(Status.FAILED);
+    }
+
+    private void finish(Status status) {
+        finished = Instant.now().toString();
+        this.status = status;
+        done.countDown();
+    }
+}
@@ -0,0 +1,24 @@
+package io.jenkins.tools.pluginmodernizer.cli.server;
+
+import java.util.List;
+
+/**
+ * A job submitted to the server. Options not set default to the ones of the run command
+ * @param plugins The plugins names
+ * @param recipes The recipes names, applied in order
+ * @param dryRun Run without pushing changes nor opening pull requests
+ * @param draft Open draft pull requests
+ * @param skipMetadata Disable collection and pushing of modernization metadata
+ * @param ignoreFingerprint Process plugins even if their inputs did not change
+ * @param overrideOptOutPlugins Allow pull requests to plugins marked as opt-out
+ * @param duplicatePrStrategy Strategy to apply when a pull request already exists: SKIP, UPDATE or IGNORE
+ */
+public record JobRequest(
+        List<String> plugins,
+        List<String> recipes,
+        boolean dryRun,
+        boolean draft,
+        boolean skipMetadata,
+        boolean ignoreFingerprint,
+        boolean overrideOptOutPlugins,
+        String duplicatePrStrategy) {}
@@ -0,0 +1,380 @@
+package io.jenkins.tools.pluginmodernizer.cli.server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Local HTTP API running modernization jobs in a long-running process.
+ * <p>
+ * Jobs run one at a time, in submission order, so they can share the services kept warm by the server.
+ * <p>
+ * Requests must carry the token of the server, printed at startup, in an {@code Authorization: Bearer <token>}
+ * header. Requests with an {@code Origin} header or a {@code Host} other than the bound address are rejected, and jobs
+ * must be submitted as {@code application/json}, so web pages cannot submit jobs from the browser of the operator.
+ * <ul>
+ *     <li>{@code POST /jobs} submits a {@link JobRequest} and returns the queued job</li>
+ *     <li>{@code GET /jobs} lists the jobs</li>
+ *     <li>{@code GET /jobs/<id>} returns a job, with the report of its run once completed</li>
+ *     <li>{@code GET /jobs/<id>/events} streams the journal entries of the run as JSON lines while it runs, then
+ *     the finished job</li>
+ * </ul>
+ */
+public class JobServer implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(JobServer.class);
+
+    /**
+     * Path of the jobs API
+     */
+    private static final String JOBS_PATH = "/jobs";
+
+    /**
+     * Maximum size of a job request
+     */
+    private static final int MAX_REQUEST_BYTES = 1024 * 1024;
+
+    /**
+     * Interval between checks of the journal of a streamed job
+     */
+    private static final Duration EVENTS_POLL_INTERVAL = Duration.ofMillis(500);
+
+    /**
+     * Number of random bytes of the token
+     */
+    private static final int TOKEN_BYTES = 32;
+
+    /**
+     * Run a job
+     */
+    @FunctionalInterface
+    public interface Runner {
+
+        /**
+         * Run a job until it is finished. Plugin failures are reported in the run report and must not throw.
+         * Jobs are run one at a time from a single thread
+         * @param job The job. Its run ID must be set as soon as the run starts
+         */
+        void run(Job job);
+    }
+
+    private final HttpServer server;
+    private final ExecutorService requests = Executors.newVirtualThreadPerTaskExecutor();
+    private final Function<JobRequest, Config> configs;
+    private final Runner runner;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "job-runner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger sequence = new AtomicInteger();
+    private final CountDownLatch stopped = new CountDownLatch(1);
+    private final String token;
+    private final Set<String> allowedHosts;
+
+    /**
+     * Create the server
+     * @param address The address to listen on
+     * @param configs Create the configuration of a job. Throw an exception if the request is invalid
+     * @param runner Run the jobs
+     * @throws IOException If the address cannot be bound
+     */
+    public JobServer(InetSocketAddress address, Function<JobRequest, Config> configs, Runner runner)
+            throws IOException {
+        this.configs = configs;
+        this.runner = runner;
+        byte[] random = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(random);
+        this.token = Base64.getUrlEncoder().withoutPadding().encodeToString(random);
+        this.server = HttpServer.create(address, 0);
+        this.allowedHosts = allowedHosts(server.getAddress());
+        this.server.setExecutor(requests);
+        this.server.createContext(JOBS_PATH, this::handle);
+    }
+
+    /**
+     * Start accepting requests
+     */
+    public void start() {
+        server.start();
+        LOG.info("Accepting jobs on http://{}:{}{}", server.getAddress().getHostString(), getPort(), JOBS_PATH);
+        LOG.info("Authenticate requests with the header: Authorization: Bearer {}", token);
+    }
+
+    /**
+     * Get the token requests must carry
+     * @return The token
+     */
+    public String getToken() {
+        return token;
+    }
+
+    /**
+     * Get the port the server listens on
+     * @return The port
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Block until the server is closed
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public void awaitTermination() throws InterruptedException {
+        stopped.await();
+    }
+
+    /**
+     * Stop accepting requests. The running job is interrupted
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        requests.shutdownNow();
+        executor.shutdownNow();
+        stopped.countDown();
+    }
+
+    /**
+     * Submit a job
+     * @param request The job request
+     * @return The queued job
+     */
+    public Job submit(JobRequest request) {
+        Job job = new Job(String.valueOf(sequence.incrementAndGet()), request, configs.apply(request));
+        jobs.put(job.getId(), job);
+        executor.submit(() -> run(job));
+        LOG.info("Job {} queued for plugins {}", job.getId(), request.plugins());
+        return job;
+    }
+
+    private void run(Job job) {
+        job.start();
+        LOG.info("Job {} started", job.getId());
+        try {
+            runner.run(job);
+            job.complete();
+            LOG.info("Job {} completed with run {}", job.getId(), job.getRunId());
+        } catch (RuntimeException e) {
+            LOG.error("Job {} failed", job.getId(), e);
+            job.fail(e.getMessage());
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (exchange.getRequestHeaders().containsKey("Origin")) {
+                send(exchange, 403, Map.of("error", "Cross-origin requests are not allowed"));
+                return;
+            }
+            String host = exchange.getRequestHeaders().getFirst("Host");
+            if (allowedHosts != null && (host == null || !allowedHosts.contains(host.toLowerCase(Locale.ROOT)))) {
+                send(exchange, 403, Map.of("error", "Unexpected host"));
+                return;
+            }
+            if (!isAuthorized(exchange.getRequestHeaders().getFirst("Authorization"))) {
+                send(exchange, 401, Map.of("error", "Missing or invalid token"));
+                return;
+            }
+            String[] segments = exchange.getRequestURI()
+                    .getPath()
+                    .substring(JOBS_PATH.length())
+                    .replaceAll("^/+|/+$", "")
+                    .split("/");
+            String method = exchange.getRequestMethod();
+            if (segments[0].isEmpty()) {
+                if (method.equals("POST")) {
+                    handleSubmit(exchange);
+                } else if (method.equals("GET")) {
+                    List<Job> all = jobs.values().stream()
+                            .sorted(Comparator.comparingInt(job -> Integer.parseInt(job.getId())))
+                            .toList();
+                    send(exchange, 200, all);
+                } else {
+                    send(exchange, 405, Map.of("error", "Method not allowed"));
+                }
+                return;
+            }
+            Job job = jobs.get(segments[0]);
+            if (job == null || segments.length > 2 || (segments.length == 2 && !segments[1].equals("events"))) {
+                send(exchange, 404, Map.of("error", "Not found"));
+            } else if (!method.equals("GET")) {
+                send(exchange, 405, Map.of("error", "Method not allowed"));
+            } else if (segments.length == 2) {
+                stream(exchange, job);
+            } else {
+                send(exchange, 200, job);
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Unable to handle request {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleSubmit(HttpExchange exchange) throws IOException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase("application/json")) {
+            send(exchange, 415, Map.of("error", "Jobs must be submitted as application/json"));
+            return;
+        }
+        JobRequest request;
+        Job job;
+        try (InputStream body = exchange.getRequestBody()) {
+            byte[] bytes = body.readNBytes(MAX_REQUEST_BYTES + 1);
+            if (bytes.length > MAX_REQUEST_BYTES) {
+                send(exchange, 413, Map.of("error", "Job request too large"));
+                return;
+            }
+            request = JsonUtils.fromJson(new String(bytes, StandardCharsets.UTF_8), JobRequest.class);
+            if (request == null || request.plugins() == null || request.plugins().isEmpty()) {
+                send(exchange, 400, Map.of("error", "At least one plugin is required"));
+                return;
+            }
+            job = submit(request);
+        } catch (RuntimeException e) {
+            send(exchange, 400, Map.of("error", String.valueOf(e.getMessage())));
+            return;
+        }
+        send(exchange, 202, job);
+    }
+
+    /**
+     * Check the token of a request
+     * @param authorization The Authorization header or null
+     * @return True if the header carries the token of the server
+     */
+    private boolean isAuthorized(String authorization) {
+        String prefix = "Bearer ";
+        if (authorization == null || !authorization.startsWith(prefix)) {
+            return false;
+        }
+        return MessageDigest.isEqual(
+                authorization.substring(prefix.length()).trim().getBytes(StandardCharsets.UTF_8),
+                token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Get the values of the Host header accepted by the server, to defeat DNS rebinding
+     * @param address The bound address
+     * @return The accepted hosts, or null to accept any host when listening on all addresses
+     */
+    private static Set<String> allowedHosts(InetSocketAddress address) {
+        InetAddress bound = address.getAddress();
+        if (bound.isAnyLocalAddress()) {
+            return null;
+        }
+        int port = address.getPort();
+        Set<String> names = new HashSet<>();
+        names.add(address.getHostString());
+        names.add(bound instanceof Inet6Address ? "[" + bound.getHostAddress() + "]" : bound.getHostAddress());
+        if (bound.isLoopbackAddress()) {
+            names.addAll(List.of("localhost", "127.0.0.1", "[::1]"));
+        }
+        Set<String> hosts = new HashSet<>();
+        for (String name : names) {
+            hosts.add(name.toLowerCase(Locale.ROOT) + ":" + port);
+            if (port == 80) {
+                hosts.add(name.toLowerCase(Locale.ROOT));
+            }
+        }
+        return Set.copyOf(hosts);
+    }
+
+    /**
+     * Stream the journal entries of a job while it runs, then the finished job
+     * @param exchange The exchange
+     * @param job The job
+     * @throws IOException If the client disconnected
+     */
+    private void stream(HttpExchange exchange, Job job) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        long position = 0;
+        try {
+            boolean finished;
+            do {
+                finished = job.await(EVENTS_POLL_INTERVAL);
+                Path journal = job.getJournalFile();
+                if (journal != null && Files.isRegularFile(journal)) {
+                    position = copyLines(journal, position, out);
+                    out.flush();
+                }
+            } while (!finished);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        out.write((JsonUtils.toJson(job) + "\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    /**
+     * Copy the complete lines appended to a file since the given position
+     * @param file The file
+     * @param position The position of the first line not copied yet
+     * @param out Where to copy the lines
+     * @return The position after the last copied line
+     * @throws IOException If the file cannot be read or the client disconnected
+     */
+    private static long copyLines(Path file, long position, OutputStream out) throws IOException {
+        try (SeekableByteChannel channel = Files.newByteChannel(file)) {
+            long size = channel.size();
+            if (size <= position) {
+                return position;
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(size - position));
+            channel.position(position);
+            while (buffer.hasRemaining() && channel.read(buffer) > 0) {}
+            byte[] bytes = buffer.array();
+            int end = buffer.position();
+            while (end > 0 && bytes[end - 1] != '\n') {
+                end--;
+            }
+            out.write(bytes, 0, end);
+            return position + end;
+        }
+    }
+
+    private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = JsonUtils.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -20,24 +20,24 @@ public class EnvOptionsTest {
         // Check defaults
         Config config = builder.build();
         assertEquals(
-                Settings.DEFAULT_UPDATE_CENTER_URL,
+                Settings.getDefaultUpdateCenterUrl(),
                 config.getJenkinsUpdateCenter(),
                 "Jenkins update center should be the default");
         assertEquals(
-                Settings.DEFAULT_PLUGIN_VERSIONS,
+                Settings.getDefaultPluginVersions(),
                 config.getJenkinsPluginVersions(),
                 "Jenkins plugin versions should be the default");
         assertEquals(
-                Settings.DEFAULT_HEALTH_SCORE_URL,
+                Settings.getDefaultHealthScoreUrl(),
                 config.getPluginHealthScore(),
                 "Plugin health score should be the default");
         assertEquals(
-                Settings.DEFAULT_PLUGINS_STATS_INSTALLATIONS_URL,
+                Settings.getDefaultPluginsStatsInstallationsUrl(),
                 config.getPluginStatsInstallations(),
                 "Jenkins stats top plugins URL should be the default");
         assertEquals(Settings.GITHUB_API_URL, config.getGithubApiUrl(), "GitHub API URL should be the default");
         assertEquals(
-                Settings.OPT_OUT_PLUGINS_URL, config.getOptOutPlugins(), "Opt out plugins URL should be the default");
+                Settings.getOptOutPluginsUrl(), config.getOptOutPlugins(), "Opt out plugins URL should be the default");
     }
 
     @Test
@@ -0,0 +1,184 @@
+package io.jenkins.tools.pluginmodernizer.cli.server;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.impl.RunReport;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class JobServerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    private static final String JOB = "{\"plugins\":[\"git\"],\"recipes\":[\"SetupJenkinsfile\"]}";
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    public void shouldRunJobAndStreamItsJournal() throws Exception {
+        JobServer.Runner runner = job -> {
+            job.setRunId("run-1");
+            Path journal = job.getJournalFile();
+            String plugin = job.getRequest().plugins().get(0);
+            try {
+                Files.createDirectories(journal.getParent());
+                Files.writeString(journal, "{\"plugin\":\"" + plugin + "\",\"outcome\":\"success\"}\n");
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            RunReport.of(new RunReport.ShardResult("run-1", null, 1, 10), List.of())
+                    .write(journal.resolveSibling(RunReport.REPORT_FILE));
+        };
+        try (JobServer server = new JobServer(new InetSocketAddress("127.0.0.1", 0), this::config, runner)) {
+            server.start();
+            HttpResponse<String> submitted = client.send(
+                    request(server, "")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(
+                                    "{\"plugins\":[\"git\"],\"recipes\":[\"SetupJenkinsfile\"],\"dryRun\":true}"))
+                            .build(),
+                    HttpResponse.BodyHandlers.ofString());
+            assertEquals(202, submitted.statusCode());
+            Map<?, ?> job = JsonUtils.fromJson(submitted.body(), Map.class);
+            assertEquals("1", job.get("id"));
+
+            List<String> events = client.send(
+                            request(server, "/1/events").build(), HttpResponse.BodyHandlers.ofLines())
+                    .body()
+                    .toList();
+            assertEquals(2, events.size());
+            assertEquals("{\"plugin\":\"git\",\"outcome\":\"success\"}", events.get(0));
+            Map<?, ?> finished = JsonUtils.fromJson(events.get(1), Map.class);
+            assertEquals("COMPLETED", finished.get("status"));
+            assertEquals("run-1", finished.get("runId"));
+            assertTrue(finished.containsKey("report"));
+
+            HttpResponse<String> listed =
+                    client.send(request(server, "").build(), HttpResponse.BodyHandlers.ofString());
+            assertEquals(1, JsonUtils.fromJson(listed.body(), List.class).size());
+        }
+    }
+
+    @Test
+    public void shouldRejectInvalidJobs() throws Exception {
+        try (JobServer server = new JobServer(new InetSocketAddress("127.0.0.1", 0), this::config, job -> {})) {
+            server.start();
+            assertEquals(400, post(server, "{\"recipes\":[\"SetupJenkinsfile\"]}"));
+            assertEquals(400, post(server, "{\"plugins\":[\"git\"]}"));
+            assertEquals(404, send(request(server, "/42")));
+        }
+    }
+
+    @Test
+    public void shouldRejectRequestsWithoutToken() throws Exception {
+        List<JobRequest> submitted = new ArrayList<>();
+        try (JobServer server = new JobServer(
+                new InetSocketAddress("127.0.0.1", 0), this::config, job -> submitted.add(job.getRequest()))) {
+            server.start();
+            URI jobs = URI.create("http://127.0.0.1:" + server.getPort() + "/jobs");
+            assertEquals(401, send(HttpRequest.newBuilder(jobs)));
+            assertEquals(401, send(HttpRequest.newBuilder(jobs).header("Authorization", "Bearer wrong")));
+            assertEquals(
+                    401,
+                    send(HttpRequest.newBuilder(jobs)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(JOB))));
+        }
+        assertTrue(submitted.isEmpty());
+    }
+
+    @Test
+    public void shouldRejectCrossOriginRequests() throws Exception {
+        List<JobRequest> submitted = new ArrayList<>();
+        try (JobServer server = new JobServer(
+                new InetSocketAddress("127.0.0.1", 0), this::config, job -> submitted.add(job.getRequest()))) {
+            server.start();
+            assertEquals(
+                    403,
+                    send(request(server, "")
+                            .header("Origin", "https://example.com")
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(JOB))));
+            assertEquals(415, send(request(server, "").POST(HttpRequest.BodyPublishers.ofString(JOB))));
+            assertEquals(
+                    415,
+                    send(request(server, "")
+                            .header("Content-Type", "text/plain")
+                            .POST(HttpRequest.BodyPublishers.ofString(JOB))));
+        }
+        assertTrue(submitted.isEmpty());
+    }
+
+    @Test
+    public void shouldRejectUnexpectedHost() throws Exception {
+        try (JobServer server = new JobServer(new InetSocketAddress("127.0.0.1", 0), this::config, job -> {})) {
+            server.start();
+            assertTrue(rawGet(server, "evil.example.com:" + server.getPort()).startsWith("HTTP/1.1 403"));
+            assertTrue(rawGet(server, "localhost:" + server.getPort()).startsWith("HTTP/1.1 200"));
+        }
+    }
+
+    /**
+     * Build an authenticated request to the jobs API
+     */
+    private HttpRequest.Builder request(JobServer server, String path) {
+        return HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + server.getPort() + "/jobs" + path))
+                .header("Authorization", "Bearer " + server.getToken());
+    }
+
+    private int post(JobServer server, String body) throws Exception {
+        return send(request(server, "")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private int send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /**
+     * Send a GET request with a given Host header, which the HTTP client does not allow to set
+     * @return The status line of the response
+     */
+    private String rawGet(JobServer server, String host) throws IOException {
+        try (Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            String request = "GET /jobs HTTP/1.1\r\nHost: " + host + "\r\nAuthorization: Bearer " + server.getToken()
+                    + "\r\nConnection: close\r\n\r\n";
+            socket.getOutputStream().write(request.getBytes(StandardCharsets.US_ASCII));
+            socket.getOutputStream().flush();
+            return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII))
+                    .readLine();
+        }
+    }
+
+    private Config config(JobRequest request) {
+        if (request.recipes() == null) {
+            throw new IllegalArgumentException("At least one recipe is required");
+        }
+        return Config.builder()
+                .withCachePath(tempDir)
+                .withPlugins(request.plugins().stream().map(Plugin::build).toList())
+                .withDryRun(request.dryRun())
+                .build();
+    }
+}
@@ -1,9 +1,13 @@
 package io.jenkins.tools.pluginmodernizer.core;
 
 import com.google.inject.AbstractModule;
+import com.google.inject.Injector;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.github.GHService;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.impl.MavenInvoker;
+import io.jenkins.tools.pluginmodernizer.core.impl.MetadataStore;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginAnalyzer;
 import io.jenkins.tools.pluginmodernizer.core.impl.PluginModernizer;
 import io.jenkins.tools.pluginmodernizer.core.utils.JdkFetcher;
 import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
@@ -14,18 +18,47 @@ public class GuiceModule extends AbstractModule {
 
     private final Config config;
 
+    /**
+     * Injector of a long-running server whose services are reused, or null
+     */
+    private final Injector resident;
+
     public GuiceModule(Config config) {
+        this(config, null);
+    }
+
+    /**
+     * Create the module of a job run by a long-running server. Services keeping state across runs are reused from
+     * the server injector instead of being created again: cache, plugin indexes, GitHub connection, JDKs and the
+     * validated Maven installation. They are injected again with the job configuration, so jobs must run one at a time
+     * and only differ from the server configuration by their job options (plugins, recipes, dry run...).
+     * @param config The job configuration
+     * @param resident The server injector
+     */
+    public GuiceModule(Config config, Injector resident) {
         this.config = config;
+        this.resident = resident;
     }
 
     @Override
     protected void configure() {
         bind(Invoker.class).to(DefaultInvoker.class);
         bind(Config.class).toInstance(config);
-        bind(CacheManager.class).toInstance(new CacheManager(config.getCachePath()));
-        bind(PluginService.class).toInstance(new PluginService());
-        bind(GHService.class).toInstance(new GHService());
-        bind(JdkFetcher.class).toInstance(new JdkFetcher(config.getCachePath()));
+        if (resident != null) {
+            bind(CacheManager.class).toInstance(resident.getInstance(CacheManager.class));
+            bind(PluginService.class).toInstance(resident.getInstance(PluginService.class));
+            bind(GHService.class).toInstance(resident.getInstance(GHService.class));
+            bind(MetadataStore.class).toInstance(resident.getInstance(MetadataStore.class));
+            bind(JdkFetcher.class).toInstance(resident.getInstance(JdkFetcher.class));
+            bind(MavenInvoker.class).toInstance(resident.getInstance(MavenInvoker.class));
+        } else {
+            bind(CacheManager.class).toInstance(new CacheManager(config.getCachePath()));
+            bind(PluginService.class).toInstance(new PluginService());
+            bind(GHService.class).toInstance(new GHService());
+            bind(MetadataStore.class).toInstance(new MetadataStore(config.getCachePath()));
+            bind(JdkFetcher.class).toInstance(new JdkFetcher(config.getCachePath()));
+        }
         bind(PluginModernizer.class).toInstance(new PluginModernizer());
+        bind(PluginAnalyzer.class).toInstance(new PluginAnalyzer());
     }
 }
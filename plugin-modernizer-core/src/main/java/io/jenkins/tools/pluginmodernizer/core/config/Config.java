@@ -3,8 +3,10 @@ package io.jenkins.tools.pluginmodernizer.core.config;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import io.jenkins.tools.pluginmodernizer.core.model.Shard;
 import java.net.URL;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 
 public class Config {
@@ -41,6 +43,18 @@ public class Config {
     private final Long githubAppTargetInstallationId;
     private final Path sshPrivateKey;
     private final DuplicatePrStrategy duplicatePrStrategy;
+    private final int parallelism;
+    private final boolean ignoreFingerprint;
+    private final String resumeRunId;
+    private final boolean preFork;
+    private final Path metricsFile;
+    private final URL otelEndpoint;
+    private final Path otelMavenExtension;
+    private final Shard shard;
+    private final boolean shardByDuration;
+    private final Path queuePath;
+    private final Duration leaseDuration;
+    private final boolean mavenMetadata;
 
     private Config(
             String version,
@@ -67,7 +81,19 @@ public class Config {
             boolean draft,
             boolean removeForks,
             boolean allowDeprecatedPlugins,
-            DuplicatePrStrategy duplicatePrStrategy) {
+            DuplicatePrStrategy duplicatePrStrategy,
+            boolean preFork,
+            String resumeRunId,
+            boolean ignoreFingerprint,
+            int parallelism,
+            Path metricsFile,
+            URL otelEndpoint,
+            Path otelMavenExtension,
+            Shard shard,
+            boolean shardByDuration,
+            Path queuePath,
+            Duration leaseDuration,
+            boolean mavenMetadata) {
         this.version = version;
         this.githubOwner = githubOwner;
         this.githubAppId = githubAppId;
@@ -93,6 +119,18 @@ public class Config {
         this.removeForks = removeForks;
         this.allowDeprecatedPlugins = allowDeprecatedPlugins;
         this.duplicatePrStrategy = duplicatePrStrategy;
+        this.preFork = preFork;
+        this.resumeRunId = resumeRunId;
+        this.ignoreFingerprint = ignoreFingerprint;
+        this.parallelism = parallelism;
+        this.metricsFile = metricsFile;
+        this.otelEndpoint = otelEndpoint;
+        this.otelMavenExtension = otelMavenExtension;
+        this.shard = shard;
+        this.shardByDuration = shardByDuration;
+        this.queuePath = queuePath;
+        this.leaseDuration = leaseDuration;
+        this.mavenMetadata = mavenMetadata;
     }
 
     public String getVersion() {
@@ -131,16 +169,23 @@ public class Config {
         return topPluginsCount;
     }
 
+    /**
+     * Get the recipe to apply. A composite recipe when several recipes are applied in a single pass.
+     * @return The recipe
+     */
     public Recipe getRecipe() {
         return recipe;
     }
 
     /**
      * Return if only fetching metadata (skips compile/verify).
+     * A composite recipe is checked against each of its recipes.
      * @return True if only fetching metadata
      */
     public boolean isFetchMetadataOnly() {
-        return recipe != null && recipe.getName().equals(Settings.FETCH_METADATA_RECIPE.getName());
+        return recipe != null
+                && recipe.getComponents().stream()
+                        .anyMatch(r -> r.getName().equals(Settings.getFetchMetadataRecipe().getName()));
     }
 
     /**
@@ -248,6 +293,102 @@ public class Config {
         return duplicatePrStrategy;
     }
 
+    /**
+     * Return if forks must be created or synced for all plugins before processing them.
+     * @return True if forks are prepared ahead
+     */
+    public boolean isPreFork() {
+        return preFork;
+    }
+
+    /**
+     * Return the ID of a previous run to resume or null to start a new run.
+     * @return The run ID to resume
+     */
+    public String getResumeRunId() {
+        return resumeRunId;
+    }
+
+    /**
+     * Return if plugins must be processed even when their fingerprint matches a previous result
+     * @return True to process unchanged plugins
+     */
+    public boolean isIgnoreFingerprint() {
+        return ignoreFingerprint;
+    }
+
+    /**
+     * Number of plugins analyzed concurrently
+     * @return The parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Return the file where the metrics of the processed plugins are written in the OpenMetrics text format
+     * @return The metrics file or null to not write metrics
+     */
+    public Path getMetricsFile() {
+        return metricsFile;
+    }
+
+    /**
+     * Return the base URL of the OTLP/HTTP endpoint receiving the traces of the run
+     * @return The endpoint or null if tracing is disabled
+     */
+    public URL getOtelEndpoint() {
+        return otelEndpoint;
+    }
+
+    /**
+     * Return the OpenTelemetry Maven extension loaded in forked Maven builds to trace them
+     * @return The extension jar or null to not trace Maven builds
+     */
+    public Path getOtelMavenExtension() {
+        return otelMavenExtension;
+    }
+
+    /**
+     * Return the shard of the plugins processed by this run
+     * @return The shard or null to process all plugins
+     */
+    public Shard getShard() {
+        return shard;
+    }
+
+    /**
+     * Return if plugins are assigned to shards by their previous duration instead of their name
+     * @return True to balance the shards by duration
+     */
+    public boolean isShardByDuration() {
+        return shardByDuration;
+    }
+
+    /**
+     * Return the directory of the work queue shared with other runners
+     * @return The queue directory or null to process all plugins without coordination
+     */
+    public Path getQueuePath() {
+        return queuePath;
+    }
+
+    /**
+     * Return the time after which the lease of a plugin claimed by a dead runner expires
+     * @return The lease duration
+     */
+    public Duration getLeaseDuration() {
+        return leaseDuration;
+    }
+
+    /**
+     * Return if plugin metadata is always collected by Maven from the effective POM instead of read from the pom.xml
+     * @return True to never collect metadata statically
+     */
+    public boolean isMavenMetadata() {
+        return mavenMetadata;
+    }
+
     public enum DuplicatePrStrategy {
         SKIP,
         UPDATE,
@@ -268,11 +409,11 @@ public class Config {
         private List<Plugin> plugins;
         private int topPluginsCount = 0;
         private Recipe recipe;
-        private URL jenkinsUpdateCenter = Settings.DEFAULT_UPDATE_CENTER_URL;
-        private URL jenkinsPluginVersions = Settings.DEFAULT_PLUGIN_VERSIONS;
-        private URL pluginStatsInstallations = Settings.DEFAULT_PLUGINS_STATS_INSTALLATIONS_URL;
-        private URL pluginHealthScore = Settings.DEFAULT_HEALTH_SCORE_URL;
-        private URL optOutPlugins = Settings.OPT_OUT_PLUGINS_URL;
+        private URL jenkinsUpdateCenter = Settings.getDefaultUpdateCenterUrl();
+        private URL jenkinsPluginVersions = Settings.getDefaultPluginVersions();
+        private URL pluginStatsInstallations = Settings.getDefaultPluginsStatsInstallationsUrl();
+        private URL pluginHealthScore = Settings.getDefaultHealthScoreUrl();
+        private URL optOutPlugins = Settings.getOptOutPluginsUrl();
         private URL githubApiUrl = Settings.GITHUB_API_URL;
         private Path cachePath = Settings.DEFAULT_CACHE_PATH;
         private Path mavenHome = Settings.DEFAULT_MAVEN_HOME;
@@ -284,6 +425,18 @@ public class Config {
         public boolean removeForks = false;
         private boolean allowDeprecatedPlugins = false;
         private DuplicatePrStrategy duplicatePrStrategy = DuplicatePrStrategy.SKIP;
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+        private boolean ignoreFingerprint = false;
+        private String resumeRunId = null;
+        private boolean preFork = false;
+        private Path metricsFile = null;
+        private URL otelEndpoint = Settings.OTEL_EXPORTER_OTLP_ENDPOINT;
+        private Path otelMavenExtension = Settings.OTEL_MAVEN_EXTENSION;
+        private Shard shard = null;
+        private boolean shardByDuration = false;
+        private Path queuePath = null;
+        private Duration leaseDuration = Duration.ofMinutes(2);
+        private boolean mavenMetadata = false;
 
         public Builder withVersion(String version) {
             this.version = version;
@@ -330,6 +483,11 @@ public class Config {
             return this;
         }
 
+        public Builder withRecipes(List<Recipe> recipes) {
+            this.recipe = recipes == null || recipes.isEmpty() ? null : Recipe.composite(recipes);
+            return this;
+        }
+
         public Builder withJenkinsUpdateCenter(URL jenkinsUpdateCenter) {
             if (jenkinsUpdateCenter != null) {
                 this.jenkinsUpdateCenter = jenkinsUpdateCenter;
@@ -428,6 +586,70 @@ public class Config {
             return this;
         }
 
+        public Builder withPreFork(boolean preFork) {
+            this.preFork = preFork;
+            return this;
+        }
+
+        public Builder withResumeRunId(String resumeRunId) {
+            this.resumeRunId = resumeRunId;
+            return this;
+        }
+
+        public Builder withIgnoreFingerprint(boolean ignoreFingerprint) {
+            this.ignoreFingerprint = ignoreFingerprint;
+            return this;
+        }
+
+        public Builder withParallelism(int parallelism) {
+            if (parallelism > 0) {
+                this.parallelism = parallelism;
+            }
+            return this;
+        }
+
+        public Builder withMetricsFile(Path metricsFile) {
+            this.metricsFile = metricsFile;
+            return this;
+        }
+
+        public Builder withOtelEndpoint(URL otelEndpoint) {
+            this.otelEndpoint = otelEndpoint;
+            return this;
+        }
+
+        public Builder withOtelMavenExtension(Path otelMavenExtension) {
+            this.otelMavenExtension = otelMavenExtension;
+            return this;
+        }
+
+        public Builder withShard(Shard shard) {
+            this.shard = shard;
+            return this;
+        }
+
+        public Builder withShardByDuration(boolean shardByDuration) {
+            this.shardByDuration = shardByDuration;
+            return this;
+        }
+
+        public Builder withQueuePath(Path queuePath) {
+            this.queuePath = queuePath;
+            return this;
+        }
+
+        public Builder withLeaseDuration(Duration leaseDuration) {
+            if (leaseDuration != null) {
+                this.leaseDuration = leaseDuration;
+            }
+            return this;
+        }
+
+        public Builder withMavenMetadata(boolean mavenMetadata) {
+            this.mavenMetadata = mavenMetadata;
+            return this;
+        }
+
         public Config build() {
             return new Config(
                     version,
@@ -454,7 +676,19 @@ public class Config {
                     draft,
                     removeForks,
                     allowDeprecatedPlugins,
-                    duplicatePrStrategy);
+                    duplicatePrStrategy,
+                    preFork,
+                    resumeRunId,
+                    ignoreFingerprint,
+                    parallelism,
+                    metricsFile,
+                    otelEndpoint,
+                    otelMavenExtension,
+                    shard,
+                    shardByDuration,
+                    queuePath,
+                    leaseDuration,
+                    mavenMetadata);
         }
     }
 }
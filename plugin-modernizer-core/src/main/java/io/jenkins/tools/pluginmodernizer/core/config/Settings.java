@@ -15,7 +15,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import org.apache.maven.artifact.versioning.ComparableVersion;
@@ -27,17 +29,11 @@ public class Settings {
 
     private static final Logger LOG = LoggerFactory.getLogger(Settings.class);
 
-    public static final URL DEFAULT_UPDATE_CENTER_URL;
-
-    public static final URL DEFAULT_PLUGIN_VERSIONS;
-
-    public static final URL DEFAULT_PLUGINS_STATS_INSTALLATIONS_URL;
-
-    public static final URL DEFAULT_HEALTH_SCORE_URL;
+    public static final URL GITHUB_API_URL;
 
-    public static final URL OPT_OUT_PLUGINS_URL;
+    public static final URL OTEL_EXPORTER_OTLP_ENDPOINT;
 
-    public static final URL GITHUB_API_URL;
+    public static final Path OTEL_MAVEN_EXTENSION;
 
     public static final Path DEFAULT_CACHE_PATH;
     public static final String CACHE_SUBDIR = "jenkins-plugin-modernizer-cli";
@@ -46,8 +42,6 @@ public class Settings {
 
     public static final Path DEFAULT_MAVEN_LOCAL_REPO;
 
-    public static final String MAVEN_REWRITE_PLUGIN_VERSION;
-
     public static final String GITHUB_TOKEN;
 
     public static final Path SSH_PRIVATE_KEY;
@@ -75,11 +69,34 @@ public class Settings {
 
     public static final ComparableVersion MAVEN_MINIMAL_VERSION = new ComparableVersion("3.9.14");
 
-    public static final String REMEDIATION_PLUGIN_PARENT_VERSION;
+    /**
+     * Properties files already read, by resource name
+     */
+    private static final Map<String, Properties> PROPERTIES = new ConcurrentHashMap<>();
 
-    public static final List<Recipe> AVAILABLE_RECIPES;
+    /**
+     * Default URLs of the Jenkins infrastructure, read from urls.properties on first use
+     */
+    private static final class Urls {
+        private static final URL UPDATE_CENTER = getUrl("JENKINS_UC", "update.center.url");
+        private static final URL PLUGIN_VERSIONS = getUrl("JENKINS_PLUGIN_INFO", "plugin.versions.url");
+        private static final URL HEALTH_SCORE = getUrl("JENKINS_PHS", "plugin.health.score.url");
+        private static final URL PLUGINS_STATS_INSTALLATIONS =
+                getUrl("JENKINS_PLUGINS_STATS_INSTALLATIONS_URL", "plugin.stats.installations.plugin.url");
+        private static final URL OPT_OUT_PLUGINS = getUrl("OPT_OUT_PLUGINS_URL", "opt.out.plugins.url");
+    }
 
-    public static final Recipe FETCH_METADATA_RECIPE;
+    /**
+     * Recipes of recipes.yml, parsed on first use
+     */
+    private static final class Recipes {
+        private static final List<Recipe> AVAILABLE = readRecipes();
+        private static final Recipe FETCH_METADATA = AVAILABLE.stream()
+                .filter(recipe -> recipe.getName().equals("io.jenkins.tools.pluginmodernizer.FetchMetadata"))
+                .findFirst()
+                .orElseThrow(() ->
+                        new ModernizerException("io.jenkins.tools.pluginmodernizer.FetchMetadata recipe not found"));
+    }
 
     private Settings() {}
 
@@ -97,7 +114,6 @@ public class Settings {
         }
         DEFAULT_MAVEN_HOME = getDefaultMavenHome();
         DEFAULT_MAVEN_LOCAL_REPO = getDefaultMavenLocalRepo();
-        MAVEN_REWRITE_PLUGIN_VERSION = getRewritePluginVersion();
         String sshPrivateKey = System.getenv("SSH_PRIVATE_KEY");
         if (sshPrivateKey != null) {
             SSH_PRIVATE_KEY = Paths.get(sshPrivateKey);
@@ -109,39 +125,56 @@ public class Settings {
         GITHUB_OWNER = getGithubOwner();
         GITHUB_APP_PRIVATE_KEY_FILE = getGithubAppPrivateKeyFile();
         try {
-            DEFAULT_UPDATE_CENTER_URL = getUpdateCenterUrl();
-        } catch (MalformedURLException e) {
-            throw new ModernizerException("Invalid URL format", e);
-        }
-        try {
-            DEFAULT_PLUGIN_VERSIONS = getPluginVersions();
-        } catch (MalformedURLException e) {
-            throw new ModernizerException("Invalid URL format", e);
-        }
-        try {
-            DEFAULT_HEALTH_SCORE_URL = getHealthScoreUrl();
-        } catch (MalformedURLException e) {
-            throw new ModernizerException("Invalid URL format", e);
-        }
-        try {
-            DEFAULT_PLUGINS_STATS_INSTALLATIONS_URL = getPluginsStatsInstallationsUrl();
-        } catch (MalformedURLException e) {
-            throw new ModernizerException("Invalid URL format", e);
-        }
-        try {
-            OPT_OUT_PLUGINS_URL = getOptOutPluginsUrl();
+            GITHUB_API_URL = getGithubApiUrl();
         } catch (MalformedURLException e) {
             throw new ModernizerException("Invalid URL format", e);
         }
         try {
-            GITHUB_API_URL = getGithubApiUrl();
+            OTEL_EXPORTER_OTLP_ENDPOINT = getOtelExporterEndpoint();
         } catch (MalformedURLException e) {
             throw new ModernizerException("Invalid URL format", e);
         }
+        String otelMavenExtension = System.getenv("OTEL_MAVEN_EXTENSION");
+        OTEL_MAVEN_EXTENSION = otelMavenExtension != null ? Path.of(otelMavenExtension) : null;
+    }
+
+    /**
+     * Return the recipes available to the modernizer. Conditions and work in progress recipes are excluded
+     * @return The recipes, parsed from recipes.yml on first call
+     */
+    public static List<Recipe> getAvailableRecipes() {
+        return Recipes.AVAILABLE;
+    }
+
+    /**
+     * Return the recipe collecting the metadata of a plugin
+     * @return The FetchMetadata recipe
+     */
+    public static Recipe getFetchMetadataRecipe() {
+        return Recipes.FETCH_METADATA;
+    }
+
+    public static URL getDefaultUpdateCenterUrl() {
+        return Urls.UPDATE_CENTER;
+    }
 
-        REMEDIATION_PLUGIN_PARENT_VERSION = getRemediationPluginParentVersion();
+    public static URL getDefaultPluginVersions() {
+        return Urls.PLUGIN_VERSIONS;
+    }
+
+    public static URL getDefaultHealthScoreUrl() {
+        return Urls.HEALTH_SCORE;
+    }
 
-        // Get recipes module
+    public static URL getDefaultPluginsStatsInstallationsUrl() {
+        return Urls.PLUGINS_STATS_INSTALLATIONS;
+    }
+
+    public static URL getOptOutPluginsUrl() {
+        return Urls.OPT_OUT_PLUGINS;
+    }
+
+    private static List<Recipe> readRecipes() {
         try (InputStream inputStream = Settings.class.getResourceAsStream("/" + Settings.RECIPE_DATA_YAML_PATH)) {
             ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
             YAMLFactory yamlFactory = new YAMLFactory();
@@ -156,18 +189,11 @@ public class Settings {
                 }
                 recipes.add(recipe);
             }
-            AVAILABLE_RECIPES = recipes;
-
+            return List.copyOf(recipes);
         } catch (IOException e) {
             LOG.error("Error reading recipes", e);
             throw new ModernizerException("Error reading recipes", e);
         }
-
-        FETCH_METADATA_RECIPE = AVAILABLE_RECIPES.stream()
-                .filter(recipe -> recipe.getName().equals("io.jenkins.tools.pluginmodernizer.FetchMetadata"))
-                .findFirst()
-                .orElseThrow(() ->
-                        new ModernizerException("io.jenkins.tools.pluginmodernizer.FetchMetadata recipe not found"));
     }
 
     private static Path getDefaultMavenHome() {
@@ -193,7 +219,7 @@ public class Settings {
         return Path.of(mavenLocalRepo);
     }
 
-    private static String getRewritePluginVersion() {
+    public static String getRewritePluginVersion() {
         return readProperty("openrewrite.maven.plugin.version", "versions.properties");
     }
 
@@ -280,20 +306,22 @@ public class Settings {
         return "bom-weekly";
     }
 
-    private static URL getUpdateCenterUrl() throws MalformedURLException {
-        String url = System.getenv("JENKINS_UC");
-        if (url != null) {
-            return new URL(url);
+    /**
+     * Return a default URL from its environment variable, else from urls.properties
+     * @param variable The environment variable
+     * @param key The key in urls.properties
+     * @return The URL
+     */
+    private static URL getUrl(String variable, String key) {
+        String url = System.getenv(variable);
+        if (url == null) {
+            url = readProperty(key, "urls.properties");
         }
-        return new URL(readProperty("update.center.url", "urls.properties"));
-    }
-
-    private static URL getPluginVersions() throws MalformedURLException {
-        String url = System.getenv("JENKINS_PLUGIN_INFO");
-        if (url != null) {
+        try {
             return new URL(url);
+        } catch (MalformedURLException e) {
+            throw new ModernizerException("Invalid URL format", e);
         }
-        return new URL(readProperty("plugin.versions.url", "urls.properties"));
     }
 
     private static URL getGithubApiUrl() throws MalformedURLException {
@@ -307,32 +335,16 @@ public class Settings {
         return new URL("https://%s".formatted(host));
     }
 
-    private static @NotNull String getRemediationPluginParentVersion() {
-        return readProperty("remediation.jenkins.plugin.parent.version", "versions.properties");
-    }
-
-    private static URL getHealthScoreUrl() throws MalformedURLException {
-        String url = System.getenv("JENKINS_PHS");
-        if (url != null) {
-            return new URL(url);
-        }
-        return new URL(readProperty("plugin.health.score.url", "urls.properties"));
-    }
-
-    private static URL getPluginsStatsInstallationsUrl() throws MalformedURLException {
-        String url = System.getenv("JENKINS_PLUGINS_STATS_INSTALLATIONS_URL");
+    private static URL getOtelExporterEndpoint() throws MalformedURLException {
+        String url = System.getenv("OTEL_EXPORTER_OTLP_ENDPOINT");
         if (url != null) {
             return new URL(url);
         }
-        return new URL(readProperty("plugin.stats.installations.plugin.url", "urls.properties"));
+        return null;
     }
 
-    private static URL getOptOutPluginsUrl() throws MalformedURLException {
-        String url = System.getenv("OPT_OUT_PLUGINS_URL");
-        if (url != null) {
-            return new URL(url);
-        }
-        return new URL(readProperty("opt.out.plugins.url", "urls.properties"));
+    public static @NotNull String getRemediationPluginParentVersion() {
+        return readProperty("remediation.jenkins.plugin.parent.version", "versions.properties");
     }
 
     private static String getGithubToken() {
@@ -392,14 +404,24 @@ public class Settings {
      * @return The value of the property or null if it could not be read
      */
     private static String readProperty(@NonNull final String key, @NonNull final String resource) {
+        return PROPERTIES.computeIfAbsent(resource, Settings::loadProperties)
+                .getProperty(key)
+                .trim();
+    }
+
+    /**
+     * Load a properties file from the classpath
+     * @param resource The resource file
+     * @return The properties
+     */
+    private static Properties loadProperties(@NonNull final String resource) {
         Properties properties = new Properties();
         try (InputStream input = Settings.class.getClassLoader().getResourceAsStream(resource)) {
             properties.load(input);
         } catch (IOException e) {
-            LOG.error("Error reading key {} from {}", key, resource, e);
-            throw new ModernizerException("Error reading key " + key + " from " + resource, e);
+            LOG.error("Error reading {}", resource, e);
+            throw new ModernizerException("Error reading " + resource, e);
         }
-
-        return properties.getProperty(key).trim();
+        return properties;
     }
 }
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
 import io.jenkins.tools.pluginmodernizer.core.model.CacheEntry;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
 import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.List;
@@ -116,6 +117,16 @@ public class ModernizationMetadata extends CacheEntry<ModernizationMetadata> {
      */
     private Integer changedFiles;
 
+    /**
+     * Fingerprint of the inputs of the modernization (plugin commit, recipe and tool versions)
+     */
+    private String fingerprint;
+
+    /**
+     * Resources used by each processing stage, in processing order
+     */
+    private Map<String, StageMetrics> stageMetrics;
+
     /**
      * Create a new modernization metadata
      * Store the metadata in the relative target directory of current folder
@@ -348,4 +359,20 @@ public class ModernizationMetadata extends CacheEntry<ModernizationMetadata> {
     public void setChangedFiles(Integer changedFiles) {
         this.changedFiles = changedFiles;
     }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    public Map<String, StageMetrics> getStageMetrics() {
+        return stageMetrics;
+    }
+
+    public void setStageMetrics(Map<String, StageMetrics> stageMetrics) {
+        this.stageMetrics = stageMetrics;
+    }
 }
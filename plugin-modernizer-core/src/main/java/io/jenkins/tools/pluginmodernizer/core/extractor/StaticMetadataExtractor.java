@@ -0,0 +1,307 @@
+package io.jenkins.tools.pluginmodernizer.core.extractor;
+
+import static io.jenkins.tools.pluginmodernizer.core.utils.XmlUtils.child;
+import static io.jenkins.tools.pluginmodernizer.core.utils.XmlUtils.childText;
+import static io.jenkins.tools.pluginmodernizer.core.utils.XmlUtils.children;
+import static io.jenkins.tools.pluginmodernizer.core.utils.XmlUtils.name;
+
+import io.jenkins.tools.pluginmodernizer.core.config.RecipesConsts;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+import org.openrewrite.groovy.tree.G;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Extract {@link PluginMetadata} from the working tree of a plugin without invoking Maven.
+ * Only plugins directly inheriting the plugin parent POM and whose versions can be resolved from their own
+ * properties are supported. For others the extraction is not possible and the caller must fall back to
+ * the {@link io.jenkins.tools.pluginmodernizer.core.recipes.FetchMetadata} recipe that use the effective POM.
+ */
+public class StaticMetadataExtractor {
+
+    /**
+     * LOGGER.
+     */
+    private static final Logger LOG = LoggerFactory.getLogger(StaticMetadataExtractor.class);
+
+    /**
+     * Property placeholder
+     */
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\$\\{([^}]+)}");
+
+    /**
+     * Imports detected by {@link JavaFileVisitor} as container tests
+     */
+    private static final List<String> CONTAINER_TESTS_PACKAGES =
+            List.of("org.testcontainers.containers", "org.jenkinsci.test.acceptance.docker");
+
+    /**
+     * Root directory of the plugin
+     */
+    private final Path directory;
+
+    /**
+     * Parsed POM of the plugin
+     */
+    private final Document document;
+
+    /**
+     * Create an extractor reusing an already parsed POM
+     * @param directory The root directory of the plugin
+     * @param document The namespace aware document of the pom.xml
+     */
+    public StaticMetadataExtractor(Path directory, Document document) {
+        this.directory = directory;
+        this.document = document;
+    }
+
+    /**
+     * Create an extractor for the given plugin directory
+     * @param directory The root directory of the plugin
+     */
+    public StaticMetadataExtractor(Path directory) {
+        this(directory, parse(directory.resolve(ArchetypeCommonFile.POM.getPath())));
+    }
+
+    /**
+     * Extract the metadata
+     * @return The metadata or empty if the effective POM is needed to compute it
+     */
+    public Optional<PluginMetadata> extract() {
+        Element project = document.getDocumentElement();
+        Element parent = child(project, "parent");
+        if (parent == null || !RecipesConsts.PLUGIN_POM_GROUP_ID.equals(childText(parent, "groupId"))) {
+            LOG.debug("Plugin at {} does not directly inherit the plugin parent POM", directory);
+            return Optional.empty();
+        }
+
+        Map<String, String> properties = new LinkedHashMap<>();
+        Element propertiesElement = child(project, "properties");
+        if (propertiesElement != null) {
+            for (Element property : children(propertiesElement)) {
+                properties.put(name(property), property.getTextContent().trim());
+            }
+        }
+
+        PluginMetadata pluginMetadata = new PluginMetadata();
+        pluginMetadata.setPluginName(childText(project, "name"));
+        pluginMetadata.setProperties(properties);
+
+        // Parent version
+        String parentVersion = resolve(childText(parent, "version"), project, properties);
+        if (parentVersion == null) {
+            LOG.debug("Unable to resolve parent version of plugin at {}", directory);
+            return Optional.empty();
+        }
+        pluginMetadata.setParentVersion(parentVersion);
+
+        // Jenkins core is managed by the parent from the jenkins.version property
+        Element dependencyManagement = child(child(project, "dependencyManagement"), "dependencies");
+        List<Element> managedDependencies = dependencyManagement == null ? List.of() : children(dependencyManagement);
+        boolean coreOverridden = managedDependencies.stream()
+                .anyMatch(dependency -> "org.jenkins-ci.main".equals(childText(dependency, "groupId"))
+                        && "jenkins-core".equals(childText(dependency, "artifactId")));
+        String jenkinsVersion = resolve(properties.get("jenkins.version"), project, properties);
+        if (coreOverridden || jenkinsVersion == null) {
+            LOG.debug("Unable to resolve Jenkins version of plugin at {}", directory);
+            return Optional.empty();
+        }
+        pluginMetadata.setJenkinsVersion(jenkinsVersion);
+
+        // BOM
+        Optional<Element> bom = managedDependencies.stream()
+                .filter(dependency -> RecipesConsts.PLUGINS_BOM_GROUP_ID.equals(childText(dependency, "groupId")))
+                .findFirst();
+        if (bom.isPresent()) {
+            String bomArtifactId = resolve(childText(bom.get(), "artifactId"), project, properties);
+            String bomVersion = resolve(childText(bom.get(), "version"), project, properties);
+            if (bomArtifactId == null || bomVersion == null) {
+                LOG.debug("Unable to resolve BOM of plugin at {}", directory);
+                return Optional.empty();
+            }
+            pluginMetadata.setBomArtifactId(bomArtifactId);
+            pluginMetadata.setBomVersion(bomVersion);
+        }
+
+        collectFlags(project, pluginMetadata);
+        collectCommonFiles(pluginMetadata);
+        collectJenkinsfile(pluginMetadata);
+        collectContainerTests(pluginMetadata);
+
+        LOG.debug("Extracted metadata of plugin at {} without Maven", directory);
+        return Optional.of(pluginMetadata);
+    }
+
+    /**
+     * Collect flags of all POM tags like {@link PomPropertyVisitor}
+     * @param element The element to visit
+     * @param pluginMetadata The metadata
+     */
+    private void collectFlags(Element element, PluginMetadata pluginMetadata) {
+        MetadataXmlTag tag = toMetadataXmlTag(element);
+        pluginMetadata.addFlags(Arrays.stream(MetadataFlag.values())
+                .filter(flag -> flag.isApplicable(tag))
+                .toList());
+        for (Element child : children(element)) {
+            collectFlags(child, pluginMetadata);
+        }
+    }
+
+    /**
+     * Collect the archetype common files present in the plugin directory
+     * @param pluginMetadata The metadata
+     */
+    private void collectCommonFiles(PluginMetadata pluginMetadata) {
+        for (ArchetypeCommonFile commonFile : ArchetypeCommonFile.values()) {
+            if (commonFile.getPaths().stream().anyMatch(path -> Files.isRegularFile(directory.resolve(path)))) {
+                pluginMetadata.addCommonFile(commonFile);
+            }
+        }
+    }
+
+    /**
+     * Collect platforms, JDKs and build options by parsing the Jenkinsfile in memory
+     * @param pluginMetadata The metadata
+     */
+    private void collectJenkinsfile(PluginMetadata pluginMetadata) {
+        Path jenkinsfile = directory.resolve(ArchetypeCommonFile.JENKINSFILE.getPath());
+        if (!Files.isRegularFile(jenkinsfile)) {
+            return;
+        }
+        ExecutionContext ctx =
+                new InMemoryExecutionContext(e -> LOG.debug("Failed to parse Jenkinsfile at {}", jenkinsfile, e));
+        Optional<SourceFile> sourceFile = GroovyParser.builder()
+                .build()
+                .parse(List.of(jenkinsfile), directory, ctx)
+                .findFirst();
+        if (sourceFile.isPresent() && sourceFile.get() instanceof G.CompilationUnit compilationUnit) {
+            new JenkinsfileVisitor().reduce(compilationUnit, pluginMetadata);
+        } else {
+            LOG.debug("Jenkinsfile at {} is not a valid Groovy file", jenkinsfile);
+        }
+    }
+
+    /**
+     * Detect container tests from the imports of Java sources like {@link JavaFileVisitor}
+     * @param pluginMetadata The metadata
+     */
+    private void collectContainerTests(PluginMetadata pluginMetadata) {
+        Path sources = directory.resolve("src");
+        if (!Files.isDirectory(sources)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(sources)) {
+            if (files.filter(file -> file.toString().endsWith(".java"))
+                    .anyMatch(StaticMetadataExtractor::importsContainerTests)) {
+                pluginMetadata.setUseContainerTests(true);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            throw new ModernizerException("Failed to read sources of plugin at " + directory, e);
+        }
+    }
+
+    /**
+     * Check if a Java file imports a container tests package
+     * @param file The file
+     * @return True if a container tests package is imported
+     */
+    private static boolean importsContainerTests(Path file) {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.map(String::strip)
+                    .filter(line -> line.startsWith("import "))
+                    .map(line -> line.substring("import ".length()).strip())
+                    .anyMatch(name -> CONTAINER_TESTS_PACKAGES.stream().anyMatch(name::startsWith));
+        } catch (IOException | UncheckedIOException e) {
+            LOG.debug("Unable to read {}. Ignoring it", file, e);
+            return false;
+        }
+    }
+
+    /**
+     * Resolve placeholders of a value using the properties of the POM
+     * @param value The value
+     * @param project The project element
+     * @param properties The properties
+     * @return The resolved value or null if missing or some placeholders need the effective POM
+     */
+    private static String resolve(String value, Element project, Map<String, String> properties) {
+        String resolved = value;
+        // Properties referencing other properties
+        for (int depth = 0; resolved != null && resolved.contains("${"); depth++) {
+            if (depth == 10) {
+                return null;
+            }
+            Matcher matcher = PLACEHOLDER.matcher(resolved);
+            StringBuilder builder = new StringBuilder();
+            while (matcher.find()) {
+                String name = matcher.group(1);
+                String replacement =
+                        switch (name) {
+                            case "project.artifactId" -> childText(project, "artifactId");
+                            case "project.groupId" -> childText(project, "groupId");
+                            default -> properties.get(name);
+                        };
+                if (replacement == null) {
+                    return null;
+                }
+                matcher.appendReplacement(builder, Matcher.quoteReplacement(replacement));
+            }
+            matcher.appendTail(builder);
+            resolved = builder.toString();
+        }
+        return resolved;
+    }
+
+    /**
+     * Convert a DOM element to a metadata XML tag
+     * @param element The element
+     * @return The metadata XML tag
+     */
+    private static MetadataXmlTag toMetadataXmlTag(Element element) {
+        List<Element> children = children(element);
+        MetadataXmlTag tag = new MetadataXmlTag();
+        tag.setName(name(element));
+        String text = element.getTextContent().trim();
+        tag.setValue(children.isEmpty() && !text.isEmpty() ? Optional.of(text) : Optional.empty());
+        tag.setChildren(children.stream().map(StaticMetadataExtractor::toMetadataXmlTag).toList());
+        return tag;
+    }
+
+    /**
+     * Parse the POM
+     * @param pom The POM file
+     * @return The namespace aware document
+     */
+    private static Document parse(Path pom) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            DocumentBuilder builder = factory.newDocumentBuilder();
+            return builder.parse(pom.toFile());
+        } catch (Exception e) {
+            throw new ModernizerException("Failed to parse pom file: " + pom, e);
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package io.jenkins.tools.pluginmodernizer.core.github;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.utils.JWTUtils;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.kohsuke.github.GHApp;
+import org.kohsuke.github.GHAppInstallationToken;
+import org.kohsuke.github.GitHub;
+import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.authorization.AuthorizationProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Manage GitHub App JWT and installation tokens.
+ * Installation tokens are cached per installation ID and refreshed in the background before they expire.
+ * Clients are built once with an {@link AuthorizationProvider} so that switching or refreshing tokens never
+ * requires to rebuild the {@link GitHub} client.
+ */
+public class GHAppTokenManager implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(GHAppTokenManager.class);
+
+    /**
+     * Validity of the JWT. GitHub accept at most 10 minutes
+     */
+    public static final Duration JWT_VALIDITY = Duration.ofMinutes(9);
+
+    /**
+     * Refresh tokens when they expire in less than this duration
+     */
+    public static final Duration REFRESH_AHEAD = Duration.ofMinutes(5);
+
+    /**
+     * Installation token with its expiration
+     * @param token The token
+     * @param expiresAt The expiration
+     */
+    record InstallationToken(String token, Instant expiresAt) {}
+
+    /**
+     * Mint a new installation token
+     */
+    @FunctionalInterface
+    interface TokenMinter {
+        InstallationToken mint(long installationId) throws IOException;
+    }
+
+    private final Clock clock;
+    private final Map<Long, InstallationToken> tokens = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+    private final TokenMinter minter;
+
+    /**
+     * Config and private key used to sign the JWT. Null when a custom minter is used
+     */
+    private final Config config;
+
+    private final Path privateKeyFile;
+
+    /**
+     * The cached JWT and its expiration
+     */
+    private String jwt;
+
+    private Instant jwtExpiresAt = Instant.MIN;
+
+    /**
+     * The GitHub App client authenticated with the JWT
+     */
+    private GHApp app;
+
+    /**
+     * The installation currently used by clients created from {@link #getAuthorizationProvider()}
+     */
+    private volatile Long activeInstallationId;
+
+    /**
+     * Create a new token manager for the GitHub App configured
+     * @param config The configuration
+     * @param privateKeyFile The private key file of the GitHub App
+     */
+    public GHAppTokenManager(Config config, Path privateKeyFile) {
+        this.config = config;
+        this.privateKeyFile = privateKeyFile;
+        this.clock = Clock.systemUTC();
+        this.minter = this::createInstallationToken;
+        this.scheduler = createScheduler();
+    }
+
+    /**
+     * Create a token manager with a custom minter. Used for testing
+     * @param minter The minter
+     * @param clock The clock
+     */
+    GHAppTokenManager(TokenMinter minter, Clock clock) {
+        this.config = null;
+        this.privateKeyFile = null;
+        this.clock = clock;
+        this.minter = minter;
+        this.scheduler = createScheduler();
+    }
+
+    /**
+     * Get the GitHub App. The app client is built once and authenticated with the cached JWT
+     * @return The GitHub App
+     * @throws IOException If the app cannot be retrieved
+     */
+    public synchronized GHApp getApp() throws IOException {
+        if (app == null) {
+            GitHub appClient = new GitHubBuilder()
+                    .withEndpoint(config.getGithubApiUrl().toString())
+                    .withAuthorizationProvider(() -> "Bearer " + getJwt())
+                    .build();
+            app = appClient.getApp();
+        }
+        return app;
+    }
+
+    /**
+     * Return a JWT valid for at least one more minute, reusing the cached one during its validity window
+     * @return The JWT
+     */
+    public synchronized String getJwt() {
+        Instant now = clock.instant();
+        if (jwt == null || now.plus(Duration.ofMinutes(1)).isAfter(jwtExpiresAt)) {
+            jwt = JWTUtils.getJWT(config, privateKeyFile, JWT_VALIDITY);
+            jwtExpiresAt = now.plus(JWT_VALIDITY);
+            LOG.debug("Created new GitHub App JWT valid until {}", jwtExpiresAt);
+        }
+        return jwt;
+    }
+
+    /**
+     * Get a valid installation token, minting one if missing or about to expire
+     * @param installationId The installation ID
+     * @return The token
+     */
+    public String getToken(long installationId) {
+        InstallationToken token = tokens.get(installationId);
+        if (token == null || needsRefresh(token)) {
+            token = refresh(installationId, token);
+        }
+        return token.token();
+    }
+
+    /**
+     * Switch the installation used by clients built from {@link #getAuthorizationProvider()}.
+     * Token is minted immediately if not cached yet so errors are reported to the caller.
+     * @param installationId The installation ID
+     */
+    public void useInstallation(long installationId) {
+        getToken(installationId);
+        if (activeInstallationId == null || activeInstallationId != installationId) {
+            LOG.debug("Switching GitHub App installation to {}", installationId);
+        }
+        activeInstallationId = installationId;
+    }
+
+    /**
+     * Get the active installation ID
+     * @return The active installation ID or null if not set
+     */
+    public Long getActiveInstallationId() {
+        return activeInstallationId;
+    }
+
+    /**
+     * Authorization provider using the token of the active installation
+     * @return The authorization provider
+     */
+    public AuthorizationProvider getAuthorizationProvider() {
+        return () -> {
+            Long installationId = activeInstallationId;
+            if (installationId == null) {
+                throw new IOException("No GitHub App installation selected");
+            }
+            try {
+                return "token " + getToken(installationId);
+            } catch (ModernizerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * Authorization provider always using the token of the given installation, whatever the active installation
+     * @param installationId The installation ID
+     * @return The authorization provider
+     */
+    public AuthorizationProvider getAuthorizationProvider(long installationId) {
+        return () -> {
+            try {
+                return "token " + getToken(installationId);
+            } catch (ModernizerException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+        };
+    }
+
+    /**
+     * Mint a new token for the installation and schedule its refresh ahead of expiration
+     * @param installationId The installation ID
+     * @param previous The token to replace or null if none
+     * @return The new token
+     */
+    private synchronized InstallationToken refresh(long installationId, InstallationToken previous) {
+        // Another thread might have refreshed it
+        InstallationToken current = tokens.get(installationId);
+        if (current != null && current != previous) {
+            return current;
+        }
+        try {
+            InstallationToken token = minter.mint(installationId);
+            tokens.put(installationId, token);
+            scheduleRefresh(installationId, token);
+            LOG.debug(
+                    "Refreshed token for GitHub App installation ID {} valid until {}",
+                    installationId,
+                    token.expiresAt());
+            return token;
+        } catch (IOException e) {
+            throw new ModernizerException("Failed to refresh token", e);
+        }
+    }
+
+    /**
+     * Schedule the background refresh of a token
+     * @param installationId The installation ID
+     * @param token The token to refresh
+     */
+    private void scheduleRefresh(long installationId, InstallationToken token) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        long delay = Duration.between(clock.instant(), token.expiresAt().minus(REFRESH_AHEAD))
+                .toMillis();
+        // Already in the refresh window, next access will refresh it
+        if (delay <= 0) {
+            return;
+        }
+        scheduler.schedule(
+                () -> {
+                    try {
+                        refresh(installationId, token);
+                    } catch (ModernizerException e) {
+                        LOG.warn(
+                                "Background refresh of installation {} token failed: {}",
+                                installationId,
+                                e.getMessage());
+                    }
+                },
+                delay,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Check if the token must be refreshed
+     * @param token The token
+     * @return True if the token expires soon
+     */
+    boolean needsRefresh(InstallationToken token) {
+        return clock.instant().plus(REFRESH_AHEAD).isAfter(token.expiresAt());
+    }
+
+    /**
+     * Create an installation token using the GitHub App
+     * @param installationId The installation ID
+     * @return The installation token
+     * @throws IOException If the token cannot be created
+     */
+    private InstallationToken createInstallationToken(long installationId) throws IOException {
+        GHAppInstallationToken token =
+                getApp().getInstallationById(installationId).createToken().create();
+        Instant expiresAt = token.getExpiresAt() != null
+                ? token.getExpiresAt()
+                : clock.instant().plus(Duration.ofHours(1));
+        return new InstallationToken(token.getToken(), expiresAt);
+    }
+
+    private static ScheduledExecutorService createScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "github-app-token-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -2,12 +2,17 @@ package io.jenkins.tools.pluginmodernizer.core.github;
 
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.jfr.GitHubRequestEvent;
 import io.jenkins.tools.pluginmodernizer.core.model.DiffStats;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.PluginProcessingException;
 import io.jenkins.tools.pluginmodernizer.core.model.RepoType;
-import io.jenkins.tools.pluginmodernizer.core.utils.JWTUtils;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginMetrics;
+import io.jenkins.tools.pluginmodernizer.core.utils.Tracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Scope;
 import jakarta.inject.Inject;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -15,10 +20,17 @@ import java.io.IOException;
 import java.net.URISyntaxException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.stream.StreamSupport;
 import org.apache.sshd.client.SshClient;
 import org.apache.sshd.common.keyprovider.FileKeyPairProvider;
@@ -55,7 +67,6 @@ import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
 import org.eclipse.jgit.treewalk.CanonicalTreeParser;
 import org.eclipse.jgit.treewalk.FileTreeIterator;
 import org.kohsuke.github.GHApp;
-import org.kohsuke.github.GHAppInstallationToken;
 import org.kohsuke.github.GHBranchSync;
 import org.kohsuke.github.GHFileNotFoundException;
 import org.kohsuke.github.GHIssueState;
@@ -67,6 +78,9 @@ import org.kohsuke.github.GHRepositoryForkBuilder;
 import org.kohsuke.github.GHUser;
 import org.kohsuke.github.GitHub;
 import org.kohsuke.github.GitHubBuilder;
+import org.kohsuke.github.connector.GitHubConnector;
+import org.kohsuke.github.connector.GitHubConnectorRequest;
+import org.kohsuke.github.connector.GitHubConnectorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -79,9 +93,82 @@ public class GHService {
      */
     private static final Set<String> ALLOWED_TAGS = Set.of("chore", "dependencies", "developer");
 
+    /**
+     * Number of forks prepared concurrently ahead of processing
+     */
+    private static final int PRE_FORK_THREADS = 4;
+
+    /**
+     * Interval between fork readiness checks
+     */
+    private static final Duration FORK_READY_POLL_INTERVAL = Duration.ofSeconds(2);
+
+    /**
+     * Maximum time to wait for a new fork to be ready
+     */
+    private static final Duration FORK_READY_TIMEOUT = Duration.ofMinutes(2);
+
+    /**
+     * Connector counting and tracing the GitHub API calls and the size of their responses
+     */
+    private static final GitHubConnector METERED_CONNECTOR = request -> send(request, true);
+
+    /**
+     * Connector tracing the GitHub API calls made in the background. They are not counted in the plugin metrics,
+     * which measure the stage running on the calling thread
+     */
+    private static final GitHubConnector BACKGROUND_CONNECTOR = request -> send(request, false);
+
     @Inject
     private Config config;
 
+    /**
+     * Send a GitHub API request, tracing it and recording it as a JFR event
+     * @param request The request
+     * @param metered Whether to count the request in the plugin metrics
+     * @return The response
+     * @throws IOException If the request failed
+     */
+    private static GitHubConnectorResponse send(GitHubConnectorRequest request, boolean metered) throws IOException {
+        GitHubRequestEvent event = new GitHubRequestEvent();
+        event.begin();
+        Span span = Tracing.startSpan("GitHub " + request.method(), SpanKind.CLIENT)
+                .setAttribute("http.request.method", request.method())
+                .setAttribute("url.full", request.url().toString());
+        int status = -1;
+        long length = -1;
+        try (Scope scope = span.makeCurrent()) {
+            GitHubConnectorResponse response = GitHubConnector.DEFAULT.send(request);
+            status = response.statusCode();
+            span.setAttribute("http.response.status_code", status);
+            if (status >= 400) {
+                Tracing.fail(span, "HTTP " + status);
+            }
+            String contentLength = response.header("Content-Length");
+            if (contentLength != null && contentLength.matches("\\d+")) {
+                length = Long.parseLong(contentLength);
+            }
+            if (metered) {
+                PluginMetrics.recordGitHubApiCall(length);
+            }
+            return response;
+        } catch (IOException e) {
+            span.recordException(e);
+            Tracing.fail(span, e.getMessage());
+            throw e;
+        } finally {
+            span.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.method = request.method();
+                event.url = request.url().toString();
+                event.status = status;
+                event.responseSize = length;
+                event.commit();
+            }
+        }
+    }
+
     /**
      * The GitHub client
      */
@@ -92,11 +179,39 @@ public class GHService {
      */
     private GHApp app;
 
+    /**
+     * Manage installation tokens if connected by GitHub App
+     */
+    private GHAppTokenManager tokenManager;
+
     /**
      * If the authentication is done using SSH key
      */
     private boolean sshKeyAuth = false;
 
+    /**
+     * A fork prepared ahead of processing
+     * @param fork The fork or null if the plugin is archived
+     * @param created True if the fork was created ahead, false if it already existed
+     */
+    private record PreparedFork(GHRepository fork, boolean created) {}
+
+    /**
+     * Forks prepared ahead of processing, indexed by repository name
+     */
+    private final Map<String, CompletableFuture<PreparedFork>> pendingForks = new ConcurrentHashMap<>();
+
+    /**
+     * Executor used to prepare forks ahead of processing
+     */
+    private ExecutorService forkExecutor;
+
+    /**
+     * GitHub client used to prepare forks ahead of processing. Bound to the source installation when connected by
+     * GitHub App, so the installation switches of the main client never apply to it
+     */
+    private GitHub forkClient;
+
     /**
      * Validate the configuration of the GHService
      */
@@ -126,6 +241,25 @@ public class GHService {
         return github != null;
     }
 
+    /**
+     * Stop the background refresh of the GitHub App tokens and the preparation of forks.
+     * The service connects again on the next {@link #connect()}
+     */
+    public synchronized void close() {
+        if (tokenManager != null) {
+            tokenManager.close();
+            tokenManager = null;
+        }
+        if (forkExecutor != null) {
+            forkExecutor.shutdownNow();
+            forkExecutor = null;
+        }
+        pendingForks.clear();
+        forkClient = null;
+        app = null;
+        github = null;
+    }
+
     /**
      * Connect to GitHub using the GitHub auth token
      */
@@ -150,17 +284,14 @@ public class GHService {
                 LOG.debug("GitHub App Source Installation ID: {}", config.getGithubAppSourceInstallationId());
                 LOG.debug("GitHub App Target Installation ID: {}", config.getGithubAppTargetInstallationId());
                 LOG.debug("Private key file: {}", Settings.GITHUB_APP_PRIVATE_KEY_FILE);
-                String jwtToken = JWTUtils.getJWT(config, Settings.GITHUB_APP_PRIVATE_KEY_FILE);
-
-                // Get the GitHub App
-                this.app = new GitHubBuilder().withJwtToken(jwtToken).build().getApp();
-                GHAppInstallationToken appInstallationToken = this.app
-                        .getInstallationById(config.getGithubAppSourceInstallationId())
-                        .createToken()
-                        .create();
+                // Tokens are cached per installation and refreshed ahead of expiration
+                tokenManager = new GHAppTokenManager(config, Settings.GITHUB_APP_PRIVATE_KEY_FILE);
+                this.app = tokenManager.getApp();
+                tokenManager.useInstallation(config.getGithubAppSourceInstallationId());
                 github = new GitHubBuilder()
                         .withEndpoint(config.getGithubApiUrl().toString())
-                        .withAppInstallationToken(appInstallationToken.getToken())
+                        .withAuthorizationProvider(tokenManager.getAuthorizationProvider())
+                        .withConnector(METERED_CONNECTOR)
                         .build();
                 LOG.debug("Connected to GitHub using GitHub App");
             }
@@ -170,6 +301,7 @@ public class GHService {
                 github = new GitHubBuilder()
                         .withEndpoint(config.getGithubApiUrl().toString())
                         .withOAuthToken(Settings.GITHUB_TOKEN)
+                        .withConnector(METERED_CONNECTOR)
                         .build();
             }
             GHUser user = getCurrentUser();
@@ -204,7 +336,8 @@ public class GHService {
     }
 
     /**
-     * Refresh the JWT token for the GitHub app. Only for GitHub App authentication
+     * Switch the GitHub client to the token of the given GitHub App installation. Only for GitHub App authentication.
+     * Tokens are cached and refreshed ahead of expiration by the token manager, so the client is not rebuilt.
      *
      * @param installationId The installation ID
      */
@@ -216,19 +349,10 @@ public class GHService {
         if (github == null) {
             throw new ModernizerException("GitHub client must be connected.");
         }
-        try {
-            String jwtToken = JWTUtils.getJWT(config, Settings.GITHUB_APP_PRIVATE_KEY_FILE);
-            GHApp app = new GitHubBuilder().withJwtToken(jwtToken).build().getApp();
-            GHAppInstallationToken appInstallationToken =
-                    app.getInstallationById(installationId).createToken().create();
-            github = new GitHubBuilder()
-                    .withAppInstallationToken(appInstallationToken.getToken())
-                    .build();
-            this.app = app;
-            LOG.debug("Refreshed token for GitHub App installation ID {}", installationId);
-        } catch (IOException e) {
-            throw new ModernizerException("Failed to refresh token", e);
+        if (tokenManager == null) {
+            throw new ModernizerException("GitHub client is not connected using GitHub App.");
         }
+        tokenManager.useInstallation(installationId);
     }
 
     /**
@@ -358,6 +482,20 @@ public class GHService {
      * @throws InterruptedException Forking the repository failed due to interruption
      */
     private GHRepository forkRepoType(Plugin plugin, RepoType repoType) throws IOException, InterruptedException {
+        if (repoType == RepoType.PLUGIN) {
+            CompletableFuture<PreparedFork> pending = pendingForks.remove(repoType.getRepositoryName(plugin));
+            if (pending != null) {
+                try {
+                    PreparedFork prepared = pending.join();
+                    if (prepared != null) {
+                        LOG.debug("Using fork prepared ahead for {} {}", repoType.getType(), plugin);
+                        return prepared.fork();
+                    }
+                } catch (CompletionException e) {
+                    LOG.debug("Fork prepared ahead failed for {}: {}", plugin, e.getMessage());
+                }
+            }
+        }
         GHOrganization organization = getOrganization();
         GHRepository originalRepo = repoType.getRemoteRepository(plugin, this);
         if (organization != null) {
@@ -371,8 +509,7 @@ public class GHService {
                 return fork;
             } else {
                 GHRepository fork = forkRepository(originalRepo, organization);
-                Thread.sleep(5000); // Wait for the fork to be ready
-                return fork;
+                return waitForFork(fork);
             }
         } else {
             if (isRepositoryForked(originalRepo.getName())) {
@@ -384,8 +521,161 @@ public class GHService {
                 return fork;
             } else {
                 GHRepository fork = forkRepository(originalRepo);
-                Thread.sleep(5000); // Wait for the fork to be ready
+                return waitForFork(fork);
+            }
+        }
+    }
+
+    /**
+     * Start creating forks, or syncing existing forks, for all given plugins in the background.
+     * Later calls to {@link #fork(Plugin, RepoType)} reuse the prepared fork instead of waiting for GitHub.
+     * Forks created ahead but not used are deleted by {@link #discardPreparedFork(Plugin)}.
+     * Nothing is prepared when forks are removed before processing.
+     *
+     * @param plugins The candidate plugins. Their repository name must be set
+     */
+    public void preFork(List<Plugin> plugins) {
+        if (config.isDryRun() || config.isFetchMetadataOnly()) {
+            LOG.debug("Skipping pre-fork in dry-run or fetch-metadata-only mode");
+            return;
+        }
+        // Forks are deleted before fetching each plugin, which would delete the forks prepared ahead
+        if (config.isRemoveForks()) {
+            LOG.info("Skipping pre-fork since forks are removed before processing each plugin");
+            return;
+        }
+        synchronized (this) {
+            if (forkExecutor == null) {
+                forkExecutor = Executors.newFixedThreadPool(PRE_FORK_THREADS, r -> {
+                    Thread thread = new Thread(r, "pre-fork");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            }
+            if (forkClient == null) {
+                forkClient = createForkClient();
+            }
+        }
+        GitHub client = forkClient;
+        for (Plugin plugin : plugins) {
+            if (plugin.isLocal() || plugin.getRepositoryName() == null) {
+                continue;
+            }
+            pendingForks.computeIfAbsent(
+                    plugin.getRepositoryName(),
+                    name -> CompletableFuture.supplyAsync(() -> prepareFork(client, plugin), forkExecutor));
+        }
+        LOG.info("Preparing forks for {} plugins in the background", pendingForks.size());
+    }
+
+    /**
+     * Delete the fork prepared ahead for a plugin if it was created ahead and not used to publish changes.
+     * Forks that existed before the run are kept.
+     *
+     * @param plugin The plugin
+     */
+    public void discardPreparedFork(Plugin plugin) {
+        if (plugin.getRepositoryName() == null) {
+            return;
+        }
+        CompletableFuture<PreparedFork> pending = pendingForks.remove(plugin.getRepositoryName());
+        if (pending == null) {
+            return;
+        }
+        try {
+            PreparedFork prepared = pending.join();
+            if (prepared != null && prepared.created()) {
+                LOG.info("Deleting fork {} prepared ahead but not used", prepared.fork().getFullName());
+                prepared.fork().delete();
+            }
+        } catch (CompletionException e) {
+            LOG.debug("Fork prepared ahead failed for {}: {}", plugin, e.getMessage());
+        } catch (IOException e) {
+            LOG.warn("Unable to delete fork of {} prepared ahead: {}", plugin, e.getMessage());
+        }
+    }
+
+    /**
+     * Create the GitHub client preparing forks ahead of processing
+     *
+     * @return The client
+     */
+    private GitHub createForkClient() {
+        if (github == null) {
+            throw new ModernizerException("GitHub client must be connected.");
+        }
+        try {
+            GitHubBuilder builder = new GitHubBuilder()
+                    .withEndpoint(config.getGithubApiUrl().toString())
+                    .withConnector(BACKGROUND_CONNECTOR);
+            if (tokenManager != null) {
+                builder.withAuthorizationProvider(
+                        tokenManager.getAuthorizationProvider(config.getGithubAppSourceInstallationId()));
+            } else {
+                builder.withOAuthToken(Settings.GITHUB_TOKEN);
+            }
+            return builder.build();
+        } catch (IOException e) {
+            throw new ModernizerException("Failed to create the GitHub client preparing forks", e);
+        }
+    }
+
+    /**
+     * Create or sync the fork of a plugin and wait for it to be ready
+     *
+     * @param client The GitHub client preparing forks
+     * @param plugin The plugin
+     * @return The prepared fork or null if the plugin is archived
+     */
+    private PreparedFork prepareFork(GitHub client, Plugin plugin) {
+        try {
+            GHRepository originalRepo = client.getRepository(Settings.ORGANIZATION + "/" + plugin.getRepositoryName());
+            if (originalRepo.isArchived()) {
+                LOG.debug("Plugin {} is archived. Not preparing fork", plugin.getName());
+                return null;
+            }
+            GHOrganization organization = getOrganization(client);
+            GHRepository fork = organization != null
+                    ? getRepositoryFork(organization, originalRepo.getName())
+                    : getCurrentUser(client).getRepository(originalRepo.getName());
+            if (fork != null) {
+                checkSameParentRepository(plugin, originalRepo, fork);
+                syncRepository(fork);
+                LOG.debug("Synced existing fork {} ahead of processing", fork.getFullName());
+                return new PreparedFork(fork, false);
+            }
+            LOG.info("Forking the repository of {} ahead of processing...", plugin.getName());
+            return new PreparedFork(waitForFork(fork(originalRepo, organization)), true);
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+    }
+
+    /**
+     * Poll GitHub until the default branch of a newly created fork is available
+     *
+     * @param fork The fork
+     * @return The fork
+     * @throws IOException          If the fork cannot be retrieved
+     * @throws InterruptedException If the wait was interrupted
+     */
+    private GHRepository waitForFork(GHRepository fork) throws IOException, InterruptedException {
+        long deadline = System.nanoTime() + FORK_READY_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                fork.getRef("heads/" + fork.getDefaultBranch());
+                LOG.debug("Fork {} is ready", fork.getFullName());
                 return fork;
+            } catch (GHFileNotFoundException e) {
+                if (System.nanoTime() > deadline) {
+                    throw new IOException(
+                            "Fork %s was not ready after %s".formatted(fork.getFullName(), FORK_READY_TIMEOUT), e);
+                }
+                LOG.debug("Waiting for fork {} to be ready...", fork.getFullName());
+                Thread.sleep(FORK_READY_POLL_INTERVAL.toMillis());
             }
         }
     }
@@ -450,8 +740,19 @@ public class GHService {
      * @throws IOException If the organization access failed
      */
     private GHOrganization getOrganization() throws IOException {
+        return getOrganization(github);
+    }
+
+    /**
+     * Get the organization object for the given owner or null if the owner is not an organization
+     *
+     * @param client The GitHub client
+     * @return The GHOrganization object or null
+     * @throws IOException If the organization access failed
+     */
+    private GHOrganization getOrganization(GitHub client) throws IOException {
         try {
-            return github.getOrganization(getGithubOwner());
+            return client.getOrganization(getGithubOwner());
         } catch (GHFileNotFoundException e) {
             LOG.debug("Owner is not an organization: {}", config.getGithubOwner());
             return null;
@@ -768,6 +1069,81 @@ public class GHService {
         }
     }
 
+    /**
+     * Fetch only the last commit of the default branch of the original repository without any GitHub API call.
+     * An existing local repository is moved to a detached HEAD on that commit so its branches are kept.
+     *
+     * @param plugin The plugin
+     */
+    public void fetchShallow(Plugin plugin) {
+        if (plugin.isLocal()) {
+            LOG.info("Plugin {} is local. Not fetching repo", plugin);
+            return;
+        }
+        Path localRepository = plugin.getLocalRepository();
+        try {
+            URIish remoteUri = getHttpsRemoteUri(plugin);
+            if (Files.isDirectory(localRepository)) {
+                try (Git git = Git.open(localRepository.toFile())) {
+                    git.fetch()
+                            .setCredentialsProvider(getCredentialProvider())
+                            .setRemote(remoteUri.toString())
+                            .setRefSpecs(new RefSpec("HEAD"))
+                            .setDepth(1)
+                            .call();
+                    ObjectId fetchHead = git.getRepository().resolve("FETCH_HEAD");
+                    git.reset().setMode(ResetCommand.ResetType.HARD).call();
+                    git.checkout().setForced(true).setName(fetchHead.getName()).call();
+                    git.clean().setCleanDirectories(true).setDryRun(false).call();
+                    LOG.debug("Fetched last commit {} from {}", fetchHead.getName(), remoteUri);
+                }
+            } else {
+                try (Git git = Git.cloneRepository()
+                        .setCredentialsProvider(getCredentialProvider())
+                        .setRemote("origin")
+                        .setURI(remoteUri.toString())
+                        .setDirectory(localRepository.toFile())
+                        .setDepth(1)
+                        .call()) {
+                    LOG.debug("Shallow clone successfully from {}", remoteUri);
+                }
+            }
+        } catch (GitAPIException | URISyntaxException | IOException e) {
+            plugin.addError("Failed to fetch the repository", e);
+            plugin.raiseLastError();
+        }
+    }
+
+    /**
+     * Return the HTTPS URI of the original repository derived from the GitHub API URL
+     * @param plugin The plugin
+     * @return The remote URI
+     * @throws URISyntaxException If the URI is invalid
+     */
+    private URIish getHttpsRemoteUri(Plugin plugin) throws URISyntaxException {
+        String host = config.getGithubApiUrl().getHost().replaceFirst("^api\\.", "");
+        return new URIish("https://%s/%s/%s.git".formatted(host, Settings.ORGANIZATION, plugin.getRepositoryName()));
+    }
+
+    /**
+     * Get the commit currently checked out in the local repository
+     *
+     * @param plugin The plugin
+     * @param repoType The repo type
+     * @return The commit SHA or null if the repository has no commit
+     */
+    public String getHeadCommit(Plugin plugin, RepoType repoType) {
+        Path localRepository = repoType.getLocalRepository(plugin);
+        try (Git git = Git.open(localRepository.toFile())) {
+            ObjectId head = git.getRepository().resolve("HEAD");
+            return head != null ? head.getName() : null;
+        } catch (IOException e) {
+            plugin.addError("Failed to resolve HEAD commit for " + repoType.getType(), e);
+            plugin.raiseLastError();
+            return null;
+        }
+    }
+
     /**
      * Checkout the branch. Creates the branch if not exists
      *
@@ -919,12 +1295,22 @@ public class GHService {
             LOG.debug("Not able to get current user. GitHub client is not connected");
             return null;
         }
+        return getCurrentUser(github);
+    }
+
+    /**
+     * Get the current user of a GitHub client
+     *
+     * @param client The GitHub client
+     * @return The current user
+     */
+    private GHUser getCurrentUser(GitHub client) {
         try {
             // Get for token
             if (config.getGithubAppId() == null) {
                 if (System.getenv("GITHUB_ACTIONS") == null) {
                     LOG.debug("Getting current user using token...");
-                    return github.getMyself();
+                    return client.getMyself();
                 }
                 // Get the GitHub Actions user
                 else {
@@ -952,7 +1338,7 @@ public class GHService {
             else {
                 LOG.debug("Getting current user using GitHub App...");
                 LOG.debug("GitHub App name: {}", app.getName());
-                return github.getUser("%s[bot]".formatted(app.getName()));
+                return client.getUser("%s[bot]".formatted(app.getName()));
             }
         } catch (IOException e) {
             throw new ModernizerException("Failed to get current user", e);
@@ -0,0 +1,103 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Format of the files backing cache entries.
+ * The codec of an entry is chosen from the extension of its key.
+ */
+public enum CacheCodec {
+
+    /**
+     * Pretty printed JSON. Used for entries read by humans or committed to the metadata repository
+     */
+    JSON {
+        @Override
+        public void write(Object entry, OutputStream out) throws IOException {
+            writeJson(entry, out, true);
+        }
+
+        @Override
+        public <T> T read(InputStream in, Class<T> clazz) {
+            return readJson(in, clazz);
+        }
+    },
+
+    /**
+     * Compact JSON compressed with gzip. Used for large entries only read back by the tool
+     */
+    BINARY {
+        @Override
+        public void write(Object entry, OutputStream out) throws IOException {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, BUFFER_SIZE) {
+                {
+                    def.setLevel(Deflater.BEST_SPEED);
+                }
+            };
+            writeJson(entry, gzip, false);
+            gzip.finish();
+        }
+
+        @Override
+        public <T> T read(InputStream in, Class<T> clazz) throws IOException {
+            return readJson(new GZIPInputStream(in, BUFFER_SIZE), clazz);
+        }
+    };
+
+    /**
+     * Extension of keys stored with the {@link #BINARY} codec
+     */
+    public static final String BINARY_EXTENSION = ".gz";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Write an entry to the given stream. The stream is not closed
+     * @param entry The entry to write
+     * @param out The output stream
+     * @throws IOException If the entry cannot be written
+     */
+    public abstract void write(Object entry, OutputStream out) throws IOException;
+
+    /**
+     * Read an entry from the given stream. The stream is not closed
+     * @param in The input stream
+     * @param clazz The class of the entry
+     * @param <T> The type of the entry
+     * @return The entry
+     * @throws IOException If the entry cannot be read
+     */
+    public abstract <T> T read(InputStream in, Class<T> clazz) throws IOException;
+
+    /**
+     * Get the codec of a cache key
+     * @param key The cache key
+     * @return The codec
+     */
+    public static CacheCodec forKey(String key) {
+        return key.endsWith(BINARY_EXTENSION) ? BINARY : JSON;
+    }
+
+    private static void writeJson(Object entry, OutputStream out, boolean pretty) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        JsonUtils.toJson(entry, writer, pretty);
+        writer.flush();
+    }
+
+    private static <T> T readJson(InputStream in, Class<T> clazz) {
+        return JsonUtils.fromJson(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE), clazz);
+    }
+}
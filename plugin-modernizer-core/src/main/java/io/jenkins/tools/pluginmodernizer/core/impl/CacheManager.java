@@ -1,29 +1,41 @@
 package io.jenkins.tools.pluginmodernizer.core.impl;
 
+import com.google.gson.JsonIOException;
+import io.jenkins.tools.pluginmodernizer.core.jfr.CacheAccessEvent;
 import io.jenkins.tools.pluginmodernizer.core.model.CacheEntry;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
-import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.attribute.FileTime;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class CacheManager {
 
-    // Cache keys
-    public static final String UPDATE_CENTER_CACHE_KEY = "update-center.json";
-    public static final String PLUGIN_VERSIONS_CACHE_KEY = "plugin-versions.json";
-    public static final String HEALTH_SCORE_KEY = "health-score.json";
-    public static final String INSTALLATION_STATS_KEY = "plugin-installation-stats.json";
+    // Cache keys. Large entries only read by the tool are stored compressed (see CacheCodec)
+    public static final String UPDATE_CENTER_CACHE_KEY = "update-center.json.gz";
+    public static final String PLUGIN_VERSIONS_CACHE_KEY = "plugin-versions.json.gz";
+    public static final String HEALTH_SCORE_KEY = "health-score.json.gz";
+    public static final String INSTALLATION_STATS_KEY = "plugin-installation-stats.json.gz";
     public static final String PLUGIN_METADATA_CACHE_KEY = "plugin-metadata.json";
     public static final String MODERNIZATION_METADATA_CACHE_KEY = "modernization-metadata.json";
     public static final String OPT_OUT_PLUGINS_CACHE_KEY = "opt-out-plugins.json";
+
+    // Snapshot keys (see PluginSnapshot)
+    public static final String UPDATE_CENTER_SNAPSHOT_KEY = "update-center.snapshot";
     private static final Logger LOG = LoggerFactory.getLogger(CacheManager.class);
 
     private final Path location;
@@ -81,7 +93,9 @@ public class CacheManager {
     }
 
     /**
-     * Put an object to the cache
+     * Put an object to the cache.
+     * The entry is streamed to a temporary file which then replaces the cached file, so concurrent
+     * readers never see a partially written entry
      * @param entry The object to store
      */
     public void put(CacheEntry<? extends CacheEntry<?>> entry) {
@@ -92,7 +106,122 @@ public class CacheManager {
             throw new ModernizerException("Cache entry path is null");
         }
         Path fileToCache = location.resolve(entry.getPath()).resolve(entry.getKey());
-        JsonUtils.toJsonFile(entry, fileToCache);
+        CacheCodec codec = CacheCodec.forKey(entry.getKey());
+        LOG.debug("Writing cache entry to {} using {} codec", fileToCache, codec);
+        try {
+            writeAtomically(fileToCache, out -> codec.write(entry, out));
+        } catch (IOException | JsonIOException e) {
+            throw new ModernizerException("Failed to write cache entry for key: " + entry.getKey(), e);
+        }
+    }
+
+    /**
+     * Write a snapshot of records keyed by plugin name to the cache and map it
+     * @param path subdirectory of the snapshot
+     * @param cacheKey key of the snapshot
+     * @param records The records by plugin name
+     * @return The mapped snapshot
+     */
+    public PluginSnapshot putSnapshot(Path path, String cacheKey, Map<String, List<String>> records) {
+        Path fileToCache = location.resolve(path).resolve(cacheKey);
+        LOG.debug("Writing snapshot of {} records to {}", records.size(), fileToCache);
+        try {
+            writeAtomically(fileToCache, out -> PluginSnapshot.write(records, out));
+            return PluginSnapshot.open(fileToCache);
+        } catch (IOException e) {
+            throw new ModernizerException("Failed to write snapshot for key: " + cacheKey, e);
+        }
+    }
+
+    /**
+     * Map a snapshot from the cache.
+     * <p>
+     * Will return null if the key can't be found or if it hasn't been
+     * modified for 1 hour
+     *
+     * @param path     subdirectory of the snapshot
+     * @param cacheKey key to lookup
+     * @return the mapped snapshot or null
+     */
+    public PluginSnapshot getSnapshot(Path path, String cacheKey) {
+        Path cachedPath = location.resolve(path).resolve(cacheKey);
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.begin();
+        String result = CacheAccessEvent.MISS;
+        try {
+            if (isExpired(cachedPath, cacheKey, expires)) {
+                result = CacheAccessEvent.EXPIRED;
+                return null;
+            }
+            LOG.debug("Snapshot found for cache {} at path {} and key {}", location, path, cacheKey);
+            PluginSnapshot snapshot = PluginSnapshot.open(cachedPath);
+            result = CacheAccessEvent.HIT;
+            return snapshot;
+        } catch (NoSuchFileException e) {
+            LOG.debug("Snapshot not found for cache {} at path {} and key {}", location, path, cacheKey);
+            return null;
+        } catch (IOException e) {
+            throw new ModernizerException("Failed to read snapshot for key: " + cacheKey, e);
+        } finally {
+            commit(event, path, cacheKey, result);
+        }
+    }
+
+    /**
+     * Check if a cached file is missing or hasn't been modified for 1 hour.
+     * Lets long-lived holders of a mapped snapshot know when to map it again
+     *
+     * @param path     subdirectory of the entry
+     * @param cacheKey key to lookup
+     * @return true if the entry must be written again
+     */
+    public boolean isStale(Path path, String cacheKey) {
+        try {
+            return isExpired(location.resolve(path).resolve(cacheKey), cacheKey, expires);
+        } catch (NoSuchFileException e) {
+            return true;
+        } catch (IOException e) {
+            throw new ModernizerException("Failed to check cache entry for key: " + cacheKey, e);
+        }
+    }
+
+    /**
+     * Stream content to a temporary file which then replaces the target, so concurrent
+     * readers never see a partially written file
+     * @param target The file to write
+     * @param writer Writes the content
+     */
+    private static void writeAtomically(Path target, StreamWriter writer) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path tempFile = Files.createTempFile(directory, "." + target.getFileName(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                writer.write(out);
+            }
+            replace(tempFile, target);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Atomically replace a file, falling back to a plain replace on file systems without atomic moves
+     * @param source The file to move
+     * @param target The file to replace
+     */
+    private static void replace(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            LOG.debug("Atomic move not supported for {}. Replacing it", target);
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
     }
 
     /**
@@ -106,31 +235,87 @@ public class CacheManager {
      * @return the cached json object as a string or null
      */
     public <T extends CacheEntry<T>> T get(Path path, String cacheKey, Class<T> clazz) {
+        return get(path, cacheKey, clazz, expires);
+    }
+
+    /**
+     * Retrieves a json object from the cache regardless of its age.
+     * Used for entries recording the outcome of previous runs.
+     *
+     * @param path     subdirectory of the object
+     * @param cacheKey key to lookup
+     * @return the cached json object or null
+     */
+    public <T extends CacheEntry<T>> T getIgnoringExpiration(Path path, String cacheKey, Class<T> clazz) {
+        return get(path, cacheKey, clazz, false);
+    }
+
+    private <T extends CacheEntry<T>> T get(Path path, String cacheKey, Class<T> clazz, boolean expires) {
         Path cachedPath = location.resolve(path).resolve(cacheKey);
+        CacheAccessEvent event = new CacheAccessEvent();
+        event.begin();
+        String result = CacheAccessEvent.MISS;
         try {
-            FileTime lastModifiedTime = Files.getLastModifiedTime(cachedPath);
-            Duration between = Duration.between(lastModifiedTime.toInstant(), clock.instant());
-            long betweenHours = between.toHours();
-
-            if (betweenHours > 0L) {
-                LOG.debug(
-                        "Cache entry expired: {}{}",
-                        cacheKey,
-                        expires ? ". Will skip it" : ". Will accept it, because expiration is disabled");
-                if (expires) {
-                    return null;
-                }
+            if (isExpired(cachedPath, cacheKey, expires)) {
+                result = CacheAccessEvent.EXPIRED;
+                return null;
             }
             LOG.debug("Cache entry found for cache {} at path {} and key {}", location, path, cacheKey);
-            T entry = JsonUtils.fromJson(cachedPath, clazz);
+            T entry;
+            try (InputStream in = new BufferedInputStream(Files.newInputStream(cachedPath))) {
+                entry = CacheCodec.forKey(cacheKey).read(in, clazz);
+            }
             entry.setCacheManager(this);
+            result = CacheAccessEvent.HIT;
             return entry;
         } catch (NoSuchFileException e) {
             LOG.debug("Cache entry not found for cache {} at path {} and key {}", location, path, cacheKey);
             return null;
         } catch (IOException e) {
             throw new ModernizerException("Failed to read cache entry for key: " + cacheKey, e);
+        } finally {
+            commit(event, path, cacheKey, result);
+        }
+    }
+
+    /**
+     * Commit a cache access event if recorded
+     * @param event The event
+     * @param path The subdirectory of the entry
+     * @param cacheKey The cache key
+     * @param result The result of the lookup
+     */
+    private static void commit(CacheAccessEvent event, Path path, String cacheKey, String result) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path.toString();
+            event.key = cacheKey;
+            event.result = result;
+            event.commit();
+        }
+    }
+
+    /**
+     * Check if a cached file hasn't been modified for 1 hour
+     * @param cachedPath The cached file
+     * @param cacheKey The cache key
+     * @param expires Whether the cache expires
+     * @return True if the file must be skipped
+     * @throws NoSuchFileException If the file doesn't exist
+     */
+    private boolean isExpired(Path cachedPath, String cacheKey, boolean expires) throws IOException {
+        FileTime lastModifiedTime = Files.getLastModifiedTime(cachedPath);
+        Duration between = Duration.between(lastModifiedTime.toInstant(), clock.instant());
+        long betweenHours = between.toHours();
+
+        if (betweenHours > 0L) {
+            LOG.debug(
+                    "Cache entry expired: {}{}",
+                    cacheKey,
+                    expires ? ". Will skip it" : ". Will accept it, because expiration is disabled");
+            return expires;
         }
+        return false;
     }
 
     /**
@@ -3,12 +3,17 @@ package io.jenkins.tools.pluginmodernizer.core.impl;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.jfr.MavenInvocationEvent;
+import io.jenkins.tools.pluginmodernizer.core.jfr.RecipeRunEvent;
 import io.jenkins.tools.pluginmodernizer.core.model.JDK;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.PluginProcessingException;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
 import io.jenkins.tools.pluginmodernizer.core.utils.JdkFetcher;
+import io.jenkins.tools.pluginmodernizer.core.utils.Tracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import jakarta.inject.Inject;
 import java.io.BufferedReader;
 import java.io.IOException;
@@ -18,6 +23,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicReference;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.apache.maven.shared.invoker.DefaultInvocationRequest;
@@ -50,6 +57,11 @@ public class MavenInvoker {
     @Inject
     private Invoker invoker;
 
+    /**
+     * Maven home whose version was already validated, to not fork Maven again when the invoker is reused
+     */
+    private Path validatedMavenHome;
+
     /**
      * Get the maven version
      * @return The maven version
@@ -95,7 +107,7 @@ public class MavenInvoker {
      */
     public void collectMetadata(Plugin plugin) {
         LOG.info("Collecting metadata for plugin {}... Please be patient", plugin);
-        invokeGoals(plugin, getSingleRecipeArgs(Settings.FETCH_METADATA_RECIPE));
+        invokeRecipe(plugin, Settings.getFetchMetadataRecipe());
         LOG.info("Done");
     }
 
@@ -109,17 +121,39 @@ public class MavenInvoker {
                 "Running recipes {} for plugin {}... Please be patient",
                 config.getRecipe().getName(),
                 plugin);
-        invokeGoals(plugin, getSingleRecipeArgs(config.getRecipe()));
+        invokeRecipe(plugin, config.getRecipe());
         LOG.info("Done");
     }
 
+    /**
+     * Run a recipe on a plugin with the rewrite Maven plugin
+     * @param plugin The plugin
+     * @param recipe The recipe
+     */
+    private void invokeRecipe(Plugin plugin, Recipe recipe) {
+        RecipeRunEvent event = new RecipeRunEvent();
+        event.begin();
+        try {
+            invokeGoals(plugin, getSingleRecipeArgs(recipe));
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = plugin.getName();
+                event.recipe = recipe.getName();
+                event.inMemory = false;
+                event.changedFiles = -1;
+                event.commit();
+            }
+        }
+    }
+
     /**
      * Get the rewrite arguments to be executed for metadata collection
      * @return The list of arguments to be passed to the rewrite plugin
      */
     private String[] getSingleRecipeArgs(Recipe recipe) {
         List<String> goals = new ArrayList<>();
-        goals.add("org.openrewrite.maven:rewrite-maven-plugin:" + Settings.MAVEN_REWRITE_PLUGIN_VERSION + ":run");
+        goals.add("org.openrewrite.maven:rewrite-maven-plugin:" + Settings.getRewritePluginVersion() + ":run");
         goals.add("-Denforcer.skip=true");
         goals.add("-Dhpi.validate.skip=true");
         goals.add("-Dmaven.antrun.skip=true");
@@ -137,21 +171,33 @@ public class MavenInvoker {
      */
     private void invokeGoals(Plugin plugin, String... goals) {
         validatePom(plugin);
-        try {
+        MavenInvocationEvent event = new MavenInvocationEvent();
+        event.begin();
+        Span span = Tracing.startSpan("mvn " + goals[0])
+                .setAttribute(Tracing.PLUGIN, plugin.getName())
+                .setAttribute("maven.goals", String.join(" ", goals));
+        int exitCode = -1;
+        try (Scope scope = span.makeCurrent()) {
             InvocationRequest request = createInvocationRequest(plugin, goals);
+            List<String> mavenOpts = new ArrayList<>();
             JDK jdk = plugin.getJDK();
             if (jdk != null) {
                 Path jdkPath = jdk.getHome(jdkFetcher);
                 request.setJavaHome(jdkPath.toFile());
                 LOG.debug("JDK home: {}", jdkPath);
+                span.setAttribute("maven.jdk", jdk.getMajor());
 
                 // In order to rewrite on outdated plugins set add-opens
                 if (jdk.getMajor() >= 17) {
                     LOG.debug("Adding --add-opens for JDK 17+");
-                    request.setMavenOpts(
+                    mavenOpts.add(
                             "--add-opens java.base/java.lang=ALL-UNNAMED --add-opens java.base/java.io=ALL-UNNAMED --add-opens java.base/java.util=ALL-UNNAMED");
                 }
             }
+            mavenOpts.addAll(traceMavenBuild(request));
+            if (!mavenOpts.isEmpty()) {
+                request.setMavenOpts(String.join(" ", mavenOpts));
+            }
             request.setBatchMode(true);
             request.setNoTransferProgress(false);
             request.setErrorHandler((message) -> {
@@ -161,10 +207,52 @@ public class MavenInvoker {
                 LOG.info(plugin.getMarker(), message);
             });
             InvocationResult result = invoker.execute(request);
+            exitCode = result.getExitCode();
+            span.setAttribute("process.exit.code", exitCode);
+            if (exitCode != 0) {
+                Tracing.fail(span, "Maven exited with code " + exitCode);
+            }
             handleInvocationResult(plugin, result);
         } catch (MavenInvocationException | InterruptedException | IOException e) {
+            span.recordException(e);
+            Tracing.fail(span, e.getMessage());
             plugin.addError("Maven invocation failed", e);
+        } finally {
+            span.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = plugin.getName();
+                event.goals = String.join(" ", goals);
+                event.jdk = plugin.getJDK() != null ? plugin.getJDK().getMajor() : 0;
+                event.exitCode = exitCode;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Continue the current trace in a forked Maven build.
+     * The OpenTelemetry Maven extension reads the parent span from the TRACEPARENT environment variable and is
+     * configured with system properties, so the build and its mojos, like the rewrite plugin, attach to the
+     * current span.
+     * @param request The invocation request, receiving the trace context as environment variables
+     * @return The Maven options loading and configuring the extension, empty if Maven builds are not traced. The path
+     * of the extension is checked by {@link #validateMaven()} to contain no whitespace
+     */
+    private List<String> traceMavenBuild(InvocationRequest request) {
+        Map<String, String> traceContext = Tracing.traceContext();
+        if (traceContext.isEmpty() || config.getOtelMavenExtension() == null || config.getOtelEndpoint() == null) {
+            return List.of();
         }
+        traceContext.forEach((key, value) -> request.addShellEnvironment(key.toUpperCase(Locale.ROOT), value));
+        return List.of(
+                "-Dmaven.ext.class.path=" + config.getOtelMavenExtension().toAbsolutePath(),
+                "-Dotel.service.name=plugin-modernizer-maven",
+                "-Dotel.traces.exporter=otlp",
+                "-Dotel.metrics.exporter=none",
+                "-Dotel.logs.exporter=none",
+                "-Dotel.exporter.otlp.protocol=http/protobuf",
+                "-Dotel.exporter.otlp.endpoint=" + config.getOtelEndpoint());
     }
 
     /**
@@ -204,6 +292,20 @@ public class MavenInvoker {
         if (!Files.isDirectory(mavenLocalRepo)) {
             throw new ModernizerException("Invalid Maven local repository at '%s'.".formatted(mavenLocalRepo));
         }
+
+        // Passed in MAVEN_OPTS, which the mvn launcher splits on whitespace without honoring quotes
+        Path otelMavenExtension = config.getOtelMavenExtension();
+        if (otelMavenExtension != null) {
+            if (!Files.isRegularFile(otelMavenExtension)) {
+                throw new ModernizerException(
+                        "Invalid OpenTelemetry Maven extension at '%s'.".formatted(otelMavenExtension));
+            }
+            if (otelMavenExtension.toAbsolutePath().toString().chars().anyMatch(Character::isWhitespace)) {
+                throw new ModernizerException(
+                        "The path of the OpenTelemetry Maven extension '%s' must not contain whitespace."
+                                .formatted(otelMavenExtension.toAbsolutePath()));
+            }
+        }
     }
 
     @SuppressWarnings("OS_COMMAND_INJECTION")
@@ -328,6 +430,10 @@ public class MavenInvoker {
      * @throws IllegalArgumentException if the Maven version is too old or cannot be determined.
      */
     public void validateMavenVersion() {
+        Path mavenHome = getEffectiveMavenHome();
+        if (mavenHome.equals(validatedMavenHome)) {
+            return;
+        }
         ComparableVersion mavenVersion = getMavenVersion();
         LOG.debug("Maven version detected: {}", mavenVersion);
         if (mavenVersion == null) {
@@ -341,6 +447,7 @@ public class MavenInvoker {
                     Settings.MAVEN_MINIMAL_VERSION);
             throw new ModernizerException("Maven version is too old.");
         }
+        validatedMavenHome = mavenHome;
     }
 
     /**
@@ -0,0 +1,441 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
+import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import io.jenkins.tools.pluginmodernizer.core.model.JDK;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only aggregate of the plugin and modernization metadata of all plugins.
+ * Each table is a single tab separated file of the cache with one row per record. A header line starting with
+ * {@code #} names the columns of the following rows, so the whole ecosystem is queried column by column without
+ * parsing one JSON file per plugin. The last row of a plugin is its current state, older rows are its history.
+ */
+@SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "The path is the cache path")
+public class MetadataStore {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MetadataStore.class);
+
+    /**
+     * Directory of the store in the cache
+     */
+    public static final String STORE_DIRECTORY = "metadata-store";
+
+    private static final String HEADER_PREFIX = "#";
+
+    /**
+     * Tables of the store
+     */
+    public enum Table {
+        PLUGIN(
+                "plugin-metadata.tsv",
+                List.of(
+                        "timestamp",
+                        "plugin",
+                        "name",
+                        "parentVersion",
+                        "jenkinsVersion",
+                        "bomArtifactId",
+                        "bomVersion",
+                        "jdks",
+                        "platforms",
+                        "flags",
+                        "errors",
+                        "commonFiles",
+                        "useContainerAgent",
+                        "useContainerTests",
+                        "forkCount")),
+        MODERNIZATION(
+                "modernization-metadata.tsv",
+                List.of(
+                        "timestamp",
+                        "plugin",
+                        "repository",
+                        "pluginVersion",
+                        "migrationId",
+                        "migrationStatus",
+                        "dryRun",
+                        "jenkinsBaseline",
+                        "targetBaseline",
+                        "effectiveBaseline",
+                        "jenkinsVersion",
+                        "tags",
+                        "pullRequestUrl",
+                        "pullRequestStatus",
+                        "additions",
+                        "deletions",
+                        "changedFiles",
+                        "removedDeprecatedApis",
+                        "fingerprint"));
+
+        private final String fileName;
+        private final List<String> columns;
+
+        Table(String fileName, List<String> columns) {
+            this.fileName = fileName;
+            this.columns = columns;
+        }
+
+        public String getFileName() {
+            return fileName;
+        }
+
+        public List<String> getColumns() {
+            return columns;
+        }
+    }
+
+    /**
+     * Comparison operators of the filters
+     */
+    public enum Operator {
+        NOT_EQUALS("!="),
+        STARTS_WITH("^="),
+        CONTAINS("~="),
+        EQUALS("=");
+
+        private final String symbol;
+
+        Operator(String symbol) {
+            this.symbol = symbol;
+        }
+
+        public String getSymbol() {
+            return symbol;
+        }
+    }
+
+    /**
+     * A filter on a column. Values of list columns are compared to each element of the list
+     * @param column The column name
+     * @param operator The operator
+     * @param value The value to compare to
+     */
+    public record Filter(String column, Operator operator, String value) {
+
+        /**
+         * Parse a filter expression like {@code parentVersion^=4.}
+         * @param expression The expression
+         * @return The filter
+         */
+        public static Filter parse(String expression) {
+            for (Operator operator : Operator.values()) {
+                int index = expression.indexOf(operator.getSymbol());
+                if (index > 0) {
+                    return new Filter(
+                            expression.substring(0, index).trim(),
+                            operator,
+                            expression.substring(index + operator.getSymbol().length()));
+                }
+            }
+            throw new ModernizerException("Invalid filter " + expression + ". Expected <column><operator><value> with "
+                    + Arrays.stream(Operator.values())
+                            .map(Operator::getSymbol)
+                            .collect(Collectors.joining(" ")));
+        }
+
+        /**
+         * Check if a cell matches the filter
+         * @param cell The cell value
+         * @return True if the cell matches
+         */
+        public boolean test(String cell) {
+            List<String> candidates = new ArrayList<>();
+            candidates.add(cell);
+            if (cell.contains(",")) {
+                candidates.addAll(Arrays.asList(cell.split(",")));
+            }
+            return switch (operator) {
+                case EQUALS -> candidates.contains(value);
+                case NOT_EQUALS -> !candidates.contains(value);
+                case STARTS_WITH -> candidates.stream().anyMatch(candidate -> candidate.startsWith(value));
+                case CONTAINS -> cell.contains(value);
+            };
+        }
+    }
+
+    /**
+     * Result of a query
+     * @param columns The selected columns
+     * @param rows The rows with a value for each selected column
+     */
+    public record Result(List<String> columns, List<List<String>> rows) {}
+
+    /**
+     * The store directory
+     */
+    private final Path directory;
+
+    /**
+     * Header last written in each table
+     */
+    private final Map<Table, String> headers = new EnumMap<>(Table.class);
+
+    /**
+     * Create a store in the given cache
+     * @param cachePath The cache path
+     */
+    public MetadataStore(Path cachePath) {
+        this.directory = cachePath.resolve(STORE_DIRECTORY);
+    }
+
+    /**
+     * Get the file of a table
+     * @param table The table
+     * @return The file
+     */
+    public Path getFile(Table table) {
+        return directory.resolve(table.getFileName());
+    }
+
+    /**
+     * Append plugin metadata
+     * @param plugin The plugin name
+     * @param metadata The metadata
+     */
+    public void append(String plugin, PluginMetadata metadata) {
+        append(
+                Table.PLUGIN,
+                Arrays.asList(
+                        Instant.now(),
+                        plugin,
+                        metadata.getPluginName(),
+                        metadata.getParentVersion(),
+                        metadata.getJenkinsVersion(),
+                        metadata.getBomArtifactId(),
+                        metadata.getBomVersion(),
+                        join(metadata.getJdks().stream().map(JDK::getMajor).toList()),
+                        join(metadata.getPlatforms()),
+                        join(metadata.getFlags()),
+                        join(metadata.getErrors()),
+                        join(metadata.getCommonFiles()),
+                        metadata.isUseContainerAgent(),
+                        metadata.isUseContainerTests(),
+                        metadata.getForkCount()));
+    }
+
+    /**
+     * Append modernization metadata
+     * @param plugin The plugin name
+     * @param metadata The metadata
+     */
+    public void append(String plugin, ModernizationMetadata metadata) {
+        append(
+                Table.MODERNIZATION,
+                Arrays.asList(
+                        Instant.now(),
+                        plugin,
+                        metadata.getPluginRepository(),
+                        metadata.getPluginVersion(),
+                        metadata.getMigrationId(),
+                        metadata.getMigrationStatus(),
+                        metadata.getDryRun(),
+                        metadata.getJenkinsBaseline(),
+                        metadata.getTargetBaseline(),
+                        metadata.getEffectiveBaseline(),
+                        metadata.getJenkinsVersion(),
+                        join(metadata.getTags()),
+                        metadata.getPullRequestUrl(),
+                        metadata.getPullRequestStatus(),
+                        metadata.getAdditions(),
+                        metadata.getDeletions(),
+                        metadata.getChangedFiles(),
+                        metadata.getRemovedDeprecatedApis(),
+                        metadata.getFingerprint()));
+    }
+
+    /**
+     * Append a row. The store is a report and never fails the processing of a plugin
+     * @param table The table
+     * @param values The values in the order of the table columns
+     */
+    private synchronized void append(Table table, List<Object> values) {
+        Path file = getFile(table);
+        String header = HEADER_PREFIX + String.join("\t", table.getColumns());
+        StringBuilder out = new StringBuilder();
+        try {
+            Files.createDirectories(directory);
+            try (FileChannel channel = FileChannel.open(
+                            file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+                    FileLock ignored = channel.lock()) {
+                // Columns may have changed since the file was written
+                if (!header.equals(headers.computeIfAbsent(table, this::readLastHeader))) {
+                    out.append(header).append('\n');
+                    headers.put(table, header);
+                }
+                out.append(values.stream().map(MetadataStore::escape).collect(Collectors.joining("\t")))
+                        .append('\n');
+                channel.write(ByteBuffer.wrap(out.toString().getBytes(StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            LOG.warn("Unable to append to metadata store {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Query a table
+     * @param table The table
+     * @param filters The filters all rows must match
+     * @param columns The columns to select or empty for all columns
+     * @param history True to return all rows, false to return only the last row of each plugin
+     * @return The result
+     */
+    public Result query(Table table, List<Filter> filters, List<String> columns, boolean history) {
+        List<String> selected = columns.isEmpty() ? table.getColumns() : columns;
+        for (String column : selected) {
+            checkColumn(table, column);
+        }
+        for (Filter filter : filters) {
+            checkColumn(table, filter.column());
+        }
+        int plugin = table.getColumns().indexOf("plugin");
+        Map<String, String[]> latest = new LinkedHashMap<>();
+        List<String[]> rows = new ArrayList<>();
+        for (String[] row : read(table)) {
+            if (history) {
+                rows.add(row);
+            } else {
+                latest.remove(row[plugin]);
+                latest.put(row[plugin], row);
+            }
+        }
+        if (!history) {
+            rows.addAll(latest.values());
+        }
+        int[] projection = selected.stream().mapToInt(table.getColumns()::indexOf).toArray();
+        List<List<String>> result = new ArrayList<>();
+        for (String[] row : rows) {
+            if (filters.stream().allMatch(filter -> filter.test(row[table.getColumns().indexOf(filter.column())]))) {
+                result.add(Arrays.stream(projection).mapToObj(i -> row[i]).toList());
+            }
+        }
+        return new Result(selected, result);
+    }
+
+    /**
+     * Read all rows of a table aligned on the current columns. Columns unknown to a row are empty
+     * @param table The table
+     * @return The rows
+     */
+    private List<String[]> read(Table table) {
+        Path file = getFile(table);
+        List<String[]> rows = new ArrayList<>();
+        if (!Files.isRegularFile(file)) {
+            return rows;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            int[] mapping = identity(table.getColumns().size());
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] cells = line.split("\t", -1);
+                if (line.startsWith(HEADER_PREFIX)) {
+                    cells[0] = cells[0].substring(HEADER_PREFIX.length());
+                    List<String> names = Arrays.asList(cells);
+                    mapping = table.getColumns().stream().mapToInt(names::indexOf).toArray();
+                    continue;
+                }
+                String[] row = new String[mapping.length];
+                for (int i = 0; i < mapping.length; i++) {
+                    row[i] = mapping[i] >= 0 && mapping[i] < cells.length ? unescape(cells[mapping[i]]) : "";
+                }
+                rows.add(row);
+            }
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to read metadata store " + file, e);
+        }
+        return rows;
+    }
+
+    private String readLastHeader(Table table) {
+        Path file = getFile(table);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return reader.lines()
+                    .filter(line -> line.startsWith(HEADER_PREFIX))
+                    .reduce((first, second) -> second)
+                    .orElse("");
+        } catch (IOException e) {
+            return "";
+        }
+    }
+
+    private static void checkColumn(Table table, String column) {
+        if (!table.getColumns().contains(column)) {
+            throw new ModernizerException(
+                    "Unknown column " + column + ". Available columns: " + String.join(", ", table.getColumns()));
+        }
+    }
+
+    private static int[] identity(int size) {
+        int[] mapping = new int[size];
+        Arrays.setAll(mapping, i -> i);
+        return mapping;
+    }
+
+    /**
+     * Join the values of a collection in their natural order
+     * @param values The values
+     * @return The comma separated values
+     */
+    private static String join(Collection<? extends Comparable<?>> values) {
+        if (values == null) {
+            return "";
+        }
+        return values.stream().sorted().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static String escape(Object value) {
+        return Objects.toString(value, "")
+                .replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder out = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' && i + 1 < value.length()) {
+                char next = value.charAt(++i);
+                out.append(
+                        switch (next) {
+                            case 't' -> '\t';
+                            case 'n' -> '\n';
+                            case 'r' -> '\r';
+                            default -> next;
+                        });
+            } else {
+                out.append(c);
+            }
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,355 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import io.jenkins.tools.pluginmodernizer.core.config.Config;
+import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import io.jenkins.tools.pluginmodernizer.core.github.GHService;
+import io.jenkins.tools.pluginmodernizer.core.jfr.RecipeRunEvent;
+import io.jenkins.tools.pluginmodernizer.core.model.JDK;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.recipes.CountDeprecatedMethodUsages;
+import io.jenkins.tools.pluginmodernizer.core.utils.JdkFetcher;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
+import jakarta.inject.Inject;
+import java.nio.file.Path;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.Tree;
+import org.openrewrite.TreeVisitor;
+import org.openrewrite.config.Environment;
+import org.openrewrite.internal.InMemoryLargeSourceSet;
+import org.openrewrite.marker.SearchResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Run read-only recipes on many plugins in parallel and aggregate their results into a single report.
+ * Unlike {@link PluginModernizer} nothing is compiled, forked or pushed. Each plugin is shallow fetched then its
+ * sources are parsed and the recipe is run in memory. Changes made by the recipe are never written.
+ * Java sources are attributed only with the dependencies already present in the local Maven repository.
+ */
+@SuppressFBWarnings(value = "CRLF_INJECTION_LOGS", justification = "safe because plugin names from update center")
+public class PluginAnalyzer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(PluginAnalyzer.class);
+
+    /**
+     * Directory of the reports in the cache
+     */
+    public static final String ANALYSIS_DIRECTORY = "analysis";
+
+    @Inject
+    private Config config;
+
+    @Inject
+    private MavenInvoker mavenInvoker;
+
+    @Inject
+    private GHService ghService;
+
+    @Inject
+    private PluginService pluginService;
+
+    @Inject
+    private CacheManager cacheManager;
+
+    @Inject
+    private JdkFetcher jdkFetcher;
+
+    @Inject
+    private MetadataStore metadataStore;
+
+    /**
+     * Result of the analysis of a plugin
+     * @param plugin The plugin name
+     * @param matches Number of elements marked by the recipe
+     * @param files Source paths marked or changed by the recipe, sorted
+     * @param metadata The collected metadata when the recipe is FetchMetadata
+     * @param deprecatedUsages The usages of deprecated methods by method and file when the recipe counts them
+     * @param error The error message if the analysis failed
+     * @param durationMillis Duration of the analysis
+     */
+    public record PluginResult(
+            String plugin,
+            int matches,
+            List<String> files,
+            PluginMetadata metadata,
+            CountDeprecatedMethodUsages.Report deprecatedUsages,
+            String error,
+            long durationMillis) {
+
+        /**
+         * If the recipe marked or changed anything
+         * @return True if matched
+         */
+        public boolean isMatched() {
+            return matches > 0 || !files.isEmpty() || metadata != null;
+        }
+
+        /**
+         * If the analysis failed
+         * @return True if failed
+         */
+        public boolean isFailed() {
+            return error != null;
+        }
+    }
+
+    /**
+     * Aggregated results of an analysis
+     * @param recipe The recipe name
+     * @param startedAt Start of the analysis
+     * @param durationMillis Duration of the analysis
+     * @param analyzed Number of plugins analyzed
+     * @param matched Number of plugins matched
+     * @param failed Number of plugins failed
+     * @param results Results by plugin, sorted by plugin name
+     */
+    public record Report(
+            String recipe,
+            String startedAt,
+            long durationMillis,
+            int analyzed,
+            int matched,
+            int failed,
+            List<PluginResult> results) {
+
+        /**
+         * Aggregate the results of the plugins
+         * @param recipe The recipe name
+         * @param startedAt Start of the analysis
+         * @param durationMillis Duration of the analysis
+         * @param results The results
+         * @return The report
+         */
+        public static Report of(String recipe, String startedAt, long durationMillis, List<PluginResult> results) {
+            List<PluginResult> sorted = results.stream()
+                    .sorted(Comparator.comparing(PluginResult::plugin))
+                    .toList();
+            return new Report(
+                    recipe,
+                    startedAt,
+                    durationMillis,
+                    sorted.size(),
+                    (int) sorted.stream().filter(PluginResult::isMatched).count(),
+                    (int) sorted.stream().filter(PluginResult::isFailed).count(),
+                    sorted);
+        }
+    }
+
+    /**
+     * Analyze the plugins and write the report in the cache
+     * @return The report
+     */
+    public Report analyze() {
+        if (config.getRecipe() == null) {
+            throw new ModernizerException("A recipe is required to analyze plugins");
+        }
+        boolean fetchMetadata = config.isFetchMetadataOnly();
+        if (fetchMetadata && config.getRecipe().isComposite()) {
+            throw new ModernizerException("FetchMetadata cannot be combined with other recipes in analysis mode");
+        }
+        cacheManager.init();
+        ZonedDateTime startedAt = ZonedDateTime.now(ZoneId.of("UTC"));
+        long start = System.nanoTime();
+
+        // Resolve plugins sequentially, update center data is shared
+        List<Plugin> plugins = new ArrayList<>();
+        List<Plugin> candidates = config.getTopPluginsCount() > 0
+                ? pluginService.getTopPlugins(config.getTopPluginsCount())
+                : config.getPlugins();
+        for (Plugin plugin : candidates) {
+            plugin.withConfig(config);
+            if (!plugin.isLocal() && !pluginService.existsInUpdateCenter(plugin)) {
+                LOG.info("Plugin {} not found in update center. Skipping.", plugin.getName());
+                continue;
+            }
+            if (!plugin.isLocal()) {
+                plugin.withRepositoryName(pluginService.extractRepoName(plugin));
+            }
+            plugins.add(plugin);
+        }
+
+        // Maven is only needed when metadata cannot be collected statically
+        Environment environment = null;
+        if (fetchMetadata) {
+            if (!JDK.JAVA_25.isProvided()) {
+                jdkFetcher.provision(List.of(JDK.JAVA_25.getMajor()));
+            }
+        } else {
+            environment = Environment.builder().scanRuntimeClasspath().build();
+        }
+
+        int threads = Math.max(1, Math.min(config.getParallelism(), plugins.size()));
+        LOG.info(
+                "Analyzing {} plugins with recipe {} using {} threads",
+                plugins.size(),
+                config.getRecipe().getName(),
+                threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<PluginResult> results = new ArrayList<>();
+        try {
+            List<Future<PluginResult>> futures = new ArrayList<>();
+            for (Plugin plugin : plugins) {
+                Environment env = environment;
+                futures.add(executor.submit(() -> analyze(plugin, env)));
+            }
+            for (Future<PluginResult> future : futures) {
+                results.add(future.get());
+                LOG.debug("Analyzed {}/{} plugins", results.size(), futures.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModernizerException("Analysis interrupted", e);
+        } catch (ExecutionException e) {
+            throw new ModernizerException("Analysis failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Report report = Report.of(
+                config.getRecipe().getName(),
+                startedAt.toString(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                results);
+        Path reportFile = config.getCachePath()
+                .resolve(ANALYSIS_DIRECTORY)
+                .resolve(startedAt.format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss")) + ".json");
+        JsonUtils.toJsonFile(report, reportFile);
+        LOG.info(
+                "Analyzed {} plugins in {} ms: {} matched, {} failed. Report written to {}",
+                report.analyzed(),
+                report.durationMillis(),
+                report.matched(),
+                report.failed(),
+                reportFile);
+        return report;
+    }
+
+    /**
+     * Analyze a single plugin. Failures are reported in the result
+     * @param plugin The plugin
+     * @param environment The environment to load the recipe from or null to fetch metadata
+     * @return The result
+     */
+    private PluginResult analyze(Plugin plugin, Environment environment) {
+        long start = System.nanoTime();
+        try {
+            ghService.fetchShallow(plugin);
+            if (environment == null) {
+                plugin.withJDK(JDK.JAVA_25);
+                plugin.collectMetadata(mavenInvoker);
+                if (plugin.hasErrors()) {
+                    plugin.raiseLastError();
+                }
+                plugin.copyMetadata(cacheManager);
+                metadataStore.append(plugin.getName(), plugin.getMetadata());
+                return new PluginResult(
+                        plugin.getName(), 0, List.of(), plugin.getMetadata(), null, null, elapsed(start));
+            }
+
+            ExecutionContext ctx = new InMemoryExecutionContext(
+                    t -> LOG.debug("Error while analyzing plugin {}: {}", plugin.getName(), t.getMessage()));
+            List<SourceFile> sources =
+                    new SourceParser(config.getMavenLocalRepo()).parse(plugin.getLocalRepository(), ctx);
+
+            // Recipes may hold state, a new instance is used for each plugin
+            Recipe recipe = environment.activateRecipes(config.getRecipe().getName().split(","));
+            int matches = 0;
+            Set<String> files = new TreeSet<>();
+            RecipeRunEvent event = new RecipeRunEvent();
+            event.begin();
+            List<org.openrewrite.Result> results =
+                    recipe.run(new InMemoryLargeSourceSet(sources), ctx).getChangeset().getAllResults();
+            event.end();
+            for (org.openrewrite.Result result : results) {
+                SourceFile after = result.getAfter();
+                if (after == null) {
+                    files.add(result.getBefore().getSourcePath().toString());
+                    continue;
+                }
+                files.add(after.getSourcePath().toString());
+                matches += countSearchResults(after);
+            }
+            if (event.shouldCommit()) {
+                event.plugin = plugin.getName();
+                event.recipe = config.getRecipe().getName();
+                event.inMemory = true;
+                event.changedFiles = files.size();
+                event.commit();
+            }
+            CountDeprecatedMethodUsages.Report deprecatedUsages = findRecipe(recipe, CountDeprecatedMethodUsages.class)
+                    .map(CountDeprecatedMethodUsages::getReport)
+                    .orElse(null);
+            LOG.debug("Plugin {} analyzed with {} matches in {} files", plugin.getName(), matches, files.size());
+            return new PluginResult(
+                    plugin.getName(), matches, List.copyOf(files), null, deprecatedUsages, null, elapsed(start));
+        } catch (RuntimeException e) {
+            LOG.warn("Failed to analyze plugin {}: {}", plugin.getName(), e.getMessage());
+            LOG.debug("Analysis failure of plugin {}", plugin.getName(), e);
+            String error = String.valueOf(e.getMessage());
+            return new PluginResult(plugin.getName(), 0, List.of(), null, null, error, elapsed(start));
+        }
+    }
+
+    /**
+     * Find a recipe of the given type among an activated recipe and the recipes it contains
+     * @param recipe The activated recipe
+     * @param type The recipe type
+     * @return The first recipe of the type if any
+     */
+    static <T extends Recipe> Optional<T> findRecipe(Recipe recipe, Class<T> type) {
+        if (type.isInstance(recipe)) {
+            return Optional.of(type.cast(recipe));
+        }
+        for (Recipe child : recipe.getRecipeList()) {
+            Optional<T> found = findRecipe(child, type);
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Count the elements of a source file marked as search results
+     * @param sourceFile The source file
+     * @return The number of search results
+     */
+    static int countSearchResults(SourceFile sourceFile) {
+        AtomicInteger count = new AtomicInteger();
+        new TreeVisitor<Tree, AtomicInteger>() {
+            @Override
+            public Tree preVisit(Tree tree, AtomicInteger count) {
+                if (tree.getMarkers().findFirst(SearchResult.class).isPresent()) {
+                    count.incrementAndGet();
+                }
+                return tree;
+            }
+        }.visit(sourceFile, count);
+        return count.get();
+    }
+
+    private static long elapsed(long start) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+}
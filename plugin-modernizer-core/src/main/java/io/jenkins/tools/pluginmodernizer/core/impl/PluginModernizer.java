@@ -11,12 +11,31 @@ import io.jenkins.tools.pluginmodernizer.core.model.JDK;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.PluginProcessingException;
+import io.jenkins.tools.pluginmodernizer.core.model.PluginStage;
 import io.jenkins.tools.pluginmodernizer.core.model.RepoType;
+import io.jenkins.tools.pluginmodernizer.core.model.Shard;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import io.jenkins.tools.pluginmodernizer.core.utils.FingerprintUtils;
+import io.jenkins.tools.pluginmodernizer.core.utils.JdkFetcher;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginMetrics;
 import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
 import io.jenkins.tools.pluginmodernizer.core.utils.StaticPomParser;
+import io.jenkins.tools.pluginmodernizer.core.utils.Tracing;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
 import jakarta.inject.Inject;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,10 +59,29 @@ public class PluginModernizer {
     @Inject
     private CacheManager cacheManager;
 
+    @Inject
+    private JdkFetcher jdkFetcher;
+
+    @Inject
+    private MetadataStore metadataStore;
+
+    /**
+     * Journal of the current run. Volatile as the run can be followed from other threads
+     */
+    private volatile RunJournal journal = RunJournal.inMemory();
+
+    /**
+     * Notified with the run ID once the run journal is created
+     */
+    private Consumer<String> runListener = runId -> {};
+
     /**
      * Validate the configuration
      */
     public void validate() {
+        if (config.isFetchMetadataOnly() && config.getRecipe().isComposite()) {
+            throw new ModernizerException("FetchMetadata cannot be combined with other recipes");
+        }
         mavenInvoker.validateMaven();
         mavenInvoker.validateMavenVersion();
         if (!ghService.isConnected()) {
@@ -56,7 +94,7 @@ public class PluginModernizer {
      * List available recipes
      */
     public void listRecipes() {
-        Settings.AVAILABLE_RECIPES.stream()
+        Settings.getAvailableRecipes().stream()
                 .sorted()
                 .forEach(recipe -> LOG.info(
                         "{} - {}",
@@ -114,6 +152,22 @@ public class PluginModernizer {
         return config.getMavenLocalRepo().toString();
     }
 
+    /**
+     * Expose the ID of the current run
+     * @return The run ID or null if no run was started
+     */
+    public String getRunId() {
+        return journal.getRunId();
+    }
+
+    /**
+     * Be notified of the run ID once the run journal is created, before any plugin is processed
+     * @param runListener The listener
+     */
+    public void onRunStarted(Consumer<String> runListener) {
+        this.runListener = runListener;
+    }
+
     /**
      * Expose the effective cache path
      * @return The cache path
@@ -163,10 +217,23 @@ public class PluginModernizer {
         LOG.debug("Maven Home: {}", config.getMavenHome());
         LOG.debug("Maven Local Repository: {}", config.getMavenLocalRepo());
         LOG.debug("Dry Run: {}", config.isDryRun());
-        LOG.debug("Maven rewrite plugin version: {}", Settings.MAVEN_REWRITE_PLUGIN_VERSION);
+        LOG.debug("Maven rewrite plugin version: {}", Settings.getRewritePluginVersion());
+
+        // Create or resume the run journal
+        if (config.getResumeRunId() != null) {
+            journal = RunJournal.resume(config.getCachePath(), config.getResumeRunId());
+            LOG.info("Resuming run {} from journal {}", journal.getRunId(), journal.getFile());
+        } else {
+            journal = RunJournal.create(config.getCachePath());
+            LOG.info(
+                    "Run ID: {}. Use --resume {} to resume this run if interrupted",
+                    journal.getRunId(),
+                    journal.getRunId());
+        }
+        runListener.accept(journal.getRunId());
 
-        // Fetch plugin versions
-        pluginService.getPluginVersionData();
+        // Fetch the plugin versions and map the update center, again if it expired since a previous run
+        pluginService.loadSnapshots();
 
         List<Plugin> plugins;
         if (config.getTopPluginsCount() > 0) {
@@ -179,8 +246,224 @@ public class PluginModernizer {
         } else {
             plugins = config.getPlugins();
         }
-        plugins.forEach(this::process);
-        printResults(plugins);
+        if (config.getShard() != null) {
+            plugins = selectShard(plugins);
+        }
+        long start = System.nanoTime();
+        Span span = Tracing.startSpan("plugin-modernizer run")
+                .setAttribute(Tracing.RUN_ID, journal.getRunId())
+                .setAttribute(Tracing.RECIPE, config.getRecipe().getName());
+        try (Scope scope = span.makeCurrent()) {
+            if (config.isPreFork() && config.getQueuePath() == null) {
+                preFork(plugins);
+            }
+            provisionJdks(plugins);
+            if (config.getQueuePath() != null) {
+                plugins = processFromQueue(plugins);
+            } else {
+                plugins.forEach(this::processInSpan);
+            }
+            printResults(plugins);
+            printMetrics(plugins);
+            writeReport(plugins, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        } finally {
+            span.end();
+        }
+    }
+
+    /**
+     * Select the plugins of the configured shard
+     * @param plugins All plugins of the run
+     * @return The plugins of the shard
+     */
+    private List<Plugin> selectShard(List<Plugin> plugins) {
+        Shard shard = config.getShard();
+        List<Plugin> selected;
+        if (config.isShardByDuration()) {
+            selected = shard.select(plugins, this::getPreviousDuration);
+        } else {
+            selected = shard.select(plugins);
+        }
+        LOG.info(
+                "Shard {} will process {} of {} plugins: {}",
+                shard,
+                selected.size(),
+                plugins.size(),
+                selected.stream().map(Plugin::getName).toList());
+        return selected;
+    }
+
+    /**
+     * Process the plugins claimed from the work queue shared with other runners, until all plugins are done
+     * @param plugins All plugins of the run
+     * @return The plugins processed by this runner
+     */
+    private List<Plugin> processFromQueue(List<Plugin> plugins) {
+        List<Plugin> processed = new ArrayList<>();
+        try (WorkQueue queue = new WorkQueue(config.getQueuePath(), config.getLeaseDuration())) {
+            List<Plugin> remaining = plugins;
+            while (!remaining.isEmpty()) {
+                boolean claimed = false;
+                for (Plugin plugin : remaining) {
+                    if (queue.claim(plugin.getName())) {
+                        claimed = true;
+                        processInSpan(plugin);
+                        queue.complete(plugin.getName(), getOutcome(plugin));
+                        processed.add(plugin);
+                    }
+                }
+                remaining = remaining.stream()
+                        .filter(plugin -> !queue.isDone(plugin.getName()))
+                        .toList();
+                if (!claimed && !remaining.isEmpty()) {
+                    // Leased by other runners. Wait for them to complete or for their leases to expire
+                    LOG.debug(
+                            "Waiting for {} plugins leased by other workers: {}",
+                            remaining.size(),
+                            remaining.stream().map(Plugin::getName).toList());
+                    waitFor(queue.getPollInterval());
+                }
+            }
+            LOG.info("Worker {} processed {} of {} plugins", queue.getWorker(), processed.size(), plugins.size());
+        }
+        return processed;
+    }
+
+    /**
+     * Wait before polling the work queue again
+     * @param duration The duration to wait
+     */
+    private static void waitFor(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ModernizerException("Interrupted while waiting for the work queue", e);
+        }
+    }
+
+    /**
+     * Get the outcome of a plugin from the journal
+     * @param plugin The plugin
+     * @return The outcome of its last journal entry, or skipped if not recorded
+     */
+    private String getOutcome(Plugin plugin) {
+        return journal.getLastEntry(plugin.getName())
+                .map(RunJournal.Entry::outcome)
+                .orElse(RunJournal.OUTCOME_SKIPPED);
+    }
+
+    /**
+     * Get the duration of the previous processing of a plugin from its cached modernization metadata
+     * @param plugin The plugin
+     * @return The duration in milliseconds or -1 if unknown
+     */
+    private long getPreviousDuration(Plugin plugin) {
+        ModernizationMetadata previous = cacheManager.getIgnoringExpiration(
+                Path.of(plugin.getName()), CacheManager.MODERNIZATION_METADATA_CACHE_KEY, ModernizationMetadata.class);
+        if (previous == null
+                || previous.getStageMetrics() == null
+                || previous.getStageMetrics().isEmpty()) {
+            return -1;
+        }
+        return previous.getStageMetrics().values().stream()
+                .mapToLong(StageMetrics::wallMillis)
+                .sum();
+    }
+
+    /**
+     * Write the report of the run next to its journal. Reports of the shards can be merged with the merge command
+     * @param plugins The plugins
+     * @param wallMillis The duration of the run
+     */
+    private void writeReport(List<Plugin> plugins, long wallMillis) {
+        if (journal.getFile() == null) {
+            return;
+        }
+        List<RunReport.PluginResult> results = plugins.stream()
+                .map(plugin -> new RunReport.PluginResult(
+                        plugin.getName(),
+                        journal.getRunId(),
+                        getOutcome(plugin),
+                        plugin.getPullRequestUrl(),
+                        plugin.getErrors().stream()
+                                .map(PluginProcessingException::getMessage)
+                                .toList(),
+                        new LinkedHashMap<>(plugin.getStageMetrics()),
+                        plugin.getModernizationMetadata()))
+                .toList();
+        Shard shard = config.getShard();
+        RunReport report = RunReport.of(
+                new RunReport.ShardResult(
+                        journal.getRunId(), shard != null ? shard.toString() : null, plugins.size(), wallMillis),
+                results);
+        Path file = journal.getFile().resolveSibling(RunReport.REPORT_FILE);
+        report.write(file);
+        LOG.info("Run report written to {}", file.toAbsolutePath());
+    }
+
+    /**
+     * Download in parallel the JDKs the run will need: the JDK running OpenRewrite and the JDKs of the plugins
+     * with cached metadata. Other JDKs are still downloaded on demand.
+     * @param plugins The plugins
+     */
+    private void provisionJdks(List<Plugin> plugins) {
+        Set<JDK> jdks = EnumSet.of(JDK.JAVA_25);
+        if (!config.isFetchMetadataOnly() && !config.isSkipVerification()) {
+            for (Plugin plugin : plugins) {
+                PluginMetadata metadata = cacheManager.get(
+                        Path.of(plugin.getName()), CacheManager.PLUGIN_METADATA_CACHE_KEY, PluginMetadata.class);
+                if (metadata != null && metadata.getJdks() != null) {
+                    jdks.addAll(metadata.getJdks());
+                }
+            }
+        }
+        jdkFetcher.provision(jdks.stream()
+                .filter(jdk -> !jdk.isProvided())
+                .map(JDK::getMajor)
+                .toList());
+    }
+
+    /**
+     * Start preparing forks for all candidate plugins so that fork creation latency is paid upfront and in parallel
+     * @param plugins The plugins
+     */
+    private void preFork(List<Plugin> plugins) {
+        boolean overrideOptOut = config.isOverrideOptOutPlugins();
+        Set<String> optOutPlugins = overrideOptOut
+                ? Set.of()
+                : Set.copyOf(pluginService.getOptOutPluginsData().getOptedOutPlugins());
+        List<Plugin> candidates = plugins.stream()
+                .filter(plugin -> !plugin.isLocal())
+                .filter(plugin -> !journal.isCompleted(plugin.getName()))
+                .filter(plugin -> !optOutPlugins.contains(plugin.getName()))
+                .filter(pluginService::existsInUpdateCenter)
+                .toList();
+        for (Plugin plugin : candidates) {
+            try {
+                plugin.withConfig(config);
+                plugin.withRepositoryName(pluginService.extractRepoName(plugin));
+            } catch (Exception e) {
+                LOG.debug("Unable to determine repository of plugin {} for pre-fork", plugin.getName(), e);
+            }
+        }
+        ghService.preFork(candidates);
+    }
+
+    /**
+     * Process a plugin in its own span, child of the run span
+     * @param plugin The plugin to process
+     */
+    private void processInSpan(Plugin plugin) {
+        Span span = Tracing.startSpan("plugin " + plugin.getName()).setAttribute(Tracing.PLUGIN, plugin.getName());
+        try (Scope scope = span.makeCurrent()) {
+            process(plugin);
+        } finally {
+            if (plugin.hasErrors() || plugin.hasPreconditionErrors()) {
+                Tracing.fail(span, "Plugin processing failed");
+            }
+            span.end();
+        }
     }
 
     /**
@@ -189,11 +472,20 @@ public class PluginModernizer {
      */
     private void process(Plugin plugin) {
         boolean earlySkip = false;
+        boolean alreadyCompleted = false;
         try {
 
             // Set config
             plugin.withConfig(config);
 
+            // Skip plugins already completed by the resumed run
+            if (journal.isCompleted(plugin.getName())) {
+                LOG.info("Plugin {} was already completed in run {}. Skipping.", plugin.getName(), journal.getRunId());
+                earlySkip = true;
+                alreadyCompleted = true;
+                return;
+            }
+
             // Early validation: Check if plugin exists in update center before any operations that might create
             // directories
             if (!plugin.isLocal() && !pluginService.existsInUpdateCenter(plugin)) {
@@ -230,10 +522,32 @@ public class PluginModernizer {
                 LOG.info("Skipping verification for plugin {}", plugin.getName());
             }
 
-            if (config.isRemoveForks()) {
-                plugin.deleteFork(ghService);
+            // Restart after the last durable stage of the resumed run
+            PluginStage resumeStage = journal.getResumeStage(plugin.getName()).orElse(null);
+            if (resumeStage != null && !config.isDryRun() && !config.isFetchMetadataOnly()) {
+                if (Files.isDirectory(plugin.getLocalRepository().resolve(".git"))) {
+                    resume(plugin, resumeStage);
+                    return;
+                }
+                LOG.info(
+                        "Local repository of plugin {} from run {} is missing. Processing it from the start.",
+                        plugin.getName(),
+                        journal.getRunId());
+            }
+
+            try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.FETCH)) {
+                if (config.isRemoveForks()) {
+                    plugin.deleteFork(ghService);
+                }
+                plugin.fetch(ghService);
+            }
+            journal.record(plugin, PluginStage.FETCHED);
+
+            // Nothing changed since the previous result
+            if (isUnchanged(plugin)) {
+                earlySkip = true;
+                return;
             }
-            plugin.fetch(ghService);
 
             // Adjust for multi-module projects after fetching
             plugin.adjustForMultiModule();
@@ -293,6 +607,8 @@ public class PluginModernizer {
                 }
             }
 
+            journal.record(plugin, PluginStage.METADATA_COLLECTED);
+
             // Check if we still have errors and abort if not remediation is possible
             if (plugin.hasErrors() || plugin.hasPreconditionErrors()) {
                 plugin.addPreconditionErrors(plugin.getMetadata());
@@ -320,7 +636,9 @@ public class PluginModernizer {
                 LOG.debug("Metadata after fallback: {}", plugin.getMetadata().toJson());
                 if (jdk.getMajor() <= 8) {
                     LOG.info("Need a first compile to generate classes due to Java 8 and lower");
-                    plugin.verifyQuickBuild(mavenInvoker, jdk);
+                    try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.COMPILE)) {
+                        plugin.verifyQuickBuild(mavenInvoker, jdk);
+                    }
                     if (plugin.hasErrors()) {
                         if (!config.isSkipVerification()) {
                             plugin.raiseLastError();
@@ -353,18 +671,24 @@ public class PluginModernizer {
             }
 
             // Run OpenRewrite
-            plugin.runOpenRewrite(mavenInvoker);
+            try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.REWRITE)) {
+                plugin.runOpenRewrite(mavenInvoker);
+            }
             if (plugin.hasErrors()) {
                 LOG.warn(
                         "Skipping plugin {} due to openrewrite recipes errors. Check logs for more details.",
                         plugin.getName());
                 return;
             }
+            journal.record(plugin, PluginStage.REWRITTEN);
 
             // Verify plugin
             if (!config.isFetchMetadataOnly() && !config.isSkipVerification()) {
                 JDK jdk = verifyPlugin(plugin);
                 LOG.info("Plugin {} verified successfully with JDK {}", plugin.getName(), jdk.getMajor());
+                if (!plugin.hasErrors()) {
+                    journal.record(plugin, PluginStage.VERIFIED);
+                }
             }
 
             if (plugin.hasErrors()) {
@@ -390,35 +714,16 @@ public class PluginModernizer {
                         plugin.getMetadata().toJson());
 
                 // Clean target folder before committing changes
-                if (!config.isDryRun()) {
-                    plugin.clean(mavenInvoker);
-                }
-                plugin.commit(ghService);
-
-                boolean isOptOutPlugin = pluginService
-                        .getOptOutPluginsData()
-                        .getOptedOutPlugins()
-                        .contains(plugin.getName());
-                // Only fork/push/PR if we have any changes and the plugin hasn't opted out for receiving PRs or
-                // override the default behaviour
-                if (!plugin.getModifiedFiles().isEmpty() && (!isOptOutPlugin || config.isOverrideOptOutPlugins())) {
-                    plugin.fork(ghService);
-                    plugin.sync(ghService);
-                    plugin.push(ghService);
-                    plugin.openPullRequest(ghService);
-                } else {
-                    if (isOptOutPlugin) {
-                        LOG.info(
-                                "Plugin {} has opted out for receiving PRs. See https://github.com/jenkins-infra/metadata-plugin-modernizer/blob/main/opt-out-plugins.json, Use the --override-opt-out-plugins to override the default behaviour",
-                                plugin.getName());
-                    } else {
-                        LOG.info("No changes were made for plugin {}", plugin.getName());
+                try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.COMMIT)) {
+                    if (!config.isDryRun()) {
+                        plugin.clean(mavenInvoker);
                     }
+                    plugin.commit(ghService);
                 }
-
-                if (config.isRemoveForks()) {
-                    plugin.deleteFork(ghService);
+                if (plugin.hasCommits()) {
+                    journal.record(plugin, PluginStage.COMMITTED);
                 }
+                publishChanges(plugin, null);
             }
 
         }
@@ -434,62 +739,178 @@ public class PluginModernizer {
                 plugin.addError("Unexpected processing error. Check the logs at " + plugin.getLogFile(), e);
             }
         } finally {
+            // A fork created ahead is only kept if it was used to publish changes
+            ghService.discardPreparedFork(plugin);
             if (!config.isSkipMetadata() && !earlySkip && !config.isDryRun()) {
                 try {
                     collectModernizationMetadata(plugin);
                     validateModernizationMetadata(plugin);
                     if (plugin.getModernizationMetadata() != null) {
-                        plugin.fetchMetadata(ghService);
-                        plugin.forkMetadata(ghService);
-                        plugin.syncMetadata(ghService);
-                        plugin.checkoutMetadataBranch(ghService);
-                        plugin.copyMetadataToLocalMetadataRepo(cacheManager);
-                        plugin.commitMetadata(ghService);
-                        plugin.pushMetadata(ghService);
-                        plugin.openMetadataPullRequest(ghService);
+                        publishModernizationMetadata(plugin);
                     }
                 } catch (Exception e) {
                     plugin.addError("Failed to collect modernization metadata for plugin " + plugin.getName(), e);
                 }
             }
+            if (!alreadyCompleted) {
+                String outcome = plugin.hasErrors() || plugin.hasPreconditionErrors()
+                        ? RunJournal.OUTCOME_FAIL
+                        : earlySkip ? RunJournal.OUTCOME_SKIPPED : RunJournal.OUTCOME_SUCCESS;
+                journal.record(plugin, PluginStage.COMPLETED, outcome);
+            }
         }
     }
 
+    /**
+     * Fork, push and open the pull request for the committed changes of a plugin
+     * @param plugin The plugin
+     * @param resumeStage The durable stage already reached by a resumed run or null
+     */
+    private void publishChanges(Plugin plugin, PluginStage resumeStage) {
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.PUBLISH)) {
+            boolean isOptOutPlugin =
+                    pluginService.getOptOutPluginsData().getOptedOutPlugins().contains(plugin.getName());
+            // Only fork/push/PR if we have any changes and the plugin hasn't opted out for receiving PRs or
+            // override the default behaviour
+            if (!plugin.getModifiedFiles().isEmpty() && (!isOptOutPlugin || config.isOverrideOptOutPlugins())) {
+                if (resumeStage == null || !resumeStage.isAtLeast(PluginStage.PUSHED)) {
+                    plugin.fork(ghService);
+                    plugin.sync(ghService);
+                    plugin.push(ghService);
+                    if (plugin.hasChangesPushed()) {
+                        journal.record(plugin, PluginStage.PUSHED);
+                    }
+                }
+                if (resumeStage == null || !resumeStage.isAtLeast(PluginStage.PULL_REQUEST_OPENED)) {
+                    plugin.openPullRequest(ghService);
+                    if (plugin.hasPullRequest()) {
+                        journal.record(plugin, PluginStage.PULL_REQUEST_OPENED);
+                    }
+                }
+            } else {
+                if (isOptOutPlugin) {
+                    LOG.info(
+                            "Plugin {} has opted out for receiving PRs. See https://github.com/jenkins-infra/metadata-plugin-modernizer/blob/main/opt-out-plugins.json, Use the --override-opt-out-plugins to override the default behaviour",
+                            plugin.getName());
+                } else {
+                    LOG.info("No changes were made for plugin {}", plugin.getName());
+                }
+            }
+
+            if (config.isRemoveForks()) {
+                plugin.deleteFork(ghService);
+            }
+        }
+    }
+
+    /**
+     * Resume the processing of a plugin after the last durable stage of a previous run.
+     * The local repository still holds the committed branch so only publishing is redone.
+     * @param plugin The plugin
+     * @param resumeStage The last durable stage
+     */
+    private void resume(Plugin plugin, PluginStage resumeStage) {
+        LOG.info("Resuming plugin {} after stage {}", plugin.getName(), resumeStage);
+        journal.getLastEntry(plugin.getName()).ifPresent(entry -> {
+            plugin.addModifiedFiles(entry.modifiedFiles());
+            if (entry.pullRequestUrl() != null) {
+                plugin.setPullRequestUrl(entry.pullRequestUrl());
+            }
+        });
+
+        // Metadata is needed for the modernization metadata
+        plugin.loadMetadata(cacheManager);
+        if (!plugin.hasMetadata()) {
+            collectMetadata(plugin, false);
+        }
+        plugin.setJenkinsBaseline(plugin.getMetadata().getProperties().get("jenkins.baseline"));
+        String jenkinsVersion = plugin.getMetadata().getJenkinsVersion();
+        plugin.setJenkinsVersion(jenkinsVersion);
+        if (jenkinsVersion != null) {
+            plugin.setEffectiveBaseline(jenkinsVersion.replaceAll("(\\d+\\.\\d+)\\.\\d+", "$1"));
+        }
+
+        if (resumeStage == PluginStage.COMMITTED) {
+            plugin.withCommits();
+        } else if (resumeStage == PluginStage.PUSHED) {
+            plugin.withChangesPushed();
+        }
+        publishChanges(plugin, resumeStage);
+    }
+
     /**
      * Collect metadata for a plugin
      * @param plugin The plugin
      */
     private void collectMetadata(Plugin plugin, boolean retryAfterFirstCompile) {
-        LOG.trace("Collecting metadata for plugin {}... Please be patient", plugin.getName());
-        plugin.withJDK(JDK.JAVA_25);
-        try {
-            plugin.collectMetadata(mavenInvoker);
-            if (plugin.hasErrors()) {
-                plugin.raiseLastError();
-            }
-        } catch (ModernizerException e) {
-            if (retryAfterFirstCompile) {
-                plugin.removeErrors();
-                LOG.warn(
-                        "Failed to collect metadata for plugin {}. Will retry after a first compile using lowest JDK",
-                        plugin.getName());
-                plugin.verifyQuickBuild(mavenInvoker, JDK.JAVA_8);
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.METADATA)) {
+            LOG.trace("Collecting metadata for plugin {}... Please be patient", plugin.getName());
+            plugin.withJDK(JDK.JAVA_25);
+            try {
+                plugin.collectMetadata(mavenInvoker);
                 if (plugin.hasErrors()) {
-                    LOG.debug(
-                            "Plugin {} failed to compile with JDK 8. Skipping metadata collection after retry",
-                            plugin.getName());
                     plugin.raiseLastError();
                 }
-                plugin.withJDK(JDK.JAVA_25);
-                plugin.collectMetadata(mavenInvoker);
-            } else {
-                LOG.info("Failed to collect metadata for plugin {}. Not retrying.", plugin.getName());
-                throw e;
+            } catch (ModernizerException e) {
+                if (retryAfterFirstCompile) {
+                    plugin.removeErrors();
+                    LOG.warn(
+                            "Failed to collect metadata for plugin {}. Will retry after a first compile using lowest JDK",
+                            plugin.getName());
+                    plugin.verifyQuickBuild(mavenInvoker, JDK.JAVA_8);
+                    if (plugin.hasErrors()) {
+                        LOG.debug(
+                                "Plugin {} failed to compile with JDK 8. Skipping metadata collection after retry",
+                                plugin.getName());
+                        plugin.raiseLastError();
+                    }
+                    plugin.withJDK(JDK.JAVA_25);
+                    plugin.collectMetadata(mavenInvoker);
+                } else {
+                    LOG.info("Failed to collect metadata for plugin {}. Not retrying.", plugin.getName());
+                    throw e;
+                }
             }
+            plugin.copyMetadata(cacheManager);
+            plugin.loadMetadata(cacheManager);
+            plugin.enrichMetadata(pluginService);
+            metadataStore.append(plugin.getName(), plugin.getMetadata());
         }
-        plugin.copyMetadata(cacheManager);
-        plugin.loadMetadata(cacheManager);
-        plugin.enrichMetadata(pluginService);
+    }
+
+    /**
+     * Compute the fingerprint of the fetched plugin and compare it with the one of its last modernization result
+     * @param plugin The plugin
+     * @return True if the last result was obtained from the same inputs and the plugin can be skipped
+     */
+    private boolean isUnchanged(Plugin plugin) {
+        if (plugin.isLocal() || config.getRecipe() == null) {
+            return false;
+        }
+        String headCommit = plugin.getHeadCommit(ghService);
+        if (headCommit == null) {
+            return false;
+        }
+        plugin.setFingerprint(FingerprintUtils.fingerprint(
+                headCommit, config.getRecipe().getName(), config.getVersion()));
+        if (config.isIgnoreFingerprint() || config.isDryRun() || config.isFetchMetadataOnly()) {
+            return false;
+        }
+        ModernizationMetadata previous = cacheManager.getIgnoringExpiration(
+                Path.of(plugin.getName()), CacheManager.MODERNIZATION_METADATA_CACHE_KEY, ModernizationMetadata.class);
+        if (previous == null || !plugin.getFingerprint().equals(previous.getFingerprint())) {
+            return false;
+        }
+        String status = previous.getMigrationStatus();
+        if (!"success".equals(status) && !"fail".equals(status)) {
+            return false;
+        }
+        LOG.info(
+                "Plugin {} is unchanged since its previous {} result at commit {}. Skipping. Use --ignore-fingerprint to process it anyway.",
+                plugin.getName(),
+                status,
+                headCommit);
+        return true;
     }
 
     /**
@@ -523,7 +944,7 @@ public class PluginModernizer {
                 plugin.getConfig().getRecipe().getDescription());
         modernizationMetadata.setPluginName(plugin.getName());
         modernizationMetadata.setTags(plugin.getConfig().getRecipe().getTags());
-        modernizationMetadata.setMigrationId(plugin.getConfig().getRecipe().getName());
+        modernizationMetadata.setMigrationId(plugin.getConfig().getRecipe().getMigrationId());
         modernizationMetadata.setPullRequestUrl(plugin.getPullRequestUrl());
         // if the there is any PR created, set the status to open by default
         if (plugin.getPullRequestUrl() != null && !plugin.getPullRequestUrl().isEmpty()) {
@@ -535,6 +956,8 @@ public class PluginModernizer {
         modernizationMetadata.setAdditions(diffStats.additions());
         modernizationMetadata.setDeletions(diffStats.deletions());
         modernizationMetadata.setChangedFiles(diffStats.changedFiles());
+        modernizationMetadata.setFingerprint(plugin.getFingerprint());
+        modernizationMetadata.setStageMetrics(new LinkedHashMap<>(plugin.getStageMetrics()));
         if (plugin.hasErrors() || plugin.hasPreconditionErrors()) {
             modernizationMetadata.setMigrationStatus("fail");
         } else {
@@ -548,6 +971,39 @@ public class PluginModernizer {
                 modernizationMetadata.getLocation().toAbsolutePath());
     }
 
+    /**
+     * Open the pull request of the modernization metadata of a plugin, then store it even if publishing failed
+     * @param plugin The plugin
+     */
+    private void publishModernizationMetadata(Plugin plugin) {
+        try {
+            try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.REPORT)) {
+                plugin.fetchMetadata(ghService);
+                plugin.forkMetadata(ghService);
+                plugin.syncMetadata(ghService);
+                plugin.checkoutMetadataBranch(ghService);
+                plugin.copyMetadataToLocalMetadataRepo(cacheManager);
+                plugin.commitMetadata(ghService);
+                plugin.pushMetadata(ghService);
+                plugin.openMetadataPullRequest(ghService);
+            }
+        } finally {
+            storeModernizationMetadata(plugin);
+        }
+    }
+
+    /**
+     * Save the modernization metadata of a plugin with the metrics of all its stages and append it to the metadata
+     * store. The report stage publishes the metadata, so only the local copy includes the metrics of that stage
+     * @param plugin The plugin
+     */
+    private void storeModernizationMetadata(Plugin plugin) {
+        ModernizationMetadata modernizationMetadata = plugin.getModernizationMetadata();
+        modernizationMetadata.setStageMetrics(new LinkedHashMap<>(plugin.getStageMetrics()));
+        modernizationMetadata.save();
+        metadataStore.append(plugin.getName(), modernizationMetadata);
+    }
+
     /**
      * Validate modernization metadata for a plugin
      * @param plugin The plugin
@@ -576,8 +1032,10 @@ public class PluginModernizer {
         PluginMetadata metadata = plugin.getMetadata();
         JDK jdk = JDK.min(metadata.getJdks(), metadata.getJenkinsVersion());
         plugin.withJDK(jdk);
-        plugin.clean(mavenInvoker);
-        plugin.compile(mavenInvoker);
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.COMPILE)) {
+            plugin.clean(mavenInvoker);
+            plugin.compile(mavenInvoker);
+        }
         return jdk;
     }
 
@@ -608,9 +1066,11 @@ public class PluginModernizer {
 
         // Build it
         plugin.withJDK(jdk);
-        plugin.clean(mavenInvoker);
-        plugin.format(mavenInvoker);
-        plugin.verify(mavenInvoker);
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.VERIFY)) {
+            plugin.clean(mavenInvoker);
+            plugin.format(mavenInvoker);
+            plugin.verify(mavenInvoker);
+        }
         if (plugin.hasErrors()) {
             LOG.warn("Plugin {} failed to verify with JDK {}", plugin.getName(), jdk.getMajor());
         }
@@ -667,6 +1127,37 @@ public class PluginModernizer {
         }
     }
 
+    /**
+     * Display the resources used by each plugin and write the metrics file if requested
+     * @param plugins The plugins
+     */
+    private void printMetrics(List<Plugin> plugins) {
+        for (Plugin plugin : plugins) {
+            if (plugin.getStageMetrics().isEmpty()) {
+                continue;
+            }
+            StageMetrics total = PluginMetrics.total(plugin);
+            String slowest = plugin.getStageMetrics().entrySet().stream()
+                    .max(Comparator.comparingLong(entry -> entry.getValue().wallMillis()))
+                    .map(Map.Entry::getKey)
+                    .orElseThrow();
+            LOG.info(
+                    "Plugin {} took {} ms (slowest stage: {}), {} ms of forked processes CPU, {} bytes downloaded, {} GitHub API calls",
+                    plugin.getName(),
+                    total.wallMillis(),
+                    slowest,
+                    total.processCpuMillis(),
+                    total.bytesTransferred(),
+                    total.githubApiCalls());
+            plugin.getStageMetrics()
+                    .forEach((stage, metrics) -> LOG.debug("Plugin {} {}: {}", plugin.getName(), stage, metrics));
+        }
+        if (config.getMetricsFile() != null) {
+            PluginMetrics.writeOpenMetrics(plugins, config.getMetricsFile());
+            LOG.info("Metrics written to {}", config.getMetricsFile().toAbsolutePath());
+        }
+    }
+
     private void printModifiedFiles(Plugin plugin) {
         if (plugin.getModifiedFiles().isEmpty()) {
             LOG.info("Recipe didn't make any change.");
@@ -0,0 +1,200 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only snapshot of records keyed by plugin name, memory-mapped from the cache.
+ * <p>
+ * Written once after the data is downloaded, then mapped by each process so lookups share the page cache
+ * instead of deserializing the whole data set on the heap. Keys are compared in place in the mapping and
+ * only the record of the requested plugin is decoded.
+ * <p>
+ * Layout (big-endian): magic, record count, then an index of (key offset, record offset) sorted by the
+ * UTF-8 bytes of the keys, followed by the keys and records. A key is a length and its UTF-8 bytes. A record
+ * is a field count and its fields, each a length (-1 for null) and its UTF-8 bytes.
+ */
+public final class PluginSnapshot {
+
+    /**
+     * "PMS" followed by the format version
+     */
+    private static final int MAGIC = 0x504d5301;
+
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+    private static final int INDEX_ENTRY_SIZE = 2 * Integer.BYTES;
+
+    private final ByteBuffer buffer;
+    private final int size;
+
+    private PluginSnapshot(ByteBuffer buffer) {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new ModernizerException("Invalid plugin snapshot");
+        }
+        this.buffer = buffer;
+        this.size = buffer.getInt(Integer.BYTES);
+    }
+
+    /**
+     * Map a snapshot file in memory
+     * @param file The snapshot file
+     * @return The snapshot
+     * @throws IOException If the file cannot be mapped
+     */
+    public static PluginSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping remains valid after the channel is closed
+            return new PluginSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Wrap an in-memory snapshot
+     * @param buffer The snapshot content
+     * @return The snapshot
+     */
+    static PluginSnapshot wrap(ByteBuffer buffer) {
+        return new PluginSnapshot(buffer);
+    }
+
+    /**
+     * Write a snapshot of the given records. The stream is not closed
+     * @param records The records by plugin name. Fields can be null
+     * @param out The output stream
+     * @throws IOException If the snapshot cannot be written
+     */
+    public static void write(Map<String, List<String>> records, OutputStream out) throws IOException {
+        List<byte[]> keys = new ArrayList<>(records.size());
+        for (String key : records.keySet()) {
+            keys.add(key.getBytes(StandardCharsets.UTF_8));
+        }
+        keys.sort(Arrays::compareUnsigned);
+
+        int dataOffset = HEADER_SIZE + keys.size() * INDEX_ENTRY_SIZE;
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        DataOutputStream dataOut = new DataOutputStream(data);
+        DataOutputStream indexOut = new DataOutputStream(out);
+        indexOut.writeInt(MAGIC);
+        indexOut.writeInt(keys.size());
+        for (byte[] key : keys) {
+            indexOut.writeInt(dataOffset + dataOut.size());
+            dataOut.writeInt(key.length);
+            dataOut.write(key);
+            indexOut.writeInt(dataOffset + dataOut.size());
+            List<String> record = records.get(new String(key, StandardCharsets.UTF_8));
+            dataOut.writeInt(record.size());
+            for (String field : record) {
+                if (field == null) {
+                    dataOut.writeInt(-1);
+                } else {
+                    byte[] bytes = field.getBytes(StandardCharsets.UTF_8);
+                    dataOut.writeInt(bytes.length);
+                    dataOut.write(bytes);
+                }
+            }
+        }
+        data.writeTo(indexOut);
+        indexOut.flush();
+    }
+
+    /**
+     * Get the number of records
+     * @return The number of records
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check if a record exists for a plugin
+     * @param name The plugin name
+     * @return True if the snapshot has a record for the plugin
+     */
+    public boolean contains(String name) {
+        return find(name) >= 0;
+    }
+
+    /**
+     * Get the record of a plugin
+     * @param name The plugin name
+     * @return The record fields or null if the snapshot has no record for the plugin
+     */
+    public List<String> get(String name) {
+        int entry = find(name);
+        if (entry < 0) {
+            return null;
+        }
+        int offset = buffer.getInt(HEADER_SIZE + entry * INDEX_ENTRY_SIZE + Integer.BYTES);
+        int count = buffer.getInt(offset);
+        offset += Integer.BYTES;
+        List<String> fields = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = buffer.getInt(offset);
+            offset += Integer.BYTES;
+            if (length < 0) {
+                fields.add(null);
+            } else {
+                fields.add(StandardCharsets.UTF_8
+                        .decode(buffer.slice(offset, length))
+                        .toString());
+                offset += length;
+            }
+        }
+        return Collections.unmodifiableList(fields);
+    }
+
+    /**
+     * Binary search of a key in the index
+     * @param name The plugin name
+     * @return The index entry or a negative value if not found
+     */
+    private int find(String name) {
+        byte[] key = name.getBytes(StandardCharsets.UTF_8);
+        int low = 0;
+        int high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int cmp = compareKey(buffer.getInt(HEADER_SIZE + middle * INDEX_ENTRY_SIZE), key);
+            if (cmp < 0) {
+                low = middle + 1;
+            } else if (cmp > 0) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compare a key of the mapping with the given key without copying it
+     * @param offset The offset of the key in the mapping
+     * @param key The UTF-8 bytes of the key to compare with
+     * @return The unsigned lexicographic comparison of the keys
+     */
+    private int compareKey(int offset, byte[] key) {
+        int length = buffer.getInt(offset);
+        int start = offset + Integer.BYTES;
+        int common = Math.min(length, key.length);
+        for (int i = 0; i < common; i++) {
+            int cmp = Byte.compareUnsigned(buffer.get(start + i), key[i]);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return Integer.compare(length, key.length);
+    }
+}
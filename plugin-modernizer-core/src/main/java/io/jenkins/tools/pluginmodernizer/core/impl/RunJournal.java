@@ -0,0 +1,262 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.PluginStage;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Append-only journal recording the stage reached by each plugin of a run.
+ * Stored as JSON lines under the cache path so an interrupted run can be resumed with its run ID.
+ */
+public class RunJournal {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RunJournal.class);
+
+    /**
+     * Directory of the runs journals relative to the cache path
+     */
+    public static final String RUNS_DIRECTORY = "runs";
+
+    /**
+     * Name of the journal file
+     */
+    public static final String JOURNAL_FILE = "journal.jsonl";
+
+    /**
+     * Outcome of a plugin still being processed
+     */
+    public static final String OUTCOME_IN_PROGRESS = "in-progress";
+
+    /**
+     * Outcomes of a completed plugin
+     */
+    public static final String OUTCOME_SUCCESS = "success";
+
+    public static final String OUTCOME_FAIL = "fail";
+    public static final String OUTCOME_SKIPPED = "skipped";
+
+    /**
+     * Format of the generated run IDs
+     */
+    private static final Pattern RUN_ID_PATTERN = Pattern.compile("\\d{8}-\\d{6}(-\\d+)?");
+
+    /**
+     * A journal record
+     * @param plugin The plugin name
+     * @param stage The stage reached
+     * @param outcome The outcome (in-progress, success, fail or skipped)
+     * @param timestamp The time of the record
+     * @param modifiedFiles Files modified by the recipe. Only set from the commit stage
+     * @param pullRequestUrl The pull request URL if opened
+     */
+    public record Entry(
+            String plugin,
+            PluginStage stage,
+            String outcome,
+            String timestamp,
+            List<String> modifiedFiles,
+            String pullRequestUrl) {}
+
+    private final String runId;
+    private final Path file;
+
+    /**
+     * Last entry for each plugin
+     */
+    private final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Last durable stage reached by each plugin before completion
+     */
+    private final Map<String, PluginStage> durableStages = new LinkedHashMap<>();
+
+    private RunJournal(String runId, Path file) {
+        this.runId = runId;
+        this.file = file;
+    }
+
+    /**
+     * Create a journal kept in memory only
+     * @return The journal
+     */
+    public static RunJournal inMemory() {
+        return new RunJournal(null, null);
+    }
+
+    /**
+     * Create the journal of a new run
+     * @param cachePath The cache path
+     * @return The journal
+     */
+    public static RunJournal create(Path cachePath) {
+        String timestamp =
+                ZonedDateTime.now(ZoneId.of("UTC")).format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        String runId = timestamp;
+        for (int i = 1; Files.exists(cachePath.resolve(RUNS_DIRECTORY).resolve(runId)); i++) {
+            runId = timestamp + "-" + i;
+        }
+        Path file = cachePath.resolve(RUNS_DIRECTORY).resolve(runId).resolve(JOURNAL_FILE);
+        try {
+            Files.createDirectories(file.getParent());
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to create run journal at " + file, e);
+        }
+        LOG.debug("Created run journal at {}", file);
+        return new RunJournal(runId, file);
+    }
+
+    /**
+     * Load the journal of a previous run to resume it
+     * @param cachePath The cache path
+     * @param runId The run ID
+     * @return The journal
+     */
+    public static RunJournal resume(Path cachePath, String runId) {
+        if (runId == null || !RUN_ID_PATTERN.matcher(runId).matches()) {
+            throw new ModernizerException(
+                    "Invalid run ID %s. Expected a run ID printed by a previous run like 20250101-120000"
+                            .formatted(runId));
+        }
+        Path file = cachePath.resolve(RUNS_DIRECTORY).resolve(runId).resolve(JOURNAL_FILE);
+        if (!Files.isRegularFile(file)) {
+            throw new ModernizerException("No journal found for run %s at %s".formatted(runId, file));
+        }
+        RunJournal journal = new RunJournal(runId, file);
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    journal.add(JsonUtils.fromJson(line, Entry.class));
+                } catch (RuntimeException e) {
+                    // A crash might leave a truncated last line
+                    LOG.warn("Ignoring invalid journal line in {}: {}", file, line);
+                }
+            }
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to read run journal " + file, e);
+        }
+        LOG.debug("Loaded run journal {} with {} plugins", file, journal.entries.size());
+        return journal;
+    }
+
+    /**
+     * Record the stage reached by a plugin. The record is flushed to disk before returning.
+     * @param plugin The plugin
+     * @param stage The stage reached
+     * @param outcome The outcome
+     */
+    public synchronized void record(Plugin plugin, PluginStage stage, String outcome) {
+        List<String> modifiedFiles =
+                stage.isAtLeast(PluginStage.COMMITTED) ? List.copyOf(plugin.getModifiedFiles()) : List.of();
+        Entry entry = new Entry(
+                plugin.getName(),
+                stage,
+                outcome,
+                Instant.now().toString(),
+                modifiedFiles,
+                plugin.getPullRequestUrl());
+        if (file != null) {
+            try (FileChannel channel = FileChannel.open(
+                    file, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                channel.write(ByteBuffer.wrap((JsonUtils.toJson(entry) + "\n").getBytes(StandardCharsets.UTF_8)));
+                channel.force(false);
+            } catch (IOException e) {
+                throw new ModernizerException("Unable to write run journal " + file, e);
+            }
+        }
+        add(entry);
+    }
+
+    /**
+     * Add an entry to the in-memory state
+     * @param entry The entry
+     */
+    private void add(Entry entry) {
+        entries.put(entry.plugin(), entry);
+        if (entry.stage() == PluginStage.COMPLETED) {
+            // Only failed plugins restart from their durable stage
+            if (!OUTCOME_FAIL.equals(entry.outcome())) {
+                durableStages.remove(entry.plugin());
+            }
+        } else if (entry.stage().isDurable()) {
+            durableStages.put(entry.plugin(), entry.stage());
+        }
+    }
+
+    /**
+     * Record a stage in progress
+     * @param plugin The plugin
+     * @param stage The stage reached
+     */
+    public void record(Plugin plugin, PluginStage stage) {
+        record(plugin, stage, OUTCOME_IN_PROGRESS);
+    }
+
+    /**
+     * Get the last entry of a plugin
+     * @param pluginName The plugin name
+     * @return The last entry if any
+     */
+    public synchronized Optional<Entry> getLastEntry(String pluginName) {
+        return Optional.ofNullable(entries.get(pluginName));
+    }
+
+    /**
+     * Get the durable stage from which processing of the plugin can restart
+     * @param pluginName The plugin name
+     * @return The last durable stage if any
+     */
+    public synchronized Optional<PluginStage> getResumeStage(String pluginName) {
+        return Optional.ofNullable(durableStages.get(pluginName));
+    }
+
+    /**
+     * Return if the plugin was completed in this run without failure. Failed plugins are retried on resume.
+     * @param pluginName The plugin name
+     * @return True if completed
+     */
+    public boolean isCompleted(String pluginName) {
+        return getLastEntry(pluginName)
+                .map(entry -> entry.stage() == PluginStage.COMPLETED && !OUTCOME_FAIL.equals(entry.outcome()))
+                .orElse(false);
+    }
+
+    /**
+     * Get the run ID
+     * @return The run ID or null if the journal is kept in memory only
+     */
+    public String getRunId() {
+        return runId;
+    }
+
+    /**
+     * Get the journal file
+     * @return The journal file
+     */
+    public Path getFile() {
+        return file;
+    }
+}
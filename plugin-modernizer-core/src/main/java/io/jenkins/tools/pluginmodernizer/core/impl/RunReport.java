@@ -0,0 +1,200 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Results of a run, written next to its journal. Reports of the shards of a run are merged into a single report.
+ * @param shards The runs, one for each shard
+ * @param outcomes Number of plugins by outcome
+ * @param plugins Result of each plugin, sorted by name
+ */
+public record RunReport(List<ShardResult> shards, Map<String, Integer> outcomes, List<PluginResult> plugins) {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RunReport.class);
+
+    /**
+     * Name of the report file
+     */
+    public static final String REPORT_FILE = "report.json";
+
+    /**
+     * A run of a shard
+     * @param runId The run ID
+     * @param shard The shard as i/N or null if the run was not sharded
+     * @param plugins Number of plugins processed by the run
+     * @param wallMillis Duration of the run
+     */
+    public record ShardResult(String runId, String shard, int plugins, long wallMillis) {}
+
+    /**
+     * Result of a plugin
+     * @param plugin The plugin name
+     * @param runId The run that processed the plugin
+     * @param outcome The outcome (success, fail or skipped)
+     * @param pullRequestUrl The pull request URL if opened
+     * @param errors The errors messages
+     * @param stageMetrics Resources used by each processing stage
+     * @param metadata The modernization metadata if collected
+     */
+    public record PluginResult(
+            String plugin,
+            String runId,
+            String outcome,
+            String pullRequestUrl,
+            List<String> errors,
+            Map<String, StageMetrics> stageMetrics,
+            ModernizationMetadata metadata) {}
+
+    /**
+     * Create the report of a single run
+     * @param shard The run
+     * @param plugins The results of its plugins
+     * @return The report
+     */
+    public static RunReport of(ShardResult shard, List<PluginResult> plugins) {
+        return create(List.of(shard), plugins);
+    }
+
+    /**
+     * Merge the reports of several shards. A plugin reported by several shards keeps its last non skipped result
+     * @param reports The reports
+     * @return The merged report
+     */
+    public static RunReport merge(List<RunReport> reports) {
+        List<ShardResult> shards = new ArrayList<>();
+        Map<String, PluginResult> plugins = new LinkedHashMap<>();
+        for (RunReport report : reports) {
+            shards.addAll(report.shards());
+            for (PluginResult result : report.plugins()) {
+                PluginResult previous = plugins.get(result.plugin());
+                if (previous != null) {
+                    LOG.warn(
+                            "Plugin {} was processed by runs {} and {}",
+                            result.plugin(),
+                            previous.runId(),
+                            result.runId());
+                    if (RunJournal.OUTCOME_SKIPPED.equals(result.outcome())) {
+                        continue;
+                    }
+                }
+                plugins.put(result.plugin(), result);
+            }
+        }
+        shards.sort(Comparator.comparing(ShardResult::runId));
+        return create(shards, List.copyOf(plugins.values()));
+    }
+
+    /**
+     * Read a report
+     * @param file The report file
+     * @return The report
+     */
+    public static RunReport read(Path file) {
+        return JsonUtils.fromJson(file, RunReport.class);
+    }
+
+    /**
+     * Find the report files of the given files or directories
+     * @param paths Report files, run directories, or cache paths of shards whose latest run is used
+     * @return The report files
+     */
+    public static List<Path> find(List<Path> paths) {
+        List<Path> files = new ArrayList<>();
+        for (Path path : paths) {
+            if (Files.isRegularFile(path)) {
+                files.add(path);
+            } else if (Files.isRegularFile(path.resolve(REPORT_FILE))) {
+                files.add(path.resolve(REPORT_FILE));
+            } else {
+                files.add(findLatest(path));
+            }
+        }
+        return files;
+    }
+
+    /**
+     * Find the report of the latest run of a cache, so the reports of past runs are not merged again
+     * @param cachePath The cache path
+     * @return The most recently written report file of the runs of the cache
+     */
+    private static Path findLatest(Path cachePath) {
+        Path runs = cachePath.resolve(RunJournal.RUNS_DIRECTORY);
+        if (!Files.isDirectory(runs)) {
+            throw new ModernizerException("No report file, run directory or cache path: " + cachePath);
+        }
+        try (Stream<Path> children = Files.list(runs)) {
+            Path latest = null;
+            FileTime latestTime = null;
+            for (Path file : children.map(run -> run.resolve(REPORT_FILE))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .toList()) {
+                FileTime time = Files.getLastModifiedTime(file);
+                if (latestTime == null || time.compareTo(latestTime) >= 0) {
+                    latest = file;
+                    latestTime = time;
+                }
+            }
+            if (latest == null) {
+                throw new ModernizerException("No report found in the runs of " + cachePath);
+            }
+            return latest;
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to search reports in " + cachePath, e);
+        }
+    }
+
+    /**
+     * Write the report
+     * @param file The report file
+     */
+    public void write(Path file) {
+        JsonUtils.toJsonFile(this, file);
+    }
+
+    /**
+     * Save the modernization metadata of the report to the cache, so the next runs use the history of all shards
+     * @param cacheManager The cache manager
+     * @return The number of saved metadata
+     */
+    public int saveMetadata(CacheManager cacheManager) {
+        int saved = 0;
+        for (PluginResult result : plugins) {
+            ModernizationMetadata metadata = result.metadata();
+            if (metadata == null) {
+                continue;
+            }
+            metadata.setCacheManager(cacheManager);
+            metadata.setPath(Path.of(result.plugin()));
+            metadata.setKey(CacheManager.MODERNIZATION_METADATA_CACHE_KEY);
+            metadata.save();
+            saved++;
+        }
+        return saved;
+    }
+
+    private static RunReport create(List<ShardResult> shards, List<PluginResult> plugins) {
+        List<PluginResult> sorted = plugins.stream()
+                .sorted(Comparator.comparing(PluginResult::plugin))
+                .toList();
+        Map<String, Integer> outcomes = new TreeMap<>();
+        sorted.forEach(result -> outcomes.merge(result.outcome(), 1, Integer::sum));
+        return new RunReport(List.copyOf(shards), outcomes, sorted);
+    }
+}
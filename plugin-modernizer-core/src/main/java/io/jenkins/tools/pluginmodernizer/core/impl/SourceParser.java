@@ -0,0 +1,156 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import org.openrewrite.ExecutionContext;
+import org.openrewrite.SourceFile;
+import org.openrewrite.groovy.GroovyParser;
+import org.openrewrite.java.JavaParser;
+import org.openrewrite.json.JsonParser;
+import org.openrewrite.maven.MavenParser;
+import org.openrewrite.maven.tree.MavenResolutionResult;
+import org.openrewrite.maven.tree.ResolvedDependency;
+import org.openrewrite.maven.tree.Scope;
+import org.openrewrite.text.PlainTextParser;
+import org.openrewrite.xml.XmlParser;
+
+/**
+ * Parse the sources of a plugin in memory into OpenRewrite source files.
+ * POMs are parsed first so Java sources are attributed with the dependencies already present in the local
+ * Maven repository. Nothing is downloaded for the Java classpath.
+ */
+public class SourceParser {
+
+    /**
+     * Directories never parsed
+     */
+    private static final Set<String> EXCLUDED_DIRECTORIES = Set.of(".git", "target", "node_modules", "work");
+
+    /**
+     * Larger files are not parsed as plain text
+     */
+    private static final long MAX_PLAIN_TEXT_SIZE = 1024 * 1024;
+
+    private final Path localRepository;
+
+    /**
+     * Create a parser
+     * @param localRepository The local Maven repository
+     */
+    public SourceParser(Path localRepository) {
+        this.localRepository = localRepository;
+    }
+
+    /**
+     * Parse the sources of a plugin
+     * @param directory The plugin directory
+     * @param ctx The execution context
+     * @return The source files
+     */
+    public List<SourceFile> parse(Path directory, ExecutionContext ctx) {
+        List<Path> poms = new ArrayList<>();
+        List<Path> javaFiles = new ArrayList<>();
+        List<Path> groovyFiles = new ArrayList<>();
+        List<Path> xmlFiles = new ArrayList<>();
+        List<Path> jsonFiles = new ArrayList<>();
+        List<Path> textFiles = new ArrayList<>();
+        XmlParser xmlParser = XmlParser.builder().build();
+        JsonParser jsonParser = JsonParser.builder().build();
+        try {
+            Files.walkFileTree(directory, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                    if (!dir.equals(directory)
+                            && EXCLUDED_DIRECTORIES.contains(dir.getFileName().toString())) {
+                        return FileVisitResult.SKIP_SUBTREE;
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    String name = file.getFileName().toString();
+                    if (name.equals("pom.xml")) {
+                        poms.add(file);
+                    } else if (name.endsWith(".java")) {
+                        javaFiles.add(file);
+                    } else if (name.equals("Jenkinsfile") || name.endsWith(".groovy")) {
+                        groovyFiles.add(file);
+                    } else if (xmlParser.accept(file)) {
+                        xmlFiles.add(file);
+                    } else if (jsonParser.accept(file)) {
+                        jsonFiles.add(file);
+                    } else if (attrs.size() <= MAX_PLAIN_TEXT_SIZE && isText(file)) {
+                        textFiles.add(file);
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to list the sources of " + directory, e);
+        }
+
+        List<SourceFile> sources = new ArrayList<>();
+        MavenParser.builder().build().parse(poms, directory, ctx).forEach(sources::add);
+        JavaParser.fromJavaVersion()
+                .classpath(getLocalClasspath(sources))
+                .logCompilationWarningsAndErrors(false)
+                .build()
+                .parse(javaFiles, directory, ctx)
+                .forEach(sources::add);
+        GroovyParser.builder().build().parse(groovyFiles, directory, ctx).forEach(sources::add);
+        xmlParser.parse(xmlFiles, directory, ctx).forEach(sources::add);
+        jsonParser.parse(jsonFiles, directory, ctx).forEach(sources::add);
+        PlainTextParser.builder().build().parse(textFiles, directory, ctx).forEach(sources::add);
+        return sources;
+    }
+
+    /**
+     * Get the jars of the resolved dependencies already downloaded in the local Maven repository
+     * @param sources The parsed sources including the POMs
+     * @return The classpath
+     */
+    private List<Path> getLocalClasspath(List<SourceFile> sources) {
+        return sources.stream()
+                .flatMap(source -> source.getMarkers().findFirst(MavenResolutionResult.class).stream())
+                .flatMap(result -> result.getDependencies().getOrDefault(Scope.Test, List.of()).stream())
+                .map(dependency -> getJar(localRepository, dependency))
+                .distinct()
+                .filter(Files::isRegularFile)
+                .toList();
+    }
+
+    private static Path getJar(Path localRepository, ResolvedDependency dependency) {
+        return localRepository
+                .resolve(dependency.getGroupId().replace('.', '/'))
+                .resolve(dependency.getArtifactId())
+                .resolve(dependency.getVersion())
+                .resolve(dependency.getArtifactId() + "-" + dependency.getVersion() + ".jar");
+    }
+
+    /**
+     * Check if a file looks like text, i.e. has no NUL byte in its first block
+     * @param file The file
+     * @return True if text
+     */
+    private static boolean isText(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] block = in.readNBytes(8192);
+            for (byte b : block) {
+                if (b == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
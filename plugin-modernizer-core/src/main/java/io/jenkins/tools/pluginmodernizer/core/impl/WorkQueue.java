@@ -0,0 +1,268 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Queue of plugins shared by several runners through a directory, local or on a shared filesystem.
+ * <p>
+ * Each runner claims the next plugin not yet done nor leased by another runner, so faster runners process more
+ * plugins and a slow plugin only delays its own runner. A claim creates a lease file with an exclusive create,
+ * which only one runner can win. Leases are renewed while the plugin is processed by touching the lease file. When
+ * a runner dies its leases are no longer renewed and expire, then another runner claims the plugin with a lease of
+ * the next generation.
+ * <p>
+ * Layout: {@code <queue>/<plugin>/lease-<generation>} for leases and {@code <queue>/<plugin>/done} once processed.
+ * Expiration compares the lease modification time with the local clock, so the clocks of the runners must be
+ * synchronized well within the lease duration.
+ */
+public class WorkQueue implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkQueue.class);
+
+    /**
+     * Prefix of the lease files
+     */
+    private static final String LEASE_PREFIX = "lease-";
+
+    /**
+     * Name of the file marking a plugin as processed
+     */
+    private static final String DONE_FILE = "done";
+
+    private final Path directory;
+    private final Duration leaseDuration;
+    private final String worker;
+
+    /**
+     * Lease files held by this runner, by plugin
+     */
+    private final Map<String, Path> leases = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService heartbeat;
+
+    /**
+     * Open a queue
+     * @param directory The queue directory shared by the runners
+     * @param leaseDuration Time after which a lease not renewed expires
+     */
+    public WorkQueue(Path directory, Duration leaseDuration) {
+        if (leaseDuration.isNegative() || leaseDuration.isZero()) {
+            throw new ModernizerException("Lease duration must be positive: " + leaseDuration);
+        }
+        this.directory = directory;
+        this.leaseDuration = leaseDuration;
+        this.worker = workerId();
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to create work queue at " + directory, e);
+        }
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "work-queue-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long period = Math.max(1, leaseDuration.toMillis() / 3);
+        heartbeat.scheduleAtFixedRate(this::renew, period, period, TimeUnit.MILLISECONDS);
+        LOG.info("Worker {} pulling plugins from queue {}", worker, directory);
+    }
+
+    /**
+     * Get the ID of this runner, written in its lease files
+     * @return The worker ID
+     */
+    public String getWorker() {
+        return worker;
+    }
+
+    /**
+     * Try to claim a plugin
+     * @param plugin The plugin name
+     * @return True if this runner now holds the lease of the plugin and must process it
+     */
+    public boolean claim(String plugin) {
+        if (leases.containsKey(plugin)) {
+            return true;
+        }
+        Path pluginDirectory = directory.resolve(plugin);
+        try {
+            Files.createDirectories(pluginDirectory);
+            if (Files.exists(pluginDirectory.resolve(DONE_FILE))) {
+                return false;
+            }
+            int generation = 1;
+            Path current = currentLease(pluginDirectory);
+            if (current != null) {
+                if (!isExpired(current)) {
+                    return false;
+                }
+                generation = generation(current) + 1;
+                LOG.info("Lease {} of plugin {} expired. Claiming it again", current.getFileName(), plugin);
+            }
+            Path lease = pluginDirectory.resolve(LEASE_PREFIX + generation);
+            Files.writeString(lease, worker, StandardCharsets.UTF_8, StandardOpenOption.CREATE_NEW);
+            leases.put(plugin, lease);
+            LOG.debug("Claimed plugin {} with lease {}", plugin, lease);
+            return true;
+        } catch (FileAlreadyExistsException e) {
+            LOG.debug("Plugin {} claimed by another worker", plugin);
+            return false;
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to claim plugin " + plugin + " in work queue " + directory, e);
+        }
+    }
+
+    /**
+     * Mark a claimed plugin as processed so no runner claims it again, and release its lease
+     * @param plugin The plugin name
+     * @param outcome The outcome of the plugin
+     */
+    public void complete(String plugin, String outcome) {
+        Path lease = leases.remove(plugin);
+        if (lease == null) {
+            throw new ModernizerException("Plugin " + plugin + " is not claimed by worker " + worker);
+        }
+        if (!lease.equals(currentLease(lease.getParent()))) {
+            LOG.warn("Lease of plugin {} was lost while processing it. It may be processed twice", plugin);
+        }
+        try {
+            Files.writeString(
+                    lease.resolveSibling(DONE_FILE),
+                    worker + " " + outcome + System.lineSeparator(),
+                    StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to complete plugin " + plugin + " in work queue " + directory, e);
+        }
+    }
+
+    /**
+     * Release a claimed plugin without completing it, so another runner can claim it immediately
+     * @param plugin The plugin name
+     */
+    public synchronized void release(String plugin) {
+        Path lease = leases.remove(plugin);
+        if (lease == null) {
+            return;
+        }
+        try {
+            // Expire the lease instead of deleting it, to keep the generation
+            Files.setLastModifiedTime(lease, FileTime.fromMillis(0));
+        } catch (IOException e) {
+            LOG.warn("Unable to release plugin {}. It will be claimed again once its lease expires", plugin, e);
+        }
+    }
+
+    /**
+     * Check if a plugin was processed by any runner
+     * @param plugin The plugin name
+     * @return True if done
+     */
+    public boolean isDone(String plugin) {
+        return Files.exists(directory.resolve(plugin).resolve(DONE_FILE));
+    }
+
+    /**
+     * Get the plugins not processed yet by any runner
+     * @param plugins The plugin names
+     * @return The plugins not done, in the same order
+     */
+    public List<String> remaining(List<String> plugins) {
+        return plugins.stream().filter(plugin -> !isDone(plugin)).toList();
+    }
+
+    /**
+     * Time to wait before retrying when all remaining plugins are leased by other runners
+     * @return The poll interval
+     */
+    public Duration getPollInterval() {
+        return leaseDuration.dividedBy(4);
+    }
+
+    /**
+     * Stop renewing the leases and release the plugins not completed
+     */
+    @Override
+    public void close() {
+        heartbeat.shutdownNow();
+        List.copyOf(leases.keySet()).forEach(this::release);
+    }
+
+    /**
+     * Renew the leases held by this runner
+     */
+    private synchronized void renew() {
+        FileTime now = FileTime.from(Instant.now());
+        leases.forEach((plugin, lease) -> {
+            try {
+                Files.setLastModifiedTime(lease, now);
+            } catch (IOException e) {
+                LOG.warn("Unable to renew lease of plugin {}", plugin, e);
+            }
+        });
+    }
+
+    private boolean isExpired(Path lease) throws IOException {
+        try {
+            Instant renewed = Files.getLastModifiedTime(lease).toInstant();
+            return renewed.plus(leaseDuration).isBefore(Instant.now());
+        } catch (NoSuchFileException e) {
+            return true;
+        }
+    }
+
+    /**
+     * Find the lease of the highest generation of a plugin
+     * @param pluginDirectory The plugin directory in the queue
+     * @return The lease or null if the plugin was never claimed
+     */
+    private static Path currentLease(Path pluginDirectory) {
+        try (Stream<Path> files = Files.list(pluginDirectory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(LEASE_PREFIX))
+                    .max((first, second) -> Integer.compare(generation(first), generation(second)))
+                    .orElse(null);
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to list leases in " + pluginDirectory, e);
+        }
+    }
+
+    private static int generation(Path lease) {
+        return Integer.parseInt(lease.getFileName().toString().substring(LEASE_PREFIX.length()));
+    }
+
+    /**
+     * Build a worker ID unique across hosts and processes
+     * @return The worker ID
+     */
+    private static String workerId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + ProcessHandle.current().pid() + "-"
+                + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,33 @@
+package io.jenkins.tools.pluginmodernizer.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A lookup of an entry in the cache
+ */
+@Name("io.jenkins.pluginmodernizer.CacheAccess")
+@Label("Cache Access")
+@Description("A lookup of an entry in the cache")
+@Category({"Plugin Modernizer", "Cache"})
+@StackTrace(false)
+public final class CacheAccessEvent extends Event {
+
+    public static final String HIT = "hit";
+    public static final String MISS = "miss";
+    public static final String EXPIRED = "expired";
+
+    @Label("Path")
+    public String path;
+
+    @Label("Key")
+    public String key;
+
+    @Label("Result")
+    @Description("hit, miss or expired")
+    public String result;
+}
@@ -0,0 +1,35 @@
+package io.jenkins.tools.pluginmodernizer.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A request to the GitHub API
+ */
+@Name("io.jenkins.pluginmodernizer.GitHubRequest")
+@Label("GitHub Request")
+@Description("A request to the GitHub API")
+@Category({"Plugin Modernizer", "GitHub"})
+@StackTrace(false)
+public final class GitHubRequestEvent extends Event {
+
+    @Label("Method")
+    public String method;
+
+    @Label("URL")
+    public String url;
+
+    @Label("Status")
+    @Description("HTTP status, -1 if the request failed")
+    public int status;
+
+    @Label("Response Size")
+    @DataAmount
+    @Description("Content length of the response, -1 if unknown")
+    public long responseSize;
+}
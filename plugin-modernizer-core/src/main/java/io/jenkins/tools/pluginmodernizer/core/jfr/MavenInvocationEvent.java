@@ -0,0 +1,33 @@
+package io.jenkins.tools.pluginmodernizer.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A Maven build forked on a plugin
+ */
+@Name("io.jenkins.pluginmodernizer.MavenInvocation")
+@Label("Maven Invocation")
+@Description("A Maven build forked on a plugin")
+@Category({"Plugin Modernizer", "Maven"})
+@StackTrace(false)
+public final class MavenInvocationEvent extends Event {
+
+    @Label("Plugin")
+    public String plugin;
+
+    @Label("Goals")
+    public String goals;
+
+    @Label("JDK")
+    @Description("Major version of the JDK running Maven, 0 for the default JDK")
+    public int jdk;
+
+    @Label("Exit Code")
+    @Description("Exit code of Maven, -1 if it could not be invoked")
+    public int exitCode;
+}
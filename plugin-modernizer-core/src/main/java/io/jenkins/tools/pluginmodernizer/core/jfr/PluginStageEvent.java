@@ -0,0 +1,38 @@
+package io.jenkins.tools.pluginmodernizer.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A processing stage of a plugin, like fetch, compile or verify
+ */
+@Name("io.jenkins.pluginmodernizer.PluginStage")
+@Label("Plugin Stage")
+@Description("A processing stage of a plugin")
+@Category({"Plugin Modernizer", "Pipeline"})
+@StackTrace(false)
+public final class PluginStageEvent extends Event {
+
+    @Label("Plugin")
+    public String plugin;
+
+    @Label("Stage")
+    public String stage;
+
+    @Label("Forked Processes CPU Time")
+    @Timespan(Timespan.MILLISECONDS)
+    public long processCpuTime;
+
+    @Label("Downloaded")
+    @DataAmount
+    public long bytesTransferred;
+
+    @Label("GitHub API Calls")
+    public long githubApiCalls;
+}
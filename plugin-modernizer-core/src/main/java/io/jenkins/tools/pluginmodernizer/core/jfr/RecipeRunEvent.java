@@ -0,0 +1,33 @@
+package io.jenkins.tools.pluginmodernizer.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A run of OpenRewrite recipes on a plugin, by the rewrite Maven plugin or in memory
+ */
+@Name("io.jenkins.pluginmodernizer.RecipeRun")
+@Label("Recipe Run")
+@Description("A run of OpenRewrite recipes on a plugin")
+@Category({"Plugin Modernizer", "OpenRewrite"})
+@StackTrace(false)
+public final class RecipeRunEvent extends Event {
+
+    @Label("Plugin")
+    public String plugin;
+
+    @Label("Recipe")
+    public String recipe;
+
+    @Label("In Memory")
+    @Description("If the recipe ran in the tool instead of a forked Maven build")
+    public boolean inMemory;
+
+    @Label("Changed Files")
+    @Description("Number of files changed or marked by the recipe, -1 if unknown")
+    public int changedFiles;
+}
@@ -130,7 +130,15 @@ public enum JDK {
      * @throws InterruptedException If an error occurs
      */
     public Path getHome(JdkFetcher jdkFetcher) throws IOException, InterruptedException {
-        return Files.isDirectory(getDefaultSdkMan()) ? getDefaultSdkMan() : jdkFetcher.getJdkPath(major);
+        return isProvided() ? getDefaultSdkMan() : jdkFetcher.getJdkPath(major);
+    }
+
+    /**
+     * Return if the JDK is provided by the environment (SDKMAN) and doesn't need to be downloaded
+     * @return True if provided
+     */
+    public boolean isProvided() {
+        return Files.isDirectory(getDefaultSdkMan());
     }
 
     /**
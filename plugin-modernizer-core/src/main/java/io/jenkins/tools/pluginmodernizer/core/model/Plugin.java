@@ -5,6 +5,7 @@ import io.jenkins.tools.pluginmodernizer.core.config.Settings;
 import io.jenkins.tools.pluginmodernizer.core.extractor.MetadataFlag;
 import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
 import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import io.jenkins.tools.pluginmodernizer.core.extractor.StaticMetadataExtractor;
 import io.jenkins.tools.pluginmodernizer.core.github.GHService;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
 import io.jenkins.tools.pluginmodernizer.core.impl.MavenInvoker;
@@ -22,16 +23,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
 import org.kohsuke.github.GHRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -120,6 +122,16 @@ public class Plugin {
 
     private String pullRequestUrl;
 
+    /**
+     * Fingerprint of the modernization inputs computed after fetching the plugin
+     */
+    private String fingerprint;
+
+    /**
+     * Resources used by each processing stage, in processing order
+     */
+    private final Map<String, StageMetrics> stageMetrics = new LinkedHashMap<>();
+
     /**
      * Flag to indicate if the modernization-metadata has any commits to be pushed
      */
@@ -765,9 +777,6 @@ public class Plugin {
      */
     public void collectMetadata(MavenInvoker maven) {
 
-        XPathFactory xPathFactory = XPathFactory.newInstance();
-        XPath xpath = xPathFactory.newXPath();
-
         // Static parse of the pom file and check for pattern preventing minimal build
         Path pom = getLocalRepository().resolve("pom.xml");
         if (!getLocalRepository().resolve("target").toFile().mkdir()) {
@@ -778,9 +787,7 @@ public class Plugin {
         // Collect precondition errors
         PluginMetadata pluginMetadata = new PluginMetadata();
         pluginMetadata.setCacheManager(buildPluginTargetDirectoryCacheManager());
-        pluginMetadata.setErrors(Arrays.stream(PreconditionError.values())
-                .filter(error -> error.isApplicable(document, xpath))
-                .collect(Collectors.toSet()));
+        pluginMetadata.setErrors(PreconditionError.evaluate(document));
 
         if (!pluginMetadata.getErrors().isEmpty()) {
             LOG.debug("Precondition errors found for plugin {}", name);
@@ -788,7 +795,18 @@ public class Plugin {
             return;
         }
 
-        // Collect using OpenRewrite
+        // Fast path without Maven when the POM can be interpreted statically
+        Optional<PluginMetadata> staticMetadata = config.isMavenMetadata()
+                ? Optional.empty()
+                : new StaticMetadataExtractor(getLocalRepository(), document).extract();
+        if (staticMetadata.isPresent()) {
+            LOG.debug("Collected metadata for plugin {} without Maven", name);
+            staticMetadata.get().setCacheManager(buildPluginTargetDirectoryCacheManager());
+            staticMetadata.get().save();
+            return;
+        }
+
+        // Collect using OpenRewrite on the effective POM
         maven.collectMetadata(this);
     }
 
@@ -992,6 +1010,15 @@ public class Plugin {
         service.fetch(this, RepoType.PLUGIN);
     }
 
+    /**
+     * Get the commit checked out in the local repository of the plugin
+     * @param service The GitHub service
+     * @return The commit SHA
+     */
+    public String getHeadCommit(GHService service) {
+        return service.getHeadCommit(this, RepoType.PLUGIN);
+    }
+
     /**
      * Fetch the metadata into local directory
      * @param service The GitHub service
@@ -1179,6 +1206,39 @@ public class Plugin {
         this.jenkinsVersion = jenkinsVersion;
     }
 
+    /**
+     * Get the fingerprint of the modernization inputs
+     * @return The fingerprint or null if not computed
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Set the fingerprint of the modernization inputs
+     * @param fingerprint The fingerprint
+     */
+    public void setFingerprint(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * Record the resources used by a processing stage. Metrics of a stage run several times are summed
+     * @param stage The stage name
+     * @param metrics The metrics
+     */
+    public void addStageMetrics(String stage, StageMetrics metrics) {
+        stageMetrics.merge(stage, metrics, StageMetrics::plus);
+    }
+
+    /**
+     * Get the resources used by each processing stage
+     * @return The metrics by stage name, in processing order
+     */
+    public Map<String, StageMetrics> getStageMetrics() {
+        return Collections.unmodifiableMap(stageMetrics);
+    }
+
     /**
      * Add a modified file to the plugin
      * @param files The files to add
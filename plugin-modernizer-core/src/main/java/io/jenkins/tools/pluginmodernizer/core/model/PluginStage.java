@@ -0,0 +1,42 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+/**
+ * Stages of the modernization pipeline of a plugin, in processing order.
+ */
+public enum PluginStage {
+    FETCHED(false),
+    METADATA_COLLECTED(false),
+    REWRITTEN(false),
+    VERIFIED(false),
+    COMMITTED(true),
+    PUSHED(true),
+    PULL_REQUEST_OPENED(true),
+    COMPLETED(true);
+
+    /**
+     * If the result of this stage survive the process. Processing can restart after a durable stage.
+     * Non durable stages (like rewritten sources or verified build) are redone on resume.
+     */
+    private final boolean durable;
+
+    PluginStage(boolean durable) {
+        this.durable = durable;
+    }
+
+    /**
+     * Return if processing can restart after this stage
+     * @return True if the stage is durable
+     */
+    public boolean isDurable() {
+        return durable;
+    }
+
+    /**
+     * Return if this stage is at or after the given stage
+     * @param stage The stage to compare
+     * @return True if reached
+     */
+    public boolean isAtLeast(PluginStage stage) {
+        return compareTo(stage) >= 0;
+    }
+}
@@ -1,16 +1,19 @@
 package io.jenkins.tools.pluginmodernizer.core.model;
 
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.utils.XmlUtils;
 import java.io.IOException;
 import java.nio.file.Files;
-import java.util.function.BiFunction;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathConstants;
 import org.w3c.dom.Document;
-import org.w3c.dom.NodeList;
+import org.w3c.dom.Element;
 
 /**
  * Enum to represent the precondition errors preventing any modernization process
@@ -24,7 +27,7 @@ public enum PreconditionError {
      * No pom file found
      */
     NO_POM(
-            (document, xpath) -> document == null,
+            pom -> !pom.present(),
             plugin -> false, // No remediation function available if pom is missing
             "No pom file found"),
 
@@ -32,27 +35,10 @@ public enum PreconditionError {
      * If the plugin is using an older java level bellow 8
      */
     OLDER_JAVA_LEVEL(
-            (document, xpath) -> {
-                if (document == null) {
-                    return false;
-                }
-                try {
-                    String javaLevel = (String) xpath.evaluate(
-                            "//*[local-name()='project']/*[local-name()='properties']/*[local-name()='java.level']",
-                            document,
-                            XPathConstants.STRING);
-                    if (javaLevel == null) {
-                        return false;
-                    }
-                    // Change to 8
-                    if (javaLevel.equals("5") || javaLevel.equals("6") || javaLevel.equals("7")) {
-                        return true;
-                    }
-                    return false;
-                } catch (Exception e) {
-                    return false;
-                }
-            },
+            pom -> pom.javaLevel() != null
+                    && (pom.javaLevel().equals("5")
+                            || pom.javaLevel().equals("6")
+                            || pom.javaLevel().equals("7")),
             plugin -> {
                 try {
                     String content =
@@ -75,20 +61,7 @@ public enum PreconditionError {
      * Parent with 1.x doesn't work because of unfixed versionRange
      */
     PARENT_POM_1X(
-            (document, xpath) -> {
-                if (document == null) {
-                    return false;
-                }
-                try {
-                    Double parentVersion = (Double) xpath.evaluate(
-                            "count(//*[local-name()='project']/*[local-name()='parent']/*[local-name()='version' and starts-with(., '1.')])",
-                            document,
-                            XPathConstants.NUMBER);
-                    return parentVersion != null && !parentVersion.equals(0.0);
-                } catch (Exception e) {
-                    return false;
-                }
-            },
+            pom -> pom.parentVersion() != null && pom.parentVersion().startsWith("1."),
             plugin -> {
                 try {
                     String content =
@@ -99,7 +72,7 @@ public enum PreconditionError {
                     Pattern pattern = Pattern.compile(regex, Pattern.DOTALL);
                     Matcher matcher = pattern.matcher(content);
 
-                    String newContent = matcher.replaceAll("$1" + Settings.REMEDIATION_PLUGIN_PARENT_VERSION + "$3");
+                    String newContent = matcher.replaceAll("$1" + Settings.getRemediationPluginParentVersion() + "$3");
 
                     if (!content.equals(newContent)) {
                         Files.writeString(plugin.getLocalRepository().resolve("pom.xml"), newContent);
@@ -117,28 +90,8 @@ public enum PreconditionError {
      * If the plugin has HTTP repositories preventing modernization
      */
     MAVEN_REPOSITORIES_HTTP(
-            (document, xpath) -> {
-                if (document == null) {
-                    return false;
-                }
-                try {
-                    NodeList repositoryUrls = (NodeList) xpath.evaluate(
-                            "//*[local-name()='project']/*[local-name()='repositories']/*[local-name()='repository']/*[local-name()='url']",
-                            document,
-                            XPathConstants.NODESET);
-
-                    int nonHttpsCount = 0;
-                    for (int i = 0; i < repositoryUrls.getLength(); i++) {
-                        String url = repositoryUrls.item(i).getTextContent().trim();
-                        if (!url.startsWith("https") && !url.startsWith("${") && !url.startsWith("file://")) {
-                            nonHttpsCount++;
-                        }
-                    }
-                    return nonHttpsCount > 0;
-                } catch (Exception e) {
-                    return false;
-                }
-            },
+            pom -> pom.repositoryUrls().stream()
+                    .anyMatch(url -> !url.startsWith("https") && !url.startsWith("${") && !url.startsWith("file://")),
             plugin -> {
                 try {
                     String content =
@@ -157,9 +110,9 @@ public enum PreconditionError {
             "Found non-https repository URL in pom file preventing maven older than 3.8.1");
 
     /**
-     * Predicate to check if the flag is applicable for the given Document and XPath
+     * Predicate to check if the error is applicable for the values of the POM
      */
-    private final BiFunction<Document, XPath, Boolean> isApplicable;
+    private final Predicate<PomValues> isApplicable;
 
     /**
      * Remediation function to fix the error transforming plugin before OpenRewrite
@@ -175,24 +128,39 @@ public enum PreconditionError {
     /**
      * Constructor
      *
-     * @param isApplicable Predicate to check if the flag is applicable for the given XML document
+     * @param isApplicable Predicate to check if the error is applicable for the values of the POM
      */
-    PreconditionError(
-            BiFunction<Document, XPath, Boolean> isApplicable, Function<Plugin, Boolean> remediation, String error) {
+    PreconditionError(Predicate<PomValues> isApplicable, Function<Plugin, Boolean> remediation, String error) {
         this.isApplicable = isApplicable;
         this.remediation = remediation;
         this.error = error;
     }
 
     /**
-     * Check if the flag is applicable for the given Document and XPath
+     * Check if the error is applicable for the given values of the POM
+     *
+     * @param pom the values of the POM
+     * @return true if the error is applicable, false otherwise
+     */
+    public boolean isApplicable(PomValues pom) {
+        return isApplicable.test(pom);
+    }
+
+    /**
+     * Evaluate all preconditions with a single traversal of the POM
      *
-     * @param Document the XML document
-     * @param xpath    the XPath object
-     * @return true if the flag is applicable, false otherwise
+     * @param document the XML document or null if no pom file was found
+     * @return the applicable errors
      */
-    public boolean isApplicable(Document Document, XPath xpath) {
-        return isApplicable.apply(Document, xpath);
+    public static Set<PreconditionError> evaluate(Document document) {
+        PomValues pom = PomValues.from(document);
+        Set<PreconditionError> errors = EnumSet.noneOf(PreconditionError.class);
+        for (PreconditionError error : values()) {
+            if (error.isApplicable(pom)) {
+                errors.add(error);
+            }
+        }
+        return errors;
     }
 
     /**
@@ -212,4 +180,48 @@ public enum PreconditionError {
     public String getError() {
         return error;
     }
+
+    /**
+     * Values of the POM checked by the preconditions
+     *
+     * @param present if the pom file exists
+     * @param javaLevel the java.level property or null if not set
+     * @param parentVersion the parent version or null if no parent
+     * @param repositoryUrls the URLs of the repositories
+     */
+    public record PomValues(boolean present, String javaLevel, String parentVersion, List<String> repositoryUrls) {
+
+        /**
+         * Collect the values from the children of the project element
+         *
+         * @param document the XML document or null if no pom file was found
+         * @return the values
+         */
+        public static PomValues from(Document document) {
+            if (document == null) {
+                return new PomValues(false, null, null, List.of());
+            }
+            String javaLevel = null;
+            String parentVersion = null;
+            List<String> repositoryUrls = new ArrayList<>();
+            for (Element element : XmlUtils.children(document.getDocumentElement())) {
+                switch (XmlUtils.name(element)) {
+                    case "properties" -> javaLevel = XmlUtils.childText(element, "java.level");
+                    case "parent" -> parentVersion = XmlUtils.childText(element, "version");
+                    case "repositories" -> {
+                        for (Element repository : XmlUtils.children(element)) {
+                            String url = XmlUtils.childText(repository, "url");
+                            if ("repository".equals(XmlUtils.name(repository)) && url != null) {
+                                repositoryUrls.add(url);
+                            }
+                        }
+                    }
+                    default -> {
+                        // Not checked
+                    }
+                }
+            }
+            return new PomValues(true, javaLevel, parentVersion, repositoryUrls);
+        }
+    }
 }
@@ -1,8 +1,11 @@
 package io.jenkins.tools.pluginmodernizer.core.model;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * Our own representation of a recipe.
@@ -29,11 +32,74 @@ public class Recipe implements Comparable<Recipe> {
      */
     private Set<String> tags;
 
+    /**
+     * Recipes applied in order by a composite recipe. Empty for a single recipe.
+     */
+    @JsonIgnore
+    private List<Recipe> components = List.of();
+
+    /**
+     * Combine recipes into a composite recipe applied in a single rewrite pass.
+     * The name of the composite is the comma separated list of the recipe names, as expected by the rewrite
+     * active recipes.
+     * @param recipes The recipes in order of application
+     * @return The composite recipe or the recipe itself if only one is given
+     */
+    public static Recipe composite(List<Recipe> recipes) {
+        recipes = recipes.stream().distinct().toList();
+        if (recipes.isEmpty()) {
+            throw new IllegalArgumentException("At least one recipe is required");
+        }
+        if (recipes.size() == 1) {
+            return recipes.get(0);
+        }
+        Recipe composite = new Recipe();
+        composite.setName(recipes.stream().map(Recipe::getName).collect(Collectors.joining(",")));
+        composite.setDisplayName(recipes.stream().map(Recipe::getDisplayName).collect(Collectors.joining(", ")));
+        composite.setDescription(recipes.stream().map(Recipe::getDescription).collect(Collectors.joining("\n")));
+        Set<String> tags = new LinkedHashSet<>();
+        recipes.stream().filter(r -> r.getTags() != null).forEach(r -> tags.addAll(r.getTags()));
+        composite.setTags(tags);
+        composite.components = List.copyOf(recipes);
+        return composite;
+    }
+
+    /**
+     * Return if the recipe combines several recipes
+     * @return True if composite
+     */
+    @JsonIgnore
+    public boolean isComposite() {
+        return !components.isEmpty();
+    }
+
+    /**
+     * Get the recipes applied by this recipe
+     * @return The components of a composite recipe or this recipe
+     */
+    @JsonIgnore
+    public List<Recipe> getComponents() {
+        return isComposite() ? components : List.of(this);
+    }
+
+    /**
+     * Get the identifier of the migration applied by this recipe.
+     * A composite migration joins the names of its recipes with '+' as commas separate list values in reports.
+     * @return The migration identifier
+     */
+    @JsonIgnore
+    public String getMigrationId() {
+        return getComponents().stream().map(Recipe::getName).collect(Collectors.joining("+"));
+    }
+
     /**
      * Return if the execution the recipe will be skipped
      * @return True if the recipe will skip verification
      */
     public boolean isSkipVerification() {
+        if (isComposite()) {
+            return components.stream().allMatch(Recipe::isSkipVerification);
+        }
         return tags != null && tags.contains("skip-verification");
     }
 
@@ -0,0 +1,118 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+import java.util.zip.CRC32;
+
+/**
+ * A shard of a run split across several runners. Each runner is started with the same plugins and its own shard,
+ * and every plugin is assigned to exactly one shard without any coordination between runners.
+ * @param index The shard index, from 1 to count
+ * @param count The number of shards
+ */
+public record Shard(int index, int count) {
+
+    public Shard {
+        if (count < 1 || index < 1 || index > count) {
+            throw new ModernizerException(
+                    "Invalid shard %d/%d. Expected i/N with 1 <= i <= N".formatted(index, count));
+        }
+    }
+
+    /**
+     * Parse a shard
+     * @param value The shard as {@code i/N}, like {@code 2/8}
+     * @return The shard
+     */
+    public static Shard parse(String value) {
+        String[] parts = value.trim().split("/");
+        if (parts.length != 2) {
+            throw new ModernizerException("Invalid shard '%s'. Expected i/N, like 2/8".formatted(value));
+        }
+        try {
+            return new Shard(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()));
+        } catch (NumberFormatException e) {
+            throw new ModernizerException("Invalid shard '%s'. Expected i/N, like 2/8".formatted(value), e);
+        }
+    }
+
+    /**
+     * Select the plugins of this shard by hashing their names. A plugin stays in the same shard whatever the other
+     * plugins of the run and their order
+     * @param plugins All plugins of the run
+     * @return The plugins of this shard, in the original order
+     */
+    public List<Plugin> select(List<Plugin> plugins) {
+        return plugins.stream()
+                .filter(plugin -> hash(plugin.getName()) % count == index - 1)
+                .toList();
+    }
+
+    /**
+     * Select the plugins of this shard balancing the expected durations, so all shards finish at about the same time.
+     * Plugins are assigned longest first to the least loaded shard. The assignment only depends on the plugin names
+     * and durations, so runners with the same inputs compute the same assignment.
+     * @param plugins All plugins of the run
+     * @param durations Expected duration of a plugin in milliseconds, or a negative value if unknown.
+     *                  Unknown durations are estimated with the median of the known ones
+     * @return The plugins of this shard, in the original order
+     */
+    public List<Plugin> select(List<Plugin> plugins, ToLongFunction<Plugin> durations) {
+        Map<String, Long> known = plugins.stream()
+                .collect(Collectors.toMap(
+                        Plugin::getName, durations::applyAsLong, (first, second) -> first, LinkedHashMap::new));
+        List<Long> sorted =
+                known.values().stream().filter(duration -> duration >= 0).sorted().toList();
+        long estimate = sorted.isEmpty() ? 1 : sorted.get(sorted.size() / 2);
+
+        List<String> names = new ArrayList<>(known.keySet());
+        names.sort(Comparator.<String>comparingLong(name -> cost(known.get(name), estimate))
+                .reversed()
+                .thenComparing(Comparator.naturalOrder()));
+        long[] loads = new long[count];
+        Set<String> selected = new HashSet<>();
+        for (String name : names) {
+            int shard = 0;
+            for (int i = 1; i < count; i++) {
+                if (loads[i] < loads[shard]) {
+                    shard = i;
+                }
+            }
+            loads[shard] += cost(known.get(name), estimate);
+            if (shard == index - 1) {
+                selected.add(name);
+            }
+        }
+        return plugins.stream()
+                .filter(plugin -> selected.contains(plugin.getName()))
+                .toList();
+    }
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+
+    private static long cost(long duration, long estimate) {
+        return duration >= 0 ? duration : estimate;
+    }
+
+    /**
+     * Stable hash of a plugin name, independent of the JVM
+     * @param name The plugin name
+     * @return The hash
+     */
+    private static long hash(String name) {
+        CRC32 crc = new CRC32();
+        crc.update(name.getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,30 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+/**
+ * Resources used by a processing stage of a plugin
+ * @param wallMillis Wall time of the stage
+ * @param processCpuMillis CPU time of the processes forked and terminated during the stage, like Maven builds.
+ *                         Always 0 on platforms without process accounting
+ * @param bytesTransferred Bytes downloaded by the tool itself (GitHub API responses and HTTP downloads)
+ * @param githubApiCalls Number of GitHub API calls
+ */
+public record StageMetrics(long wallMillis, long processCpuMillis, long bytesTransferred, long githubApiCalls) {
+
+    /**
+     * Metrics of a stage that did not run
+     */
+    public static final StageMetrics EMPTY = new StageMetrics(0, 0, 0, 0);
+
+    /**
+     * Sum the metrics of a stage that ran several times
+     * @param other The other metrics
+     * @return The sum of both metrics
+     */
+    public StageMetrics plus(StageMetrics other) {
+        return new StageMetrics(
+                wallMillis + other.wallMillis,
+                processCpuMillis + other.processCpuMillis,
+                bytesTransferred + other.bytesTransferred,
+                githubApiCalls + other.githubApiCalls);
+    }
+}
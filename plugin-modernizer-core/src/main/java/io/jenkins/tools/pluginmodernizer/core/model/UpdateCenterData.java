@@ -3,6 +3,10 @@ package io.jenkins.tools.pluginmodernizer.core.model;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
 import java.io.Serializable;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +17,12 @@ import java.util.Map;
  */
 public class UpdateCenterData extends CacheEntry<UpdateCenterData> {
 
+    /**
+     * Number of fields of a snapshot record before the labels:
+     * name, version, scm, default branch, gav and deprecation URL
+     */
+    private static final int SNAPSHOT_FIELDS = 6;
+
     /**
      * Plugins in the update center mapped by their name
      */
@@ -43,6 +53,59 @@ public class UpdateCenterData extends CacheEntry<UpdateCenterData> {
         return deprecations;
     }
 
+    /**
+     * Get the plugins and deprecations as snapshot records by plugin name.
+     * Deprecated plugins no longer in the update center only have a deprecation URL
+     * @return The records
+     */
+    public Map<String, List<String>> toSnapshotRecords() {
+        Map<String, List<String>> records = new HashMap<>();
+        if (plugins != null) {
+            plugins.forEach((name, plugin) -> {
+                List<String> record = new ArrayList<>(Arrays.asList(
+                        plugin.name(), plugin.version(), plugin.scm(), plugin.defaultBranch(), plugin.gav(), null));
+                if (plugin.labels() != null) {
+                    record.addAll(plugin.labels());
+                }
+                records.put(name, record);
+            });
+        }
+        if (deprecations != null) {
+            deprecations.forEach((name, deprecation) -> {
+                List<String> record = records.computeIfAbsent(
+                        name, key -> new ArrayList<>(Collections.nCopies(SNAPSHOT_FIELDS, null)));
+                record.set(SNAPSHOT_FIELDS - 1, deprecation.url());
+            });
+        }
+        return records;
+    }
+
+    /**
+     * Read an update center plugin from a snapshot record
+     * @param record The record, can be null
+     * @return The plugin or null if the record is not an update center plugin
+     */
+    public static UpdateCenterPlugin pluginFromSnapshot(List<String> record) {
+        if (record == null || record.get(0) == null) {
+            return null;
+        }
+        List<String> labels = record.size() > SNAPSHOT_FIELDS ? record.subList(SNAPSHOT_FIELDS, record.size()) : null;
+        return new UpdateCenterPlugin(
+                record.get(0), record.get(1), record.get(2), record.get(3), record.get(4), labels);
+    }
+
+    /**
+     * Read a deprecation from a snapshot record
+     * @param record The record, can be null
+     * @return The deprecation or null if the plugin is not in the deprecations list
+     */
+    public static DeprecatedPlugin deprecationFromSnapshot(List<String> record) {
+        if (record == null || record.get(SNAPSHOT_FIELDS - 1) == null) {
+            return null;
+        }
+        return new DeprecatedPlugin(record.get(SNAPSHOT_FIELDS - 1));
+    }
+
     /**
      * An update center plugin record with what we need
      * @param name Plugin name
@@ -1,7 +1,11 @@
 package io.jenkins.tools.pluginmodernizer.core.recipes;
 
 import io.jenkins.tools.pluginmodernizer.core.model.DetachedPlugins;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.openrewrite.ExecutionContext;
@@ -29,6 +33,12 @@ public class AddDetachedPluginDependency extends ScanningRecipe<Set<String>> {
     @Option(displayName = "Version", description = "Jenkins version.", example = "2.440.3")
     String jenkinsVersion;
 
+    /**
+     * Detached plugins by imported package and class name. Only contains plugins detached before the Jenkins version.
+     * Built once per recipe instance since the scanner is created for each source file.
+     */
+    private transient Map<String, List<DetachedPlugins>> index;
+
     /**
      * Constructor.
      * @param jenkinsVersion The Jenkins version.
@@ -62,17 +72,12 @@ public class AddDetachedPluginDependency extends ScanningRecipe<Set<String>> {
             public J.Import visitImport(J.Import importStmt, ExecutionContext ctx) {
                 String importedClass = importStmt.getTypeName();
                 String importedPackage = importedClass.substring(0, importedClass.lastIndexOf('.'));
-
-                LOG.info("Detected import: {}", importedClass);
-                for (DetachedPlugins plugin : DetachedPlugins.values()) {
-                    if (plugin.getPackageName().contains(importedPackage)
-                            || plugin.getClassNames().contains(importedClass)) {
-                        // Only add if jenkins version past lastCoreRelease
-                        if (new ComparableVersion(jenkinsVersion)
-                                        .compareTo(new ComparableVersion(plugin.getLastCoreRelease()))
-                                > 0) {
+                Map<String, List<DetachedPlugins>> index = getIndex();
+                LOG.trace("Detected import: {}", importedClass);
+                for (String key : List.of(importedPackage, importedClass)) {
+                    for (DetachedPlugins plugin : index.getOrDefault(key, List.of())) {
+                        if (acc.add(plugin.getPluginId())) {
                             LOG.info("Detected usage of detached plugin: {}", plugin.getPluginId());
-                            acc.add(plugin.getPluginId());
                         }
                     }
                 }
@@ -81,6 +86,31 @@ public class AddDetachedPluginDependency extends ScanningRecipe<Set<String>> {
         };
     }
 
+    /**
+     * Get the index of detached plugins by package and class name, building it on first use
+     * @return The index
+     */
+    private Map<String, List<DetachedPlugins>> getIndex() {
+        if (index == null) {
+            ComparableVersion version = new ComparableVersion(jenkinsVersion);
+            Map<String, List<DetachedPlugins>> newIndex = new HashMap<>();
+            for (DetachedPlugins plugin : DetachedPlugins.values()) {
+                // Only add if jenkins version past lastCoreRelease
+                if (version.compareTo(new ComparableVersion(plugin.getLastCoreRelease())) <= 0) {
+                    continue;
+                }
+                for (String key : plugin.getPackageName()) {
+                    newIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(plugin);
+                }
+                for (String key : plugin.getClassNames()) {
+                    newIndex.computeIfAbsent(key, k -> new ArrayList<>()).add(plugin);
+                }
+            }
+            index = newIndex;
+        }
+        return index;
+    }
+
     /**
      * Add dependencies to pom.xml if they were detected.
      */
@@ -1,24 +1,55 @@
 package io.jenkins.tools.pluginmodernizer.core.recipes;
 
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import org.openrewrite.ExecutionContext;
 import org.openrewrite.Recipe;
-import org.openrewrite.Tree;
 import org.openrewrite.TreeVisitor;
-import org.openrewrite.java.search.FindDeprecatedMethods;
+import org.openrewrite.java.JavaIsoVisitor;
 import org.openrewrite.java.tree.J;
+import org.openrewrite.java.tree.JavaType;
+import org.openrewrite.java.tree.TypeUtils;
 import org.openrewrite.marker.SearchResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Mark and count invocations of deprecated methods in a single traversal of each file.
+ * Counts are reported per invoked method and per file.
+ */
 public class CountDeprecatedMethodUsages extends Recipe {
 
     private static final Logger LOG = LoggerFactory.getLogger(CountDeprecatedMethodUsages.class);
 
-    private final AtomicInteger totalDeprecatedCount = new AtomicInteger();
+    /**
+     * Usages by method, as declaring type and method name separated by #
+     */
+    private final Map<String, Integer> countsBySymbol = new ConcurrentHashMap<>();
+
+    /**
+     * Usages by source path
+     */
+    private final Map<String, Integer> countsByFile = new ConcurrentHashMap<>();
+
+    /**
+     * Deprecated usages found by the recipe
+     * @param total The total number of usages
+     * @param bySymbol Usages by method, sorted by method
+     * @param byFile Usages by source path, sorted by path
+     */
+    public record Report(int total, Map<String, Integer> bySymbol, Map<String, Integer> byFile) {}
 
     public int getTotalDeprecatedCount() {
-        return totalDeprecatedCount.get();
+        return countsByFile.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Get the usages found so far
+     * @return The report
+     */
+    public Report getReport() {
+        return new Report(getTotalDeprecatedCount(), new TreeMap<>(countsBySymbol), new TreeMap<>(countsByFile));
     }
 
     @Override
@@ -33,34 +64,46 @@ public class CountDeprecatedMethodUsages extends Recipe {
 
     @Override
     public TreeVisitor<?, ExecutionContext> getVisitor() {
-        // FindDeprecatedMethods recipe with full wildcard pattern
-        Recipe findDeprecated = new FindDeprecatedMethods("*..* *(..)", false);
-
-        return new TreeVisitor<>() {
+        return new JavaIsoVisitor<>() {
             @Override
-            public Tree visit(Tree tree, ExecutionContext ctx) {
-                // Apply the FindDeprecatedMethods visitor
-                Tree result = findDeprecated.getVisitor().visit(tree, ctx);
-
-                AtomicInteger perFileCount = new AtomicInteger();
-
-                new TreeVisitor<Tree, ExecutionContext>() {
-                    @Override
-                    public Tree visit(Tree innerTree, ExecutionContext innerCtx) {
-                        if (innerTree instanceof J
-                                && (innerTree)
-                                        .getMarkers()
-                                        .findFirst(SearchResult.class)
-                                        .isPresent()) {
-                            perFileCount.incrementAndGet();
-                        }
-                        return super.visit(innerTree, innerCtx);
-                    }
-                }.visit(result, ctx);
+            public J.CompilationUnit visitCompilationUnit(J.CompilationUnit cu, ExecutionContext ctx) {
+                // Skip the traversal of files not using any deprecated method
+                if (cu.getTypesInUse().getUsedMethods().stream().noneMatch(CountDeprecatedMethodUsages::isDeprecated)) {
+                    return cu;
+                }
+                return super.visitCompilationUnit(cu, ctx);
+            }
 
-                totalDeprecatedCount.addAndGet(perFileCount.get());
-                return result;
+            @Override
+            public J.MethodInvocation visitMethodInvocation(J.MethodInvocation method, ExecutionContext ctx) {
+                J.MethodInvocation m = super.visitMethodInvocation(method, ctx);
+                JavaType.Method type = m.getMethodType();
+                // Already marked on a previous cycle
+                if (type == null
+                        || !isDeprecated(type)
+                        || m.getMarkers().findFirst(SearchResult.class).isPresent()) {
+                    return m;
+                }
+                String file = getCursor()
+                        .firstEnclosingOrThrow(J.CompilationUnit.class)
+                        .getSourcePath()
+                        .toString();
+                String symbol = type.getDeclaringType().getFullyQualifiedName() + "#" + type.getName();
+                LOG.debug("Found deprecated method usage {} in {}", symbol, file);
+                countsBySymbol.merge(symbol, 1, Integer::sum);
+                countsByFile.merge(file, 1, Integer::sum);
+                return SearchResult.found(m);
             }
         };
     }
+
+    /**
+     * Check if a method is annotated with {@link Deprecated}
+     * @param method The method type
+     * @return True if deprecated
+     */
+    private static boolean isDeprecated(JavaType.Method method) {
+        return method.getAnnotations().stream()
+                .anyMatch(annotation -> TypeUtils.isOfClassType(annotation, "java.lang.Deprecated"));
+    }
 }
@@ -8,6 +8,7 @@ import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -34,13 +35,14 @@ public class CSVUtils {
             HttpRequest request =
                     HttpRequest.newBuilder().GET().uri(url.toURI()).build();
             LOG.debug("Fetching data from: {}", url);
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
             if (response.statusCode() != 200) {
                 throw new ModernizerException(
                         "Failed to get CSV data. Received response code: " + response.statusCode() + " from " + url);
             }
             LOG.debug("Fetched data from: {}", url);
-            return response.body();
+            PluginMetrics.recordTransfer(response.body().length);
+            return new String(response.body(), StandardCharsets.UTF_8);
         } catch (IOException | JsonSyntaxException | URISyntaxException | InterruptedException e) {
             throw new ModernizerException("Unable to fetch data from " + url, e);
         }
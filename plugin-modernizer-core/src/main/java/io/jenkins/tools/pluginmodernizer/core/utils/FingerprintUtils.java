@@ -0,0 +1,60 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Compute the fingerprint of the inputs of a modernization.
+ * Two runs with the same fingerprint apply the same recipe with the same tool on the same plugin sources
+ * and are expected to produce the same result.
+ */
+public class FingerprintUtils {
+
+    private FingerprintUtils() {
+        // Hide constructor
+    }
+
+    /**
+     * Compute the fingerprint of a modernization
+     * @param headCommit The commit of the plugin sources
+     * @param recipe The name of the recipe
+     * @param toolVersion The version of the modernizer
+     * @return The fingerprint as hexadecimal SHA-256
+     */
+    public static String fingerprint(String headCommit, String recipe, String toolVersion) {
+        return digest(List.of(
+                "commit=" + headCommit,
+                "recipe=" + recipe,
+                "tool=" + toolVersion,
+                "rewrite-maven-plugin=" + Settings.getRewritePluginVersion(),
+                "remediation-parent=" + Settings.getRemediationPluginParentVersion(),
+                "jenkins-parent=" + Settings.getJenkinsParentVersion(),
+                "bom=" + Settings.getBomVersion(),
+                "recommended-bom=" + Settings.getRecommendedBomVersion(),
+                "jenkins-minimum=" + Settings.getJenkinsMinimumVersion(),
+                "jenkins-test-harness=" + Settings.getJenkinsTestHarnessVersion()));
+    }
+
+    /**
+     * Digest the given lines
+     * @param lines The lines
+     * @return The hexadecimal SHA-256
+     */
+    static String digest(List<String> lines) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String line : lines) {
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new ModernizerException("SHA-256 not available", e);
+        }
+    }
+}
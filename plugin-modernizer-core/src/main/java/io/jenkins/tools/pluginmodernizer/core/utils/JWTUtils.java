@@ -8,6 +8,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.security.PrivateKey;
 import java.security.Security;
+import java.time.Duration;
 import java.util.Date;
 import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.openssl.PEMKeyPair;
@@ -43,15 +44,27 @@ public final class JWTUtils {
     }
 
     /**
-     * Get JWT token
+     * Get JWT token valid for one minute
      * @param config The configuration
      * @return the JWT token
      */
     public static String getJWT(Config config, Path pemFile) {
+        return getJWT(config, pemFile, Duration.ofMinutes(1));
+    }
+
+    /**
+     * Get JWT token
+     * @param config The configuration
+     * @param pemFile the path to the PEM file
+     * @param validity the validity of the token (GitHub accept at most 10 minutes)
+     * @return the JWT token
+     */
+    public static String getJWT(Config config, Path pemFile, Duration validity) {
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .issuedAt(new Date(System.currentTimeMillis()))
+                .issuedAt(new Date(now))
                 .issuer(config.getGithubAppId().toString())
-                .expiration(new Date(System.currentTimeMillis() + 60000))
+                .expiration(new Date(now + validity.toMillis()))
                 .signWith(buildPrivateKey(pemFile), Jwts.SIG.RS256)
                 .compact();
     }
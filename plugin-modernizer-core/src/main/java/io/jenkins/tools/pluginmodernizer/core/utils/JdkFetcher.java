@@ -7,39 +7,86 @@ import com.google.gson.JsonParser;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
 import java.util.zip.ZipInputStream;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.apache.commons.io.input.TeeInputStream;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
  * A utility class for fetching the latest JDK releases from the Adoptium GitHub repository.
+ * JDKs are downloaded with resume support, extracted while streaming, verified against the published checksum and
+ * installed with an atomic rename. A per-version file lock guards concurrent processes sharing the same cache.
  */
 @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "false, positive")
 public class JdkFetcher {
     private static final Logger LOG = LoggerFactory.getLogger(JdkFetcher.class);
 
+    /**
+     * Marker written in the JDK directory once installed. Directories without it are incomplete installs
+     */
+    static final String INSTALLED_MARKER = ".plugin-modernizer-installed";
+
     private final Path cacheDir;
 
+    private final HttpClient client;
+
+    /**
+     * File locks are held by the JVM, so threads of this process are serialized with an in-process lock
+     */
+    private final Map<Integer, ReentrantLock> locks = new ConcurrentHashMap<>();
+
+    /**
+     * A JDK archive to download
+     * @param url The archive URL
+     * @param checksumUrl The URL of the SHA-256 checksum or null if not published
+     */
+    record JdkRelease(String url, String checksumUrl) {}
+
     public JdkFetcher(Path cacheDir) {
         this.cacheDir = cacheDir;
+        this.client =
+                HttpClient.newBuilder().followRedirects(HttpClient.Redirect.NORMAL).build();
     }
 
     /**
@@ -53,8 +100,8 @@ public class JdkFetcher {
      */
     public Path getJdkPath(int jdkVersion) throws IOException, InterruptedException {
         Path jdkPath = getJdkDirectoryPath(jdkVersion);
-        if (Files.notExists(jdkPath)) {
-            downloadAndSetupJdk(jdkVersion, jdkPath);
+        if (!isInstalled(jdkPath)) {
+            install(jdkVersion, jdkPath);
         }
 
         if (!Files.isDirectory(jdkPath.resolve("bin"))) {
@@ -70,30 +117,140 @@ public class JdkFetcher {
     }
 
     /**
-     * Downloads and extracts the JDK for the specified version. The method determines the appropriate extraction
-     * method based on the operating system.
+     * Download in parallel all the given JDK versions not installed yet.
+     * Failures are only logged, the JDK will be fetched again when needed.
+     *
+     * @param jdkVersions The JDK versions
+     */
+    public void provision(Collection<Integer> jdkVersions) {
+        List<Integer> missing = jdkVersions.stream()
+                .distinct()
+                .filter(jdkVersion -> !isInstalled(getJdkDirectoryPath(jdkVersion)))
+                .toList();
+        if (missing.isEmpty()) {
+            LOG.debug("All JDKs {} already provisioned", jdkVersions);
+            return;
+        }
+        LOG.info("Provisioning JDKs {}...", missing);
+        Map<Integer, Future<Path>> downloads = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (Integer jdkVersion : missing) {
+                downloads.put(jdkVersion, executor.submit(() -> getJdkPath(jdkVersion)));
+            }
+            for (Map.Entry<Integer, Future<Path>> download : downloads.entrySet()) {
+                try {
+                    download.getValue().get();
+                } catch (ExecutionException e) {
+                    LOG.warn(
+                            "Failed to provision JDK {}: {}",
+                            download.getKey(),
+                            e.getCause().getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    LOG.warn("Interrupted while provisioning JDKs");
+                    return;
+                }
+            }
+        }
+        LOG.info("JDKs provisioned");
+    }
+
+    /**
+     * Install the JDK while holding the lock of its version
+     *
+     * @param jdkVersion The version of the JDK
+     * @param jdkPath The target directory
+     * @throws IOException          If an I/O error occurs.
+     * @throws InterruptedException If the operation is interrupted.
+     */
+    private void install(int jdkVersion, Path jdkPath) throws IOException, InterruptedException {
+        ReentrantLock lock = locks.computeIfAbsent(jdkVersion, k -> new ReentrantLock());
+        lock.lockInterruptibly();
+        try {
+            Path jdksDir = getJdksDirectory();
+            Files.createDirectories(jdksDir);
+            Path lockFile = jdksDir.resolve("plugin-modernizer-jdk-" + jdkVersion + ".lock");
+            try (FileChannel channel =
+                            FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                    FileLock ignored = channel.lock()) {
+                // Another thread or process might have installed it while we were waiting
+                if (isInstalled(jdkPath)) {
+                    return;
+                }
+                if (Files.exists(jdkPath)) {
+                    LOG.warn("Removing incomplete JDK installation at {}", jdkPath);
+                    FileUtils.deleteDirectory(jdkPath.toFile());
+                }
+                downloadAndSetupJdk(jdkVersion, jdkPath);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Return if a JDK directory is a complete installation
+     *
+     * @param jdkPath The JDK directory
+     * @return True if installed
+     */
+    private boolean isInstalled(Path jdkPath) {
+        return Files.isRegularFile(jdkPath.resolve(INSTALLED_MARKER));
+    }
+
+    /**
+     * Downloads and extracts the JDK for the specified version into a temporary directory, then moves it to its
+     * final location.
      *
      * @param jdkVersion The version of the JDK (e.g., "8").
-     * @param extractionDir The directory where the JDK will be extracted.
+     * @param jdkPath The directory where the JDK will be installed.
      * @throws IOException          If an I/O error occurs.
      * @throws InterruptedException If the operation is interrupted.
      */
-    private void downloadAndSetupJdk(int jdkVersion, Path extractionDir) throws IOException, InterruptedException {
-        LOG.info("Downloading the JDK...");
-        Path downloadedFile = downloadJdk(jdkVersion);
-        LOG.info("Download successful");
+    private void downloadAndSetupJdk(int jdkVersion, Path jdkPath) throws IOException, InterruptedException {
+        JdkRelease release = fetchLatestRelease(jdkVersion);
+        if (release == null) {
+            throw new ModernizerException("Unable to find a JDK %s release for %s/%s"
+                    .formatted(jdkVersion, getOSName(), getArchitecture()));
+        }
+        String expectedChecksum = release.checksumUrl() != null ? fetchChecksum(release.checksumUrl()) : null;
+        if (expectedChecksum == null) {
+            LOG.warn("No checksum available for {}. The download will not be verified", release.url());
+        }
 
-        LOG.info("Extracting...");
-        Files.createDirectories(extractionDir);
-        String os = getOSName();
-        if (os.contains("windows")) {
-            extractZip(downloadedFile, extractionDir);
-        } else if (os.contains("linux") || os.contains("mac")) {
-            extractTarGz(downloadedFile, extractionDir);
-            LOG.info("Setting executable permissions for files in bin directory");
-            setJavaBinariesPermissions(extractionDir);
+        Path jdksDir = getJdksDirectory();
+        removeStaleTemporaryDirectories(jdkVersion);
+        Path partFile = getPartFile(jdkVersion, release.url());
+        removeStalePartFiles(jdkVersion, partFile);
+        Path extractionDir = Files.createTempDirectory(jdksDir, getTemporaryDirectoryPrefix(jdkVersion));
+        try {
+            LOG.info("Downloading and extracting JDK {} from {}...", jdkVersion, release.url());
+            String checksum;
+            try {
+                checksum = downloadAndExtract(release.url(), partFile, extractionDir);
+            } catch (ZipException e) {
+                // Corrupted archive, restart the download from scratch next time
+                Files.deleteIfExists(partFile);
+                throw e;
+            }
+            if (expectedChecksum != null && !expectedChecksum.equalsIgnoreCase(checksum)) {
+                Files.deleteIfExists(partFile);
+                throw new ModernizerException("Checksum mismatch for %s. Expected %s but was %s"
+                        .formatted(release.url(), expectedChecksum, checksum));
+            }
+            if (!getOSName().contains("windows")) {
+                LOG.info("Setting executable permissions for files in bin directory");
+                setJavaBinariesPermissions(extractionDir);
+            }
+            Files.writeString(extractionDir.resolve(INSTALLED_MARKER), checksum);
+            Files.move(extractionDir, jdkPath, StandardCopyOption.ATOMIC_MOVE);
+            Files.deleteIfExists(partFile);
+            LOG.info("JDK {} installed at {}", jdkVersion, jdkPath);
+        } finally {
+            if (Files.exists(extractionDir)) {
+                FileUtils.deleteDirectory(extractionDir.toFile());
+            }
         }
-        LOG.info("Extraction successful");
     }
 
     /**
@@ -103,57 +260,145 @@ public class JdkFetcher {
      * @return The path to the JDK directory.
      */
     private Path getJdkDirectoryPath(int jdkVersion) {
-        return cacheDir.resolve(".jdks").resolve("plugin-modernizer-jdk-" + jdkVersion);
+        return getJdksDirectory().resolve("plugin-modernizer-jdk-" + jdkVersion);
     }
 
     /**
-     * Downloads the JDK for the specified version from the appropriate URL and saves it to the local directory.
+     * Gets the directory containing the JDKs, archives and locks
      *
-     * @param jdkVersion The version of the JDK (e.g., "8").
-     * @return The path to the downloaded JDK file.
+     * @return The JDKs directory
+     */
+    private Path getJdksDirectory() {
+        return cacheDir.resolve(".jdks");
+    }
+
+    private String getTemporaryDirectoryPrefix(int jdkVersion) {
+        return "plugin-modernizer-jdk-" + jdkVersion + ".tmp-";
+    }
+
+    /**
+     * Remove extraction directories left by an interrupted installation. Must be called while holding the lock.
+     *
+     * @param jdkVersion The version of the JDK
+     * @throws IOException If an I/O error occurs.
+     */
+    private void removeStaleTemporaryDirectories(int jdkVersion) throws IOException {
+        try (Stream<Path> paths = Files.list(getJdksDirectory())) {
+            for (Path path : paths.filter(p -> p.getFileName()
+                            .toString()
+                            .startsWith(getTemporaryDirectoryPrefix(jdkVersion)))
+                    .toList()) {
+                LOG.debug("Removing stale extraction directory {}", path);
+                FileUtils.deleteDirectory(path.toFile());
+            }
+        }
+    }
+
+    /**
+     * Download an archive while extracting it. Bytes are appended to the part file so an interrupted download
+     * resumes from where it stopped. Already downloaded bytes are replayed from the part file.
+     *
+     * @param url The archive URL
+     * @param partFile The file keeping the downloaded bytes
+     * @param extractionDir The directory to extract the archive into
+     * @return The SHA-256 of the whole archive
      * @throws IOException          If an I/O error occurs.
      * @throws InterruptedException If the operation is interrupted.
      */
     @SuppressFBWarnings(value = "URLCONNECTION_SSRF_FD", justification = "false positive")
-    private Path downloadJdk(int jdkVersion) throws IOException, InterruptedException {
-        String downloadUrl = fetchLatestReleaseUrl(jdkVersion);
-        if (downloadUrl != null) {
-            Path downloadPath = cacheDir.resolve(".jdks").resolve("jdk" + jdkVersion + getExtension(downloadUrl));
-            Path parentPath = downloadPath.getParent();
-            if (parentPath != null) {
-                Files.createDirectories(parentPath);
-            }
+    String downloadAndExtract(String url, Path partFile, Path extractionDir) throws IOException, InterruptedException {
+        long downloaded = Files.exists(partFile) ? Files.size(partFile) : 0;
+        HttpRequest.Builder request = HttpRequest.newBuilder().uri(URI.create(url));
+        if (downloaded > 0) {
+            request.header("Range", "bytes=" + downloaded + "-");
+        }
+        HttpResponse<InputStream> response = client.send(request.build(), HttpResponse.BodyHandlers.ofInputStream());
+        int status = response.statusCode();
+        InputStream remote = response.body();
+        boolean resumed = false;
+        if (downloaded > 0 && status == 206) {
+            LOG.info("Resuming download of {} after {} bytes", url, downloaded);
+            resumed = true;
+        } else if (downloaded > 0 && status == 416) {
+            // Part file is already complete
+            remote.close();
+            remote = InputStream.nullInputStream();
+            resumed = true;
+        } else if (status != 200) {
+            remote.close();
+            throw new IOException("Failed to download %s. HTTP Status Code: %s".formatted(url, status));
+        }
 
-            try (InputStream in = URI.create(downloadUrl).toURL().openStream()) {
-                Files.copy(in, downloadPath, StandardCopyOption.REPLACE_EXISTING);
+        MessageDigest digest = getSha256();
+        InputStream local = resumed ? Files.newInputStream(partFile) : InputStream.nullInputStream();
+        try (OutputStream part = Files.newOutputStream(
+                        partFile,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        resumed ? StandardOpenOption.APPEND : StandardOpenOption.TRUNCATE_EXISTING);
+                InputStream in = new DigestInputStream(
+                        new BufferedInputStream(
+                                new SequenceInputStream(local, new TeeInputStream(remote, part, true)), 65536),
+                        digest)) {
+            if (url.toLowerCase().endsWith(".zip")) {
+                extractZip(in, extractionDir);
+            } else {
+                extractTarGz(in, extractionDir);
             }
-            return downloadPath;
+            // Archive formats might end before the last bytes, which are still needed for the checksum
+            in.transferTo(OutputStream.nullOutputStream());
         }
-        return null;
+        PluginMetrics.recordTransfer(Files.size(partFile) - downloaded);
+        return HexFormat.of().formatHex(digest.digest());
     }
 
     /**
-     * Determines the file extension based on the URL.
+     * Gets the file keeping the downloaded bytes of a JDK archive. It is named after the archive of the release, so
+     * the partial download of a previous release is never resumed with the bytes of a newer one.
      *
+     * @param jdkVersion The version of the JDK
      * @param url The URL of the JDK download.
-     * @return The file extension (e.g., ".zip" or ".tar.gz").
+     * @return The part file
      */
-    private String getExtension(String url) {
-        return url.toLowerCase().endsWith(".zip") ? ".zip" : ".tar.gz";
+    Path getPartFile(int jdkVersion, String url) {
+        String archive = url.substring(url.lastIndexOf('/') + 1).replaceAll("[^A-Za-z0-9._-]", "_");
+        return getJdksDirectory().resolve("jdk" + jdkVersion + "-" + archive + ".part");
     }
 
     /**
-     * Fetches the latest release download URL for a specified JDK version and OS.
+     * Remove the part files of other releases of a JDK version. Must be called while holding the lock.
+     *
+     * @param jdkVersion The version of the JDK
+     * @param partFile The part file of the release to download
+     * @throws IOException If an I/O error occurs.
+     */
+    void removeStalePartFiles(int jdkVersion, Path partFile) throws IOException {
+        try (Stream<Path> paths = Files.list(getJdksDirectory())) {
+            for (Path path : paths.filter(p -> !p.equals(partFile))
+                    .filter(p -> {
+                        String name = p.getFileName().toString();
+                        return name.endsWith(".part")
+                                && (name.startsWith("jdk" + jdkVersion + "-")
+                                        || name.startsWith("jdk" + jdkVersion + "."));
+                    })
+                    .toList()) {
+                LOG.debug("Removing partial download of another release {}", path);
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Fetches the latest release for a specified JDK version and OS.
      *
      * @param jdkVersion The version of the JDK (e.g., "8").
-     * @return The download URL of the latest release, or null if not found.
+     * @return The latest release, or null if not found.
      * @throws IOException          If an I/O error occurs.
      * @throws InterruptedException If the operation is interrupted.
      */
-    private String fetchLatestReleaseUrl(int jdkVersion) throws IOException, InterruptedException {
+    private JdkRelease fetchLatestRelease(int jdkVersion) throws IOException, InterruptedException {
         String latestUrl =
                 String.format("%s/temurin%s-binaries/releases", Settings.ADOPTIUM_GITHUB_API_URL, jdkVersion);
-        HttpClient client = HttpClient.newHttpClient();
         HttpRequest request =
                 HttpRequest.newBuilder().uri(URI.create(latestUrl)).build();
 
@@ -163,9 +408,9 @@ public class JdkFetcher {
             for (JsonElement releaseElement : releases) {
                 JsonObject release = releaseElement.getAsJsonObject();
                 JsonArray assets = release.getAsJsonArray("assets");
-                String url = getDownloadUrl(assets, jdkVersion);
-                if (url != null) {
-                    return url;
+                JdkRelease jdkRelease = getRelease(assets, jdkVersion);
+                if (jdkRelease != null) {
+                    return jdkRelease;
                 }
             }
         } else {
@@ -175,13 +420,13 @@ public class JdkFetcher {
     }
 
     /**
-     * Finds the download URL for the JDK based on the JDK version and operating system.
+     * Finds the download URL and its checksum for the JDK based on the JDK version and operating system.
      *
      * @param assets     A JSON array of assets from a GitHub release.
      * @param jdkVersion The version of the JDK (e.g., "8").
-     * @return The download URL if a matching asset is found, otherwise null.
+     * @return The release if a matching asset is found, otherwise null.
      */
-    private String getDownloadUrl(JsonArray assets, int jdkVersion) {
+    private JdkRelease getRelease(JsonArray assets, int jdkVersion) {
         String jdkFileName = buildJDKFileName(jdkVersion);
         for (JsonElement element : assets) {
             JsonObject asset = element.getAsJsonObject();
@@ -189,12 +434,38 @@ public class JdkFetcher {
             if (name.toLowerCase().contains(jdkFileName.toLowerCase())
                     && (name.toLowerCase().endsWith(".zip")
                             || name.toLowerCase().endsWith(".tar.gz"))) {
-                return asset.get("browser_download_url").getAsString();
+                String checksumUrl = null;
+                for (JsonElement checksumElement : assets) {
+                    JsonObject checksumAsset = checksumElement.getAsJsonObject();
+                    if (checksumAsset.get("name").getAsString().equals(name + ".sha256.txt")) {
+                        checksumUrl = checksumAsset.get("browser_download_url").getAsString();
+                    }
+                }
+                return new JdkRelease(asset.get("browser_download_url").getAsString(), checksumUrl);
             }
         }
         return null;
     }
 
+    /**
+     * Fetch the published SHA-256 of an archive
+     *
+     * @param checksumUrl The checksum URL. The file starts with the hexadecimal checksum followed by the file name
+     * @return The checksum or null if not available
+     * @throws IOException          If an I/O error occurs.
+     * @throws InterruptedException If the operation is interrupted.
+     */
+    private String fetchChecksum(String checksumUrl) throws IOException, InterruptedException {
+        HttpRequest request =
+                HttpRequest.newBuilder().uri(URI.create(checksumUrl)).build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200 || response.body().isBlank()) {
+            LOG.warn("Failed to fetch checksum {}. HTTP Status Code: {}", checksumUrl, response.statusCode());
+            return null;
+        }
+        return response.body().trim().split("\\s+")[0];
+    }
+
     /**
      * Constructs the JDK file name based on the version and operating system.
      *
@@ -255,45 +526,39 @@ public class JdkFetcher {
     }
 
     /**
-     * Extracts a ZIP file to the specified directory without nested directories.
+     * Extracts a ZIP stream to the specified directory without nested directories.
      *
-     * @param zipFile     The path to the ZIP file.
+     * @param in            The ZIP stream.
      * @param extractionDir The directory to extract the files into.
      * @throws IOException If an I/O error occurs.
      */
-    private void extractZip(Path zipFile, Path extractionDir) throws IOException {
-        try (ZipInputStream zipIn = new ZipInputStream(Files.newInputStream(zipFile))) {
-            ZipEntry entry;
-            while ((entry = zipIn.getNextEntry()) != null) {
-                if (!entry.isDirectory()) {
-                    extractFile(entry.getName(), zipIn, extractionDir);
-                }
-                zipIn.closeEntry();
+    private void extractZip(InputStream in, Path extractionDir) throws IOException {
+        ZipInputStream zipIn = new ZipInputStream(CloseShieldInputStream.wrap(in));
+        ZipEntry entry;
+        while ((entry = zipIn.getNextEntry()) != null) {
+            if (!entry.isDirectory()) {
+                extractFile(entry.getName(), zipIn, extractionDir);
             }
+            zipIn.closeEntry();
         }
-        Files.delete(zipFile);
     }
 
     /**
-     * Extracts a TAR.GZ file to the specified directory without nested directories.
+     * Extracts a TAR.GZ stream to the specified directory without nested directories.
      *
-     * @param tarGzFile   The path to the TAR.GZ file.
+     * @param in            The TAR.GZ stream.
      * @param extractionDir The directory to extract the files into.
      * @throws IOException If an I/O error occurs.
      */
-    private void extractTarGz(Path tarGzFile, Path extractionDir) throws IOException {
-        try (InputStream fileStream = Files.newInputStream(tarGzFile);
-                InputStream gzipStream = new GZIPInputStream(fileStream);
-                TarArchiveInputStream tarStream = new TarArchiveInputStream(gzipStream)) {
-
-            TarArchiveEntry entry;
-            while ((entry = tarStream.getNextEntry()) != null) {
-                if (!entry.isDirectory()) {
-                    extractFile(entry.getName(), tarStream, extractionDir);
-                }
+    private void extractTarGz(InputStream in, Path extractionDir) throws IOException {
+        TarArchiveInputStream tarStream =
+                new TarArchiveInputStream(new GZIPInputStream(CloseShieldInputStream.wrap(in), 65536));
+        TarArchiveEntry entry;
+        while ((entry = tarStream.getNextEntry()) != null) {
+            if (!entry.isDirectory()) {
+                extractFile(entry.getName(), tarStream, extractionDir);
             }
         }
-        Files.delete(tarGzFile);
     }
 
     /**
@@ -316,6 +581,14 @@ public class JdkFetcher {
         Files.copy(inputStream, filePath, StandardCopyOption.REPLACE_EXISTING);
     }
 
+    private static MessageDigest getSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new ModernizerException("SHA-256 not available", e);
+        }
+    }
+
     /**
      * Sets executable permissions on all binaries located in the /bin folder of the JDK.
      *
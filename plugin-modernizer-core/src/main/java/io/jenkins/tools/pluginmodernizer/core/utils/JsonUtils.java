@@ -6,22 +6,23 @@ import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonParser;
+import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
-import org.apache.commons.io.FileUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,6 +31,7 @@ public class JsonUtils {
     private static final Logger LOG = LoggerFactory.getLogger(JsonUtils.class);
 
     private static final Gson gson;
+    private static final Gson prettyGson;
 
     private JsonUtils() {
         // Hide constructor
@@ -37,6 +39,7 @@ public class JsonUtils {
 
     static {
         gson = new Gson();
+        prettyGson = new GsonBuilder().setPrettyPrinting().create();
     }
 
     /**
@@ -48,6 +51,16 @@ public class JsonUtils {
         return gson.toJson(object);
     }
 
+    /**
+     * Write an object as JSON to a stream without building the whole document in memory
+     * @param object The object to convert
+     * @param writer The writer
+     * @param pretty True to pretty print the JSON
+     */
+    public static void toJson(Object object, Writer writer, boolean pretty) {
+        (pretty ? prettyGson : gson).toJson(object, writer);
+    }
+
     /**
      * Return of the two JSON strings are semantically equals
      * @param jsonString1 The first JSON string
@@ -137,11 +150,16 @@ public class JsonUtils {
      * @param path The path to the JSON file
      */
     public static void toJsonFile(Object object, Path path) {
+        LOG.debug("Writing JSON file to {}", path);
         try {
-            LOG.debug("Writing JSON file to {}", path);
-            String prettyJson = JsonUtils.prettyPrint(gson.toJson(object));
-            FileUtils.writeStringToFile(path.toFile(), prettyJson, StandardCharsets.UTF_8);
-        } catch (IOException e) {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+                prettyGson.toJson(object, writer);
+            }
+        } catch (IOException | JsonIOException e) {
             throw new ModernizerException("Unable to write JSON file due to IO error", e);
         }
     }
@@ -165,13 +183,24 @@ public class JsonUtils {
      * @return The object
      */
     public static <T> T fromJson(Path path, Class<T> clazz) {
-        try {
-            return gson.fromJson(FileUtils.readFileToString(path.toFile(), StandardCharsets.UTF_8), clazz);
+        try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            return fromJson(reader, clazz);
         } catch (IOException e) {
             throw new ModernizerException("Unable to read JSON file due to IO error", e);
         }
     }
 
+    /**
+     * Read an object from a JSON stream
+     * @param reader The reader
+     * @param clazz The class of the object
+     * @param <T> The type of the object
+     * @return The object
+     */
+    public static <T> T fromJson(Reader reader, Class<T> clazz) {
+        return gson.fromJson(reader, clazz);
+    }
+
     /**
      * Download JSON data from a URL and convert it to an object
      * @param url The URL to download from
@@ -187,13 +216,14 @@ public class JsonUtils {
             HttpRequest request =
                     HttpRequest.newBuilder().GET().uri(url.toURI()).build();
             LOG.debug("Fetching data from: {}", url);
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
             if (response.statusCode() != 200) {
                 throw new ModernizerException(
                         "Failed to get JSON data. Received response code: " + response.statusCode());
             }
             LOG.debug("Fetched data from: {}", url);
-            return JsonUtils.fromJson(response.body(), clazz);
+            PluginMetrics.recordTransfer(response.body().length);
+            return JsonUtils.fromJson(new String(response.body(), StandardCharsets.UTF_8), clazz);
         } catch (IOException | JsonSyntaxException | URISyntaxException | InterruptedException e) {
             throw new ModernizerException("Unable to fetch data from " + url, e);
         }
@@ -258,10 +288,4 @@ public class JsonUtils {
         array2.forEach(set2::add);
         return set1.equals(set2);
     }
-
-    private static String prettyPrint(String uglyJson) {
-        Gson gson = new GsonBuilder().setPrettyPrinting().create();
-        JsonElement jsonElement = JsonParser.parseString(uglyJson);
-        return gson.toJson(jsonElement);
-    }
 }
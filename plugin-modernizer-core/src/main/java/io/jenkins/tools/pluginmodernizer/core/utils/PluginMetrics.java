@@ -0,0 +1,241 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import io.jenkins.tools.pluginmodernizer.core.jfr.PluginStageEvent;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.context.Scope;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Record the resources used by each processing stage of a plugin.
+ * <p>
+ * Transfers and GitHub API calls are counted process wide and attributed to the stage running when they happen,
+ * plugins being processed one after the other. CPU time of forked processes is read from the process accounting
+ * of Linux and is only known once a process terminated.
+ */
+public final class PluginMetrics {
+
+    /**
+     * Processing stages of a plugin with metrics
+     */
+    public enum Stage {
+        FETCH,
+        COMPILE,
+        METADATA,
+        REWRITE,
+        VERIFY,
+        COMMIT,
+        PUBLISH,
+        REPORT;
+
+        /**
+         * Name of the stage in the metadata and the metrics file
+         * @return The name
+         */
+        public String key() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Clock ticks per second of the process accounting (USER_HZ), fixed to 100 by the Linux ABI
+     */
+    private static final long CLOCK_TICKS = 100;
+
+    private static final Path PROC_STAT = Path.of("/proc/self/stat");
+
+    private static final AtomicLong BYTES_TRANSFERRED = new AtomicLong();
+    private static final AtomicLong GITHUB_API_CALLS = new AtomicLong();
+
+    /**
+     * Hidden constructor
+     */
+    private PluginMetrics() {}
+
+    /**
+     * Record bytes downloaded by the tool
+     * @param bytes The number of bytes
+     */
+    public static void recordTransfer(long bytes) {
+        if (bytes > 0) {
+            BYTES_TRANSFERRED.addAndGet(bytes);
+        }
+    }
+
+    /**
+     * Record a GitHub API call
+     * @param bytes The size of the response or -1 if unknown
+     */
+    public static void recordGitHubApiCall(long bytes) {
+        GITHUB_API_CALLS.incrementAndGet();
+        recordTransfer(bytes);
+    }
+
+    /**
+     * Start measuring a stage. The metrics are added to the plugin when the timer is closed
+     * @param plugin The plugin
+     * @param stage The stage
+     * @return The timer
+     */
+    public static Timer start(Plugin plugin, Stage stage) {
+        return new Timer(plugin, stage);
+    }
+
+    /**
+     * Sum the metrics of all stages of a plugin
+     * @param plugin The plugin
+     * @return The total
+     */
+    public static StageMetrics total(Plugin plugin) {
+        return plugin.getStageMetrics().values().stream().reduce(StageMetrics.EMPTY, StageMetrics::plus);
+    }
+
+    /**
+     * Write the metrics of the plugins in the OpenMetrics text format, for example for the textfile collector
+     * of the Prometheus node exporter. The file is replaced atomically so a scrape never reads a partial file
+     * @param plugins The plugins
+     * @param file The metrics file
+     */
+    public static void writeOpenMetrics(List<Plugin> plugins, Path file) {
+        StringBuilder out = new StringBuilder();
+        appendMetric(
+                out,
+                plugins,
+                "plugin_modernizer_stage_duration_seconds",
+                "Wall time of a processing stage of a plugin",
+                metrics -> metrics.wallMillis() / 1000.0);
+        appendMetric(
+                out,
+                plugins,
+                "plugin_modernizer_stage_process_cpu_seconds",
+                "CPU time of the processes forked during a processing stage of a plugin",
+                metrics -> metrics.processCpuMillis() / 1000.0);
+        appendMetric(
+                out,
+                plugins,
+                "plugin_modernizer_stage_transferred_bytes",
+                "Bytes downloaded by the tool during a processing stage of a plugin",
+                StageMetrics::bytesTransferred);
+        appendMetric(
+                out,
+                plugins,
+                "plugin_modernizer_stage_github_api_calls",
+                "GitHub API calls during a processing stage of a plugin",
+                StageMetrics::githubApiCalls);
+        out.append("# EOF\n");
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path tmp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            Files.writeString(tmp, out, StandardCharsets.UTF_8);
+            try {
+                Files.move(tmp, file, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new ModernizerException("Unable to write metrics file " + file, e);
+        }
+    }
+
+    private static void appendMetric(
+            StringBuilder out,
+            List<Plugin> plugins,
+            String name,
+            String help,
+            ToDoubleFunction<StageMetrics> value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(" gauge\n");
+        for (Plugin plugin : plugins) {
+            plugin.getStageMetrics().forEach((stage, metrics) -> out.append(name)
+                    .append("{plugin=\"")
+                    .append(escape(plugin.getName()))
+                    .append("\",stage=\"")
+                    .append(stage)
+                    .append("\"} ")
+                    .append(value.applyAsDouble(metrics))
+                    .append('\n'));
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    /**
+     * Get the CPU time of the terminated child processes and their own children
+     * @return The CPU time in milliseconds or 0 if unknown
+     */
+    static long childrenCpuMillis() {
+        try {
+            String stat = Files.readString(PROC_STAT);
+            // Fields after the command name start with the state. cutime and cstime are the 16th and 17th fields
+            String[] fields = stat.substring(stat.lastIndexOf(')') + 2).split(" ");
+            long ticks = Long.parseLong(fields[13]) + Long.parseLong(fields[14]);
+            return ticks * 1000 / CLOCK_TICKS;
+        } catch (IOException | RuntimeException e) {
+            return 0;
+        }
+    }
+
+    /**
+     * Measure a stage until closed. The stage is also traced as the current span
+     */
+    public static final class Timer implements AutoCloseable {
+
+        private final Plugin plugin;
+        private final Stage stage;
+        private final long start = System.nanoTime();
+        private final long cpu = childrenCpuMillis();
+        private final long bytes = BYTES_TRANSFERRED.get();
+        private final long calls = GITHUB_API_CALLS.get();
+        private final PluginStageEvent event = new PluginStageEvent();
+        private final Span span;
+        private final Scope scope;
+
+        private Timer(Plugin plugin, Stage stage) {
+            this.plugin = plugin;
+            this.stage = stage;
+            event.begin();
+            span = Tracing.startSpan(stage.key())
+                    .setAttribute(Tracing.PLUGIN, plugin.getName())
+                    .setAttribute(Tracing.STAGE, stage.key());
+            scope = span.makeCurrent();
+        }
+
+        @Override
+        public void close() {
+            StageMetrics metrics = new StageMetrics(
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    childrenCpuMillis() - cpu,
+                    BYTES_TRANSFERRED.get() - bytes,
+                    GITHUB_API_CALLS.get() - calls);
+            plugin.addStageMetrics(stage.key(), metrics);
+            scope.close();
+            span.setAttribute("plugin_modernizer.transferred_bytes", metrics.bytesTransferred());
+            span.setAttribute("plugin_modernizer.github_api_calls", metrics.githubApiCalls());
+            span.end();
+            event.end();
+            if (event.shouldCommit()) {
+                event.plugin = plugin.getName();
+                event.stage = stage.key();
+                event.processCpuTime = metrics.processCpuMillis();
+                event.bytesTransferred = metrics.bytesTransferred();
+                event.githubApiCalls = metrics.githubApiCalls();
+                event.commit();
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginSnapshot;
 import io.jenkins.tools.pluginmodernizer.core.model.HealthScoreData;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.OptOutPluginsData;
@@ -32,6 +33,11 @@ public class PluginService {
     @Inject
     private CacheManager cacheManager;
 
+    /**
+     * Update center snapshot mapped until its cache file expires
+     */
+    private PluginSnapshot updateCenterSnapshot;
+
     /**
      * Extract the repository name for a plugin
      * @param plugin Plugin
@@ -66,9 +72,7 @@ public class PluginService {
             }
             return githubRepo.replaceAll(Settings.ORGANIZATION + "/", "");
         }
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin =
-                updateCenterData.getPlugins().get(plugin.getName());
+        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin = findUpdateCenterPlugin(plugin.getName());
         if (updateCenterPlugin == null) {
             plugin.addError("Plugin not found in update center");
             plugin.raiseLastError();
@@ -91,8 +95,7 @@ public class PluginService {
      * @return True if plugin exists in the update center
      */
     public boolean existsInUpdateCenter(Plugin plugin) {
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        return updateCenterData.getPlugins().containsKey(plugin.getName());
+        return findUpdateCenterPlugin(plugin.getName()) != null;
     }
 
     /**
@@ -102,13 +105,11 @@ public class PluginService {
      */
     public boolean isDeprecated(Plugin plugin) {
         // Some old plugin are under a deprecations list
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        if (updateCenterData.getDeprecations().containsKey(plugin.getName())) {
+        if (findDeprecation(plugin.getName()) != null) {
             return true;
         }
         // More recent deprecated plugins are marked with a label
-        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin =
-                updateCenterData.getPlugins().get(plugin.getName());
+        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin = findUpdateCenterPlugin(plugin.getName());
         return updateCenterPlugin != null
                 && updateCenterPlugin.labels() != null
                 && updateCenterPlugin.labels().contains("deprecated");
@@ -120,9 +121,7 @@ public class PluginService {
      * @return True if for adoption
      */
     public boolean isForAdoption(Plugin plugin) {
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin =
-                updateCenterData.getPlugins().get(plugin.getName());
+        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin = findUpdateCenterPlugin(plugin.getName());
         return updateCenterPlugin != null
                 && updateCenterPlugin.labels() != null
                 && updateCenterPlugin.labels().contains("adopt-this-plugin");
@@ -134,9 +133,7 @@ public class PluginService {
      * @return True if API plugin
      */
     public boolean isApiPlugin(Plugin plugin) {
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin =
-                updateCenterData.getPlugins().get(plugin.getName());
+        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin = findUpdateCenterPlugin(plugin.getName());
 
         // Let's consider only recent convention that API plugins have a labels and end with -api
         return updateCenterPlugin != null
@@ -154,9 +151,7 @@ public class PluginService {
         if (plugin.isLocal()) {
             return null;
         }
-        UpdateCenterData updateCenterData = getUpdateCenterData();
-        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin =
-                updateCenterData.getPlugins().get(plugin.getName());
+        UpdateCenterData.UpdateCenterPlugin updateCenterPlugin = findUpdateCenterPlugin(plugin.getName());
         if (updateCenterPlugin == null) {
             plugin.addError("Plugin not found in update center");
             plugin.raiseLastError();
@@ -182,6 +177,63 @@ public class PluginService {
         return updateCenterData;
     }
 
+    /**
+     * Find a plugin in the update center snapshot
+     * @param name The plugin name
+     * @return The update center plugin or null if not found
+     */
+    private UpdateCenterData.UpdateCenterPlugin findUpdateCenterPlugin(String name) {
+        PluginSnapshot snapshot = getUpdateCenterSnapshot();
+        if (snapshot == null) {
+            return getUpdateCenterData().getPlugins().get(name);
+        }
+        return UpdateCenterData.pluginFromSnapshot(snapshot.get(name));
+    }
+
+    /**
+     * Find a plugin in the deprecations list of the update center snapshot
+     * @param name The plugin name
+     * @return The deprecation or null if not found
+     */
+    private UpdateCenterData.DeprecatedPlugin findDeprecation(String name) {
+        PluginSnapshot snapshot = getUpdateCenterSnapshot();
+        if (snapshot == null) {
+            return getUpdateCenterData().getDeprecations().get(name);
+        }
+        return UpdateCenterData.deprecationFromSnapshot(snapshot.get(name));
+    }
+
+    /**
+     * Get the memory-mapped snapshot of the update center, writing it from the update center data if
+     * missing or expired. Lookups then decode only the requested plugin instead of the whole update center.
+     * The cache file is checked on each call so a long-running process maps it again once it expires
+     * @return The snapshot or null if the cache doesn't provide one
+     */
+    private synchronized PluginSnapshot getUpdateCenterSnapshot() {
+        if (updateCenterSnapshot == null
+                || cacheManager.isStale(cacheManager.root(), CacheManager.UPDATE_CENTER_SNAPSHOT_KEY)) {
+            PluginSnapshot snapshot =
+                    cacheManager.getSnapshot(cacheManager.root(), CacheManager.UPDATE_CENTER_SNAPSHOT_KEY);
+            if (snapshot == null) {
+                snapshot = cacheManager.putSnapshot(
+                        cacheManager.root(),
+                        CacheManager.UPDATE_CENTER_SNAPSHOT_KEY,
+                        getUpdateCenterData().toSnapshotRecords());
+            }
+            updateCenterSnapshot = snapshot;
+        }
+        return updateCenterSnapshot;
+    }
+
+    /**
+     * Map the update center snapshot and fetch the plugin versions, downloading the data if needed.
+     * Done before processing plugins so parallel workers share the mapped snapshot
+     */
+    public void loadSnapshots() {
+        getUpdateCenterSnapshot();
+        getPluginVersionData();
+    }
+
     /**
      * Retrieve health score data from the given URL or from cache if it exists
      * @return Health score data
@@ -2,25 +2,75 @@ package io.jenkins.tools.pluginmodernizer.core.utils;
 
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
-import java.io.File;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.xpath.XPath;
-import javax.xml.xpath.XPathFactory;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.w3c.dom.Document;
 
 /**
  * Utility class for parsing a pom.xml
+ * The few fields needed are extracted in a single streaming pass and cached per file, so the same
+ * pom.xml is parsed again only if its content changed. The cache keeps the most recently used files only.
  */
 public class StaticPomParser {
 
     private static final Logger LOG = LoggerFactory.getLogger(StaticPomParser.class);
-    private final Document document;
+
+    /**
+     * Path of the extracted elements
+     */
+    private static final String PACKAGING = "/project/packaging";
+
+    private static final String ARTIFACT_ID = "/project/artifactId";
+    private static final String JENKINS_VERSION = "/project/properties/jenkins.version";
+    private static final String BASELINE = "/project/properties/jenkins.baseline";
+    private static final String GITHUB_REPO = "/project/properties/gitHubRepo";
+    private static final String SCM_CONNECTION = "/project/properties/scm/connection";
+
+    /**
+     * Number of extracted elements. Parsing stop once all are found
+     */
+    private static final int FIELDS = 6;
+
+    /**
+     * Maximum number of parsed POM kept in cache
+     */
+    private static final int CACHE_SIZE = 256;
+
+    /**
+     * Parsed fields of a pom.xml with the digest of its content when it was parsed
+     * @param digest The SHA-256 of the content
+     * @param fields The extracted values by path
+     */
+    private record ParsedPom(byte[] digest, Map<String, String> fields) {}
+
+    /**
+     * Parsed POM by absolute path, least recently used first
+     */
+    private static final Map<Path, ParsedPom> CACHE = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Path, ParsedPom> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    });
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final Map<String, String> fields;
 
     /**
      * Constructor for StaticPomParser.
@@ -29,112 +79,149 @@ public class StaticPomParser {
      */
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     public StaticPomParser(String pomFilePath) {
+        // Validate the file path
+        Path path = Paths.get(pomFilePath).normalize().toAbsolutePath();
+        if (!Files.exists(path) || !Files.isRegularFile(path)) {
+            throw new ModernizerException("Invalid file path: " + path);
+        }
         try {
-            // Validate the file path
-            Path path = Paths.get(pomFilePath).normalize().toAbsolutePath();
-            if (!Files.exists(path) || !Files.isRegularFile(path)) {
-                throw new ModernizerException("Invalid file path: " + path);
+            byte[] content = Files.readAllBytes(path);
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            ParsedPom parsed = CACHE.get(path);
+            if (parsed == null || !Arrays.equals(parsed.digest(), digest)) {
+                parsed = new ParsedPom(digest, parse(path, content));
+                CACHE.put(path, parsed);
+            } else {
+                LOG.trace("Using cached parse of {}", path);
             }
-
-            File pomFile = path.toFile();
-            DocumentBuilderFactory dbFactory = DocumentBuilderFactory.newInstance();
-            dbFactory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            dbFactory.setFeature("http://xml.org/sax/features/external-general-entities", false);
-            dbFactory.setFeature("http://xml.org/sax/features/external-parameter-entities", false);
-            dbFactory.setFeature("http://apache.org/xml/features/nonvalidating/load-external-dtd", false);
-            dbFactory.setXIncludeAware(false);
-            dbFactory.setExpandEntityReferences(false);
-            // Ignore whitespace
-            dbFactory.setIgnoringElementContentWhitespace(true);
-            DocumentBuilder dBuilder = dbFactory.newDocumentBuilder();
-            document = dBuilder.parse(pomFile);
-            document.getDocumentElement().normalize();
-        } catch (Exception e) {
+            fields = parsed.fields();
+        } catch (IOException | XMLStreamException e) {
             throw new ModernizerException("Error parsing POM file: " + e.getMessage(), e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new ModernizerException("SHA-256 not available", e);
         }
     }
 
+    /**
+     * Extract the fields in a single pass
+     * @param path The path to the POM file
+     * @param content The content of the POM file
+     * @return The values by path. Missing elements are absent from the map
+     */
+    private static Map<String, String> parse(Path path, byte[] content) throws IOException, XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        try (ByteArrayInputStream in = new ByteArrayInputStream(content)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(in);
+            try {
+                StringBuilder current = new StringBuilder();
+                // Path of the element being captured and its text
+                String captured = null;
+                StringBuilder text = new StringBuilder();
+                while (reader.hasNext() && fields.size() < FIELDS) {
+                    switch (reader.next()) {
+                        case XMLStreamConstants.START_ELEMENT -> {
+                            current.append('/').append(reader.getLocalName());
+                            String elementPath = current.toString();
+                            if (captured == null && isField(elementPath) && !fields.containsKey(elementPath)) {
+                                captured = elementPath;
+                                text.setLength(0);
+                            }
+                        }
+                        case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA -> {
+                            if (captured != null) {
+                                text.append(reader.getText());
+                            }
+                        }
+                        case XMLStreamConstants.END_ELEMENT -> {
+                            if (current.toString().equals(captured)) {
+                                fields.put(captured, text.toString().trim());
+                                captured = null;
+                            }
+                            current.setLength(current.lastIndexOf("/"));
+                        }
+                        default -> {
+                            // Not needed
+                        }
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+        LOG.debug("Parsed POM file {}", path);
+        return fields;
+    }
+
+    private static boolean isField(String elementPath) {
+        return switch (elementPath) {
+            case PACKAGING, ARTIFACT_ID, JENKINS_VERSION, BASELINE, GITHUB_REPO, SCM_CONNECTION -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Get a field value. Missing elements are returned as empty string like an XPath string evaluation
+     * @param elementPath The element path
+     * @return The value
+     */
+    private String get(String elementPath) {
+        return fields.getOrDefault(elementPath, "");
+    }
+
     /**
      * Return the packaging type of the POM file.
-     * @return the packaging type or null if not found
+     * @return the packaging type or empty if not found
      */
     public String getPackaging() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/packaging").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting packaging: {}", e.getMessage());
-            return null;
-        }
+        return get(PACKAGING);
     }
 
     /**
      * Return the Jenkins version of the POM file.
-     * @return the Jenkins version or null if not found
+     * @return the Jenkins version or empty if not found
      */
     public String getJenkinsVersion() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/properties/jenkins.version").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting jenkins.version: {}", e.getMessage());
-            return null;
-        }
+        return get(JENKINS_VERSION);
     }
 
     /**
      * Return the Jenkins baseline of the POM file.
-     * @return the Jenkins baseline or null if not found
+     * @return the Jenkins baseline or empty if not found
      */
     public String getBaseline() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/properties/jenkins.baseline").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting baseline: {}", e.getMessage());
-            return null;
-        }
+        return get(BASELINE);
     }
 
     /**
-     * Return gitHubRepo property of the POM file or null if not found.
-     * @return the gitHubRepo property or null if not found
+     * Return gitHubRepo property of the POM file or empty if not found.
+     * @return the gitHubRepo property or empty if not found
      */
     public String getGithubRepoProperty() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/properties/gitHubRepo").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting github.repo: {}", e.getMessage());
-            return null;
-        }
+        return get(GITHUB_REPO);
     }
 
     /**
-     * Return scm connection property of the POM file or null if not found.
-     * @return the scm connection property or null if not found
+     * Return scm connection property of the POM file or empty if not found.
+     * @return the scm connection property or empty if not found
      */
     public String getScmConnectionProperty() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/properties/scm/connection").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting scm connection: {}", e.getMessage());
-            return null;
-        }
+        return get(SCM_CONNECTION);
     }
 
     /**
      * Return the groupId of the POM file.
-     * @return the groupId or null if not found
+     * @return the groupId or empty if not found
      */
     public String getArtifactId() {
-        XPath xPath = XPathFactory.newInstance().newXPath();
-        try {
-            return xPath.compile("/project/artifactId").evaluate(document);
-        } catch (Exception e) {
-            LOG.warn("Error getting artifactId: {}", e.getMessage());
-            return null;
-        }
+        return get(ARTIFACT_ID);
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
     }
 }
@@ -9,6 +9,7 @@ import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,13 +31,16 @@ public class TemplateUtils {
     }
 
     /**
-     * Render the pull request body
+     * Render the pull request body. A composite recipe uses its dedicated template listing each recipe.
      *
      * @param plugin Plugin to modernize
      * @param recipe Recipe to apply
      * @return The rendered pull request body
      */
     public static String renderPullRequestBody(Plugin plugin, Recipe recipe) {
+        if (recipe.isComposite()) {
+            return renderTemplate("pr-body-composite.jte", Map.of("plugin", plugin, "recipe", recipe));
+        }
         if (hasBodyTemplate(recipe)) {
             return renderTemplate(
                     getTemplateNameForRecipe("pr-body", recipe), Map.of("plugin", plugin, "recipe", recipe));
@@ -45,13 +49,18 @@ public class TemplateUtils {
     }
 
     /**
-     * Render the commit message
+     * Render the commit message. A composite recipe joins the commit messages of its recipes.
      *
      * @param plugin Plugin to modernize
      * @param recipe Recipe to apply
      * @return The rendered commit message
      */
     public static String renderCommitMessage(Plugin plugin, Recipe recipe) {
+        if (recipe.isComposite()) {
+            return recipe.getComponents().stream()
+                    .map(component -> renderCommitMessage(plugin, component))
+                    .collect(Collectors.joining("; "));
+        }
         if (hasCommitTemplate(recipe)) {
             return renderTemplate(
                     getTemplateNameForRecipe("commit", recipe), Map.of("plugin", plugin, "recipe", recipe));
@@ -75,13 +84,18 @@ public class TemplateUtils {
     }
 
     /**
-     * Render the pull request title
+     * Render the pull request title. A composite recipe joins the titles of its recipes.
      *
      * @param plugin Plugin to modernize
      * @param recipe Recipe to apply
      * @return The rendered pull request title
      */
     public static String renderPullRequestTitle(Plugin plugin, Recipe recipe) {
+        if (recipe.isComposite()) {
+            return recipe.getComponents().stream()
+                    .map(component -> renderPullRequestTitle(plugin, component))
+                    .collect(Collectors.joining("; "));
+        }
         if (hasTitleTemplate(recipe)) {
             return renderTemplate(
                     getTemplateNameForRecipe("pr-title", recipe), Map.of("plugin", plugin, "recipe", recipe));
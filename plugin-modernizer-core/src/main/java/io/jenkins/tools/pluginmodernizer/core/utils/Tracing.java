@@ -0,0 +1,78 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Create the OpenTelemetry spans of a run.
+ * <p>
+ * Spans are created with the global OpenTelemetry instance, installed by the CLI when an OTLP endpoint is
+ * configured. Without it every span is a no-op. New spans are children of the span current on the calling
+ * thread, so a run span contains the plugin spans which contain the stage, Maven and GitHub spans.
+ */
+public final class Tracing {
+
+    /**
+     * Name of the instrumentation scope of the spans
+     */
+    private static final String INSTRUMENTATION_SCOPE = "io.jenkins.plugin-modernizer";
+
+    public static final AttributeKey<String> PLUGIN = AttributeKey.stringKey("jenkins.plugin.name");
+    public static final AttributeKey<String> RUN_ID = AttributeKey.stringKey("plugin_modernizer.run.id");
+    public static final AttributeKey<String> RECIPE = AttributeKey.stringKey("plugin_modernizer.recipe");
+    public static final AttributeKey<String> STAGE = AttributeKey.stringKey("plugin_modernizer.stage");
+
+    /**
+     * Hidden constructor
+     */
+    private Tracing() {}
+
+    /**
+     * Start an internal span, child of the current span
+     * @param name The span name
+     * @return The started span. It must be ended by the caller
+     */
+    public static Span startSpan(String name) {
+        return startSpan(name, SpanKind.INTERNAL);
+    }
+
+    /**
+     * Start a span, child of the current span
+     * @param name The span name
+     * @param kind The span kind
+     * @return The started span. It must be ended by the caller
+     */
+    public static Span startSpan(String name, SpanKind kind) {
+        return GlobalOpenTelemetry.getTracer(INSTRUMENTATION_SCOPE)
+                .spanBuilder(name)
+                .setSpanKind(kind)
+                .startSpan();
+    }
+
+    /**
+     * Mark a span as failed
+     * @param span The span
+     * @param description The failure description
+     */
+    public static void fail(Span span, String description) {
+        span.setStatus(StatusCode.ERROR, description);
+    }
+
+    /**
+     * Get the W3C trace context headers of the current span, to continue the trace in another process
+     * @return The headers, like {@code traceparent}, or an empty map if no span is recording
+     */
+    public static Map<String, String> traceContext() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        GlobalOpenTelemetry.getPropagators()
+                .getTextMapPropagator()
+                .inject(Context.current(), headers, (carrier, key, value) -> carrier.put(key, value));
+        return headers;
+    }
+}
@@ -0,0 +1,68 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+
+/**
+ * Utility class to navigate the DOM of a parsed XML file like a pom.xml
+ */
+public class XmlUtils {
+
+    /**
+     * Hidden constructor
+     */
+    private XmlUtils() {}
+
+    /**
+     * Get the child elements of an element
+     * @param element The element
+     * @return The child elements
+     */
+    public static List<Element> children(Element element) {
+        List<Element> children = new ArrayList<>();
+        for (Node node = element.getFirstChild(); node != null; node = node.getNextSibling()) {
+            if (node instanceof Element child) {
+                children.add(child);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Get the first child element with the given name
+     * @param element The element or null
+     * @param name The local name
+     * @return The child or null if not found
+     */
+    public static Element child(Element element, String name) {
+        if (element == null) {
+            return null;
+        }
+        return children(element).stream()
+                .filter(child -> name.equals(name(child)))
+                .findFirst()
+                .orElse(null);
+    }
+
+    /**
+     * Get the text of the first child element with the given name
+     * @param element The element or null
+     * @param name The local name
+     * @return The trimmed text or null if not found
+     */
+    public static String childText(Element element, String name) {
+        Element child = child(element, name);
+        return child == null ? null : child.getTextContent().trim();
+    }
+
+    /**
+     * Get the name of an element without its namespace prefix
+     * @param element The element
+     * @return The local name, or the node name if the document is not namespace aware
+     */
+    public static String name(Element element) {
+        return element.getLocalName() != null ? element.getLocalName() : element.getNodeName();
+    }
+}
@@ -63,7 +63,7 @@ public class ConfigTest {
         assertNull(config.getVersion());
         assertNull(config.getPlugins());
         assertNull(config.getRecipe());
-        assertEquals(Settings.DEFAULT_UPDATE_CENTER_URL, config.getJenkinsUpdateCenter());
+        assertEquals(Settings.getDefaultUpdateCenterUrl(), config.getJenkinsUpdateCenter());
         assertEquals(Settings.DEFAULT_CACHE_PATH, config.getCachePath());
         assertEquals(Settings.DEFAULT_MAVEN_HOME, config.getMavenHome());
         assertFalse(config.isRemoveForks());
@@ -83,7 +83,7 @@ public class ConfigTest {
         assertEquals(version, config.getVersion());
         assertEquals(plugins, config.getPlugins());
         assertNull(config.getRecipe());
-        assertEquals(Settings.DEFAULT_UPDATE_CENTER_URL, config.getJenkinsUpdateCenter());
+        assertEquals(Settings.getDefaultUpdateCenterUrl(), config.getJenkinsUpdateCenter());
         assertEquals(Settings.DEFAULT_CACHE_PATH, config.getCachePath());
         assertEquals(Settings.DEFAULT_MAVEN_HOME, config.getMavenHome());
         assertFalse(config.isDryRun());
@@ -100,7 +100,7 @@ public class ConfigTest {
         assertNull(config.getVersion());
         assertNull(config.getPlugins());
         assertNull(config.getRecipe());
-        assertEquals(Settings.DEFAULT_UPDATE_CENTER_URL, config.getJenkinsUpdateCenter());
+        assertEquals(Settings.getDefaultUpdateCenterUrl(), config.getJenkinsUpdateCenter());
         assertEquals(Settings.DEFAULT_CACHE_PATH, config.getCachePath());
         assertEquals(Settings.DEFAULT_MAVEN_HOME, config.getMavenHome());
         assertFalse(config.isDryRun());
@@ -53,7 +53,7 @@ public class SettingsEnvTest {
 
     @Test
     public void testUpdateCenter() throws Exception {
-        assertEquals("https://example-com", Settings.DEFAULT_UPDATE_CENTER_URL.toString());
+        assertEquals("https://example-com", Settings.getDefaultUpdateCenterUrl().toString());
     }
 
     @Test
@@ -63,7 +63,7 @@ public class SettingsEnvTest {
 
     @Test
     public void ensureAllRecipesHaveAttributes() {
-        for (Recipe recipe : Settings.AVAILABLE_RECIPES) {
+        for (Recipe recipe : Settings.getAvailableRecipes()) {
             assertNotNull(recipe.getName(), "Recipe name is null");
             assertNotNull(recipe.getDisplayName(), "Recipe display name is null for " + recipe.getName());
             assertNotNull(recipe.getDescription(), "Recipe description is null for " + recipe.getName());
@@ -71,4 +71,10 @@ public class SettingsEnvTest {
             assertFalse(recipe.getTags().isEmpty(), "Recipe tags are empty for " + recipe.getName());
         }
     }
+
+    @Test
+    public void ensureRecipesAreParsedOnce() {
+        assertSame(Settings.getAvailableRecipes(), Settings.getAvailableRecipes());
+        assertTrue(Settings.getAvailableRecipes().contains(Settings.getFetchMetadataRecipe()));
+    }
 }
@@ -0,0 +1,152 @@
+package io.jenkins.tools.pluginmodernizer.core.extractor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.model.JDK;
+import io.jenkins.tools.pluginmodernizer.core.model.Platform;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import org.intellij.lang.annotations.Language;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for {@link StaticMetadataExtractor}.
+ */
+public class StaticMetadataExtractorTest {
+
+    @Language("xml")
+    private static final String POM_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                <groupId>org.jenkins-ci.plugins</groupId>
+                <artifactId>plugin</artifactId>
+                <version>4.80</version>
+                <relativePath />
+              </parent>
+              <artifactId>gitlab-plugin</artifactId>
+              <version>${revision}${changelist}</version>
+              <packaging>hpi</packaging>
+              <name>GitLab Plugin</name>
+              <licenses>
+                <license>
+                  <name>GPL v2.0 License</name>
+                </license>
+              </licenses>
+              <scm>
+                <connection>scm:git:https://github.com/${gitHubRepo}.git</connection>
+              </scm>
+              <properties>
+                <revision>1.8.1</revision>
+                <changelist>-SNAPSHOT</changelist>
+                <jenkins.baseline>2.426</jenkins.baseline>
+                <jenkins.version>${jenkins.baseline}.3</jenkins.version>
+                <gitHubRepo>jenkinsci/${project.artifactId}</gitHubRepo>
+              </properties>
+              <dependencyManagement>
+                <dependencies>
+                  <dependency>
+                    <groupId>io.jenkins.tools.bom</groupId>
+                    <artifactId>bom-${jenkins.baseline}.x</artifactId>
+                    <version>2950.va_633b_f42f759</version>
+                    <type>pom</type>
+                    <scope>import</scope>
+                  </dependency>
+                </dependencies>
+              </dependencyManagement>
+              <repositories>
+                <repository>
+                  <id>repo.jenkins-ci.org</id>
+                  <url>https://repo.jenkins-ci.org/public/</url>
+                </repository>
+              </repositories>
+            </project>
+            """;
+
+    @Test
+    public void shouldExtractMetadataWithoutMaven(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("pom.xml"), POM_XML);
+        Files.writeString(directory.resolve("Jenkinsfile"), """
+                buildPlugin(
+                useContainerAgent: true,
+                forkCount: '1C',
+                configurations: [
+                       [platform: 'linux', jdk: 21],
+                       [platform: 'windows', jdk: 17],
+                ])
+                """);
+        Files.createDirectories(directory.resolve(".github"));
+        Files.writeString(directory.resolve(".github/dependabot.yml"), "version: 2");
+        Path test = directory.resolve("src/test/java/io/jenkins/plugins/gitlab/ContainerTest.java");
+        Files.createDirectories(test.getParent());
+        Files.writeString(test, """
+                package io.jenkins.plugins.gitlab;
+
+                import org.testcontainers.containers.GenericContainer;
+
+                public class ContainerTest {}
+                """);
+
+        PluginMetadata metadata = new StaticMetadataExtractor(directory).extract().orElseThrow();
+
+        assertEquals("GitLab Plugin", metadata.getPluginName());
+        assertEquals("4.80", metadata.getParentVersion());
+        assertEquals("2.426.3", metadata.getJenkinsVersion());
+        assertEquals("bom-2.426.x", metadata.getBomArtifactId());
+        assertEquals("2950.va_633b_f42f759", metadata.getBomVersion());
+        assertEquals("${jenkins.baseline}.3", metadata.getProperties().get("jenkins.version"));
+        assertEquals(
+                Set.of(MetadataFlag.LICENSE_SET, MetadataFlag.SCM_HTTPS, MetadataFlag.MAVEN_REPOSITORIES_HTTPS),
+                metadata.getFlags());
+        assertTrue(metadata.hasFile(ArchetypeCommonFile.POM));
+        assertTrue(metadata.hasFile(ArchetypeCommonFile.JENKINSFILE));
+        assertTrue(metadata.hasFile(ArchetypeCommonFile.DEPENDABOT));
+        assertFalse(metadata.hasFile(ArchetypeCommonFile.README));
+        assertEquals(Set.of(JDK.JAVA_17, JDK.JAVA_21), metadata.getJdks());
+        assertEquals(Set.of(Platform.LINUX, Platform.WINDOWS), metadata.getPlatforms());
+        assertTrue(metadata.isUseContainerAgent());
+        assertEquals("1C", metadata.getForkCount());
+        assertTrue(metadata.isUseContainerTests());
+    }
+
+    @Test
+    public void shouldFallbackWithDifferentParent(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("pom.xml"), """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <modelVersion>4.0.0</modelVersion>
+                  <parent>
+                    <groupId>org.jvnet.hudson.plugins</groupId>
+                    <artifactId>analysis-pom</artifactId>
+                    <version>10.0.0</version>
+                    <relativePath />
+                  </parent>
+                  <artifactId>check</artifactId>
+                  <properties>
+                    <jenkins.version>2.479.1</jenkins.version>
+                  </properties>
+                </project>
+                """);
+        assertTrue(new StaticMetadataExtractor(directory).extract().isEmpty());
+    }
+
+    @Test
+    public void shouldFallbackWhenJenkinsVersionIsInherited(@TempDir Path directory) throws Exception {
+        Files.writeString(
+                directory.resolve("pom.xml"),
+                POM_XML.replace("<jenkins.version>${jenkins.baseline}.3</jenkins.version>", ""));
+        assertTrue(new StaticMetadataExtractor(directory).extract().isEmpty());
+    }
+
+    @Test
+    public void shouldFallbackWhenPropertyIsUnresolved(@TempDir Path directory) throws Exception {
+        Files.writeString(
+                directory.resolve("pom.xml"), POM_XML.replace("<jenkins.baseline>2.426</jenkins.baseline>", ""));
+        assertTrue(new StaticMetadataExtractor(directory).extract().isEmpty());
+    }
+}
@@ -0,0 +1,134 @@
+package io.jenkins.tools.pluginmodernizer.core.github;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class GHAppTokenManagerTest {
+
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    public void shouldCacheTokenPerInstallation() {
+        Map<Long, AtomicInteger> calls = new HashMap<>();
+        try (GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> {
+                    int count = calls.computeIfAbsent(installationId, k -> new AtomicInteger())
+                            .incrementAndGet();
+                    return new GHAppTokenManager.InstallationToken(
+                            "token-%s-%s".formatted(installationId, count), NOW.plus(Duration.ofHours(1)));
+                },
+                Clock.fixed(NOW, ZoneId.of("UTC")))) {
+
+            assertEquals("token-1-1", manager.getToken(1L));
+            assertEquals("token-1-1", manager.getToken(1L));
+            assertEquals("token-2-1", manager.getToken(2L));
+            assertEquals("token-1-1", manager.getToken(1L));
+            assertEquals(1, calls.get(1L).get());
+            assertEquals(1, calls.get(2L).get());
+        }
+    }
+
+    @Test
+    public void shouldRefreshTokenAheadOfExpiration() {
+        AtomicInteger calls = new AtomicInteger();
+        try (GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> new GHAppTokenManager.InstallationToken(
+                        "token-" + calls.incrementAndGet(), NOW.plus(Duration.ofMinutes(4))),
+                Clock.fixed(NOW, ZoneId.of("UTC")))) {
+
+            // Expires within the refresh window, so each access mint a new one
+            assertEquals("token-1", manager.getToken(1L));
+            assertEquals("token-2", manager.getToken(1L));
+        }
+    }
+
+    @Test
+    public void shouldReplaceTokenInBackgroundBeforeExpiration() throws InterruptedException {
+        List<Instant> expirations = new CopyOnWriteArrayList<>();
+        CountDownLatch refreshed = new CountDownLatch(2);
+        try (GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> {
+                    // The first token enters the refresh window shortly after being minted
+                    Instant expiresAt = expirations.isEmpty()
+                            ? Instant.now().plus(GHAppTokenManager.REFRESH_AHEAD).plusMillis(200)
+                            : Instant.now().plus(Duration.ofHours(1));
+                    expirations.add(expiresAt);
+                    refreshed.countDown();
+                    return new GHAppTokenManager.InstallationToken("token-" + expirations.size(), expiresAt);
+                },
+                Clock.systemUTC())) {
+
+            assertEquals("token-1", manager.getToken(1L));
+            // Refreshed by the scheduler, not by an access, before the first token expires
+            assertTrue(refreshed.await(10, TimeUnit.SECONDS));
+            assertTrue(Instant.now().isBefore(expirations.get(0)));
+            assertEquals("token-2", manager.getToken(1L));
+            assertEquals(2, expirations.size());
+        }
+    }
+
+    @Test
+    public void shouldStopRefreshingWhenClosed() throws InterruptedException {
+        CountDownLatch refreshed = new CountDownLatch(2);
+        GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> {
+                    refreshed.countDown();
+                    return new GHAppTokenManager.InstallationToken(
+                            "token", Instant.now().plus(GHAppTokenManager.REFRESH_AHEAD).plusMillis(200));
+                },
+                Clock.systemUTC());
+        manager.getToken(1L);
+        manager.close();
+
+        assertFalse(refreshed.await(1, TimeUnit.SECONDS));
+        assertEquals(1, refreshed.getCount());
+    }
+
+    @Test
+    public void shouldSwitchActiveInstallation() throws IOException {
+        try (GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> new GHAppTokenManager.InstallationToken(
+                        "token-" + installationId, NOW.plus(Duration.ofHours(1))),
+                Clock.fixed(NOW, ZoneId.of("UTC")))) {
+
+            assertThrows(IOException.class, () -> manager.getAuthorizationProvider()
+                    .getEncodedAuthorization());
+
+            manager.useInstallation(1L);
+            assertEquals("token token-1", manager.getAuthorizationProvider().getEncodedAuthorization());
+
+            manager.useInstallation(2L);
+            assertEquals(2L, manager.getActiveInstallationId());
+            assertEquals("token token-2", manager.getAuthorizationProvider().getEncodedAuthorization());
+        }
+    }
+
+    @Test
+    public void shouldBindProviderToInstallation() throws IOException {
+        try (GHAppTokenManager manager = new GHAppTokenManager(
+                installationId -> new GHAppTokenManager.InstallationToken(
+                        "token-" + installationId, NOW.plus(Duration.ofHours(1))),
+                Clock.fixed(NOW, ZoneId.of("UTC")))) {
+
+            manager.useInstallation(1L);
+            manager.useInstallation(2L);
+            assertEquals("token token-1", manager.getAuthorizationProvider(1L).getEncodedAuthorization());
+        }
+    }
+}
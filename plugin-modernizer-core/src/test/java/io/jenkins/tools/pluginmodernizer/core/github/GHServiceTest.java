@@ -1314,4 +1314,136 @@ public class GHServiceTest {
         verify(repository, times(1))
                 .createPullRequest(anyString(), anyString(), anyString(), anyString(), anyBoolean(), anyBoolean());
     }
+
+    @Test
+    public void shouldReuseForkPreparedAhead() throws Exception {
+
+        GitHub forkClient = Mockito.mock(GitHub.class);
+        GHRepository repository = Mockito.mock(GHRepository.class);
+        GHRepository fork = Mockito.mock(GHRepository.class);
+        GHMyself myself = Mockito.mock(GHMyself.class);
+        GHRepositoryForkBuilder builder = Mockito.mock(GHRepositoryForkBuilder.class);
+        setForkClient(forkClient);
+
+        // Mock
+        mockForkCreatedAhead(forkClient, repository, fork, myself, builder);
+        doReturn(Mockito.mock(URL.class)).when(fork).getHtmlUrl();
+        doReturn(Path.of("not-existing-dir")).when(plugin).getLocalRepository();
+
+        // Test
+        service.preFork(List.of(plugin));
+        service.fork(plugin, RepoType.PLUGIN);
+        service.discardPreparedFork(plugin);
+
+        // Verify the fork was created once by the fork client and kept
+        verify(repository, times(1)).createFork();
+        verify(github, never()).getMyself();
+        verify(fork, never()).delete();
+    }
+
+    @Test
+    public void shouldDeleteUnusedForkCreatedAhead() throws Exception {
+
+        GitHub forkClient = Mockito.mock(GitHub.class);
+        GHRepository repository = Mockito.mock(GHRepository.class);
+        GHRepository fork = Mockito.mock(GHRepository.class);
+        GHMyself myself = Mockito.mock(GHMyself.class);
+        GHRepositoryForkBuilder builder = Mockito.mock(GHRepositoryForkBuilder.class);
+        setForkClient(forkClient);
+
+        // Mock
+        mockForkCreatedAhead(forkClient, repository, fork, myself, builder);
+
+        // Test
+        service.preFork(List.of(plugin));
+        service.discardPreparedFork(plugin);
+
+        // Verify
+        verify(fork, times(1)).delete();
+    }
+
+    @Test
+    public void shouldNotPrepareForksInDryRunMode() throws Exception {
+
+        GitHub forkClient = Mockito.mock(GitHub.class);
+        setForkClient(forkClient);
+
+        // Mock
+        doReturn(true).when(config).isDryRun();
+
+        // Test
+        service.preFork(List.of(plugin));
+        service.discardPreparedFork(plugin);
+
+        // Verify
+        verifyNoInteractions(forkClient);
+    }
+
+    @Test
+    public void shouldNotPrepareForksWhenRemovingForks() throws Exception {
+
+        GitHub forkClient = Mockito.mock(GitHub.class);
+        setForkClient(forkClient);
+
+        // Mock
+        doReturn(true).when(config).isRemoveForks();
+
+        // Test
+        service.preFork(List.of(plugin));
+        service.discardPreparedFork(plugin);
+
+        // Verify
+        verifyNoInteractions(forkClient);
+    }
+
+    @Test
+    public void shouldCloseTokenManager() throws Exception {
+
+        GHAppTokenManager tokenManager = Mockito.mock(GHAppTokenManager.class);
+        Field field = ReflectionUtils.findFields(
+                        GHService.class,
+                        f -> f.getName().equals("tokenManager"),
+                        ReflectionUtils.HierarchyTraversalMode.TOP_DOWN)
+                .get(0);
+        field.setAccessible(true);
+        field.set(service, tokenManager);
+
+        // Test
+        service.close();
+        service.close();
+
+        // Verify
+        verify(tokenManager).close();
+        assertFalse(service.isConnected());
+    }
+
+    private void mockForkCreatedAhead(
+            GitHub forkClient,
+            GHRepository repository,
+            GHRepository fork,
+            GHMyself myself,
+            GHRepositoryForkBuilder builder)
+            throws Exception {
+        doReturn("fake-owner").when(config).getGithubOwner();
+        doReturn(null).when(config).getGithubAppId();
+        doReturn("fake-repo").when(plugin).getRepositoryName();
+        doReturn("fake-repo").when(repository).getName();
+        doReturn(repository).when(forkClient).getRepository(eq("jenkinsci/fake-repo"));
+        doReturn(myself).when(forkClient).getMyself();
+        doReturn(builder).when(repository).createFork();
+        doReturn(fork).when(builder).create();
+
+        // Not yet forked
+        doReturn(null).when(myself).getRepository(eq("fake-repo"));
+    }
+
+    private void setForkClient(GitHub forkClient) throws Exception {
+        Field field = ReflectionUtils.findFields(
+                        GHService.class,
+                        f -> f.getName().equals("forkClient"),
+                        ReflectionUtils.HierarchyTraversalMode.TOP_DOWN)
+                .get(0);
+        field.setAccessible(true);
+        field.set(service, forkClient);
+    }
 }
@@ -12,6 +12,9 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -47,6 +50,27 @@ public class CacheManagerTest {
         assertTrue(Files.exists(fileToCache));
     }
 
+    @Test
+    void testPutAndGetBinaryEntry() throws IOException {
+        String cacheKey = "testKey.json" + CacheCodec.BINARY_EXTENSION;
+        TestCacheEntry value = new TestCacheEntry(cacheManager, TestCacheEntry.class, cacheKey, cachePath);
+        cacheManager.put(value);
+        cacheManager.put(value);
+
+        // Written compressed and without leftover temporary files
+        Path fileToCache = cachePath.resolve(cacheKey);
+        byte[] content = Files.readAllBytes(fileToCache);
+        assertEquals((byte) 0x1f, content[0]);
+        assertEquals((byte) 0x8b, content[1]);
+        try (Stream<Path> files = Files.list(cachePath)) {
+            assertEquals(List.of(fileToCache), files.toList());
+        }
+
+        TestCacheEntry entry = cacheManager.get(cachePath, cacheKey, TestCacheEntry.class);
+        assertNotNull(entry);
+        assertEquals(cacheKey, entry.getKey());
+    }
+
     @Test
     public void cacheReturnsNullWhenJsonWasPutIntoCacheMoreThanAnHourAgo() {
         String cacheKey = "testKey";
@@ -69,6 +93,18 @@ public class CacheManagerTest {
         assertNotNull(entry);
     }
 
+    @Test
+    public void snapshotIsStaleWhenMissingOrModifiedMoreThanAnHourAgo() {
+        Path root = cacheManager.root();
+        String cacheKey = CacheManager.UPDATE_CENTER_SNAPSHOT_KEY;
+        assertTrue(cacheManager.isStale(root, cacheKey));
+
+        cacheManager.putSnapshot(root, cacheKey, Map.of("git", List.of("5.7.0")));
+        assertFalse(cacheManager.isStale(root, cacheKey));
+        assertFalse(cacheManagerWithoutExpiredEntries().isStale(root, cacheKey));
+        assertTrue(cacheManagerWithExpiredEntries().isStale(root, cacheKey));
+    }
+
     private CacheManager cacheManagerWithoutExpiredEntries() {
         Clock fiftyNineMinutesInTheFuture =
                 Clock.fixed(systemUTC().instant().plus(59, MINUTES), ZoneId.systemDefault());
@@ -119,6 +155,18 @@ public class CacheManagerTest {
         assertNotNull(cacheManager.get(cacheManager.root(), cacheKey, TestCacheEntry.class));
     }
 
+    @Test
+    void testGetIgnoringExpiration() {
+        String cacheKey = "testKey";
+        CacheManager managerWithExpiredEntries = cacheManagerWithExpiredEntries();
+        TestCacheEntry value = new TestCacheEntry(cacheManager, TestCacheEntry.class, cacheKey, cachePath);
+        managerWithExpiredEntries.put(value);
+
+        assertNull(managerWithExpiredEntries.get(cacheManager.root(), cacheKey, TestCacheEntry.class));
+        assertNotNull(
+                managerWithExpiredEntries.getIgnoringExpiration(cacheManager.root(), cacheKey, TestCacheEntry.class));
+    }
+
     @Test
     void testRemove() {
         Path cachePath = tempDir.resolve("cache");
@@ -0,0 +1,97 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
+import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
+import io.jenkins.tools.pluginmodernizer.core.model.JDK;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MetadataStoreTest {
+
+    @TempDir
+    private Path cachePath;
+
+    @Test
+    public void shouldQueryLastRecordOfEachPlugin() {
+        MetadataStore store = new MetadataStore(cachePath);
+        store.append("git", metadata("4.88", Set.of(JDK.JAVA_11, JDK.JAVA_17)));
+        store.append("jobcacher", metadata("4.51", Set.of(JDK.JAVA_11)));
+        store.append("git", metadata("5.9", Set.of(JDK.JAVA_17, JDK.JAVA_21)));
+        store.append("login-theme", metadata("5.9", Set.of(JDK.JAVA_21)));
+
+        MetadataStore.Result result = store.query(
+                MetadataStore.Table.PLUGIN,
+                List.of(MetadataStore.Filter.parse("parentVersion^=4."), MetadataStore.Filter.parse("jdks=11")),
+                List.of("plugin", "parentVersion", "jdks"),
+                false);
+        assertEquals(List.of(List.of("jobcacher", "4.51", "11")), result.rows());
+
+        MetadataStore.Result history = store.query(
+                MetadataStore.Table.PLUGIN,
+                List.of(MetadataStore.Filter.parse("plugin=git")),
+                List.of("parentVersion", "jdks"),
+                true);
+        assertEquals(List.of(List.of("4.88", "11,17"), List.of("5.9", "17,21")), history.rows());
+
+        MetadataStore.Result notGit = store.query(
+                MetadataStore.Table.PLUGIN,
+                List.of(MetadataStore.Filter.parse("plugin!=git")),
+                List.of("plugin"),
+                false);
+        assertEquals(List.of(List.of("jobcacher"), List.of("login-theme")), notGit.rows());
+    }
+
+    @Test
+    public void shouldEscapeValues() {
+        MetadataStore store = new MetadataStore(cachePath);
+        ModernizationMetadata metadata = new ModernizationMetadata();
+        metadata.setMigrationId("io.jenkins.tools.pluginmodernizer.AddPluginsBom");
+        metadata.setMigrationStatus("fail\twith\nnewline");
+        store.append("git", metadata);
+
+        MetadataStore.Result result = store.query(
+                MetadataStore.Table.MODERNIZATION,
+                List.of(MetadataStore.Filter.parse("migrationStatus~=with")),
+                List.of("plugin", "migrationStatus"),
+                false);
+        assertEquals(List.of(List.of("git", "fail\twith\nnewline")), result.rows());
+    }
+
+    @Test
+    public void shouldReadRowsWrittenWithOtherColumns() throws Exception {
+        Path file = new MetadataStore(cachePath).getFile(MetadataStore.Table.PLUGIN);
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, "#plugin\tparentVersion\ngit\t4.88\n");
+
+        MetadataStore store = new MetadataStore(cachePath);
+        store.append("jobcacher", metadata("5.9", Set.of()));
+
+        MetadataStore.Result result =
+                store.query(MetadataStore.Table.PLUGIN, List.of(), List.of("plugin", "parentVersion", "jdks"), false);
+        assertEquals(List.of(List.of("git", "4.88", ""), List.of("jobcacher", "5.9", "")), result.rows());
+    }
+
+    @Test
+    public void shouldRejectUnknownColumn() {
+        MetadataStore store = new MetadataStore(cachePath);
+        assertThrows(
+                ModernizerException.class,
+                () -> store.query(MetadataStore.Table.PLUGIN, List.of(), List.of("unknown"), false));
+        assertThrows(ModernizerException.class, () -> MetadataStore.Filter.parse("parentVersion"));
+    }
+
+    private static PluginMetadata metadata(String parentVersion, Set<JDK> jdks) {
+        PluginMetadata metadata = new PluginMetadata();
+        metadata.setParentVersion(parentVersion);
+        metadata.setJdks(jdks);
+        return metadata;
+    }
+}
@@ -0,0 +1,60 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.recipes.CountDeprecatedMethodUsages;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.openrewrite.Recipe;
+import org.openrewrite.SourceFile;
+import org.openrewrite.config.CompositeRecipe;
+import org.openrewrite.marker.SearchResult;
+import org.openrewrite.text.PlainTextParser;
+
+public class PluginAnalyzerTest {
+
+    @Test
+    public void shouldAggregateResults() {
+        PluginAnalyzer.Report report = PluginAnalyzer.Report.of(
+                "io.jenkins.tools.pluginmodernizer.core.recipes.CountDeprecatedMethodUsages",
+                "2026-01-01T00:00Z",
+                42,
+                List.of(
+                        new PluginAnalyzer.PluginResult(
+                                "git", 3, List.of("src/main/java/A.java"), null, null, null, 10),
+                        new PluginAnalyzer.PluginResult("b", 0, List.of(), null, null, "Failed to fetch", 5),
+                        new PluginAnalyzer.PluginResult("a", 0, List.of(), null, null, null, 7)));
+
+        assertEquals(3, report.analyzed());
+        assertEquals(1, report.matched());
+        assertEquals(1, report.failed());
+        assertEquals(
+                List.of("a", "b", "git"),
+                report.results().stream()
+                        .map(PluginAnalyzer.PluginResult::plugin)
+                        .toList());
+        assertTrue(report.results().get(2).isMatched());
+        assertFalse(report.results().get(0).isMatched());
+        assertTrue(report.results().get(1).isFailed());
+    }
+
+    @Test
+    public void shouldCountSearchResults() {
+        SourceFile text =
+                PlainTextParser.builder().build().parse("Hello").findFirst().orElseThrow();
+        assertEquals(0, PluginAnalyzer.countSearchResults(text));
+        assertEquals(1, PluginAnalyzer.countSearchResults(SearchResult.found(text)));
+    }
+
+    @Test
+    public void shouldFindRecipeInActivatedRecipes() {
+        CountDeprecatedMethodUsages count = new CountDeprecatedMethodUsages();
+        Recipe composite = new CompositeRecipe(List.of(Recipe.noop(), new CompositeRecipe(List.of(count))));
+        assertSame(count, PluginAnalyzer.findRecipe(composite, CountDeprecatedMethodUsages.class).orElseThrow());
+        assertSame(count, PluginAnalyzer.findRecipe(count, CountDeprecatedMethodUsages.class).orElseThrow());
+        assertTrue(PluginAnalyzer.findRecipe(Recipe.noop(), CountDeprecatedMethodUsages.class).isEmpty());
+    }
+}
@@ -3,15 +3,21 @@ package io.jenkins.tools.pluginmodernizer.core.impl;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.config.Settings;
+import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
 import io.jenkins.tools.pluginmodernizer.core.github.GHService;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
-import io.jenkins.tools.pluginmodernizer.core.model.PluginVersionData;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import io.jenkins.tools.pluginmodernizer.core.model.RepoType;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import io.jenkins.tools.pluginmodernizer.core.utils.JdkFetcher;
+import io.jenkins.tools.pluginmodernizer.core.utils.PluginMetrics;
 import io.jenkins.tools.pluginmodernizer.core.utils.PluginService;
 import java.net.URL;
 import java.nio.file.Path;
@@ -21,6 +27,7 @@ import java.util.List;
 import org.apache.maven.artifact.versioning.ComparableVersion;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
@@ -42,15 +49,25 @@ class PluginModernizerTest {
     @Mock
     private CacheManager cacheManager;
 
+    @Mock
+    private JdkFetcher jdkFetcher;
+
+    @Mock
+    private MetadataStore metadataStore;
+
     @Mock
     private Logger LOG;
 
     @InjectMocks
     private PluginModernizer pluginModernizer;
 
+    @TempDir
+    private Path cacheDir;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        when(config.getCachePath()).thenReturn(cacheDir);
     }
 
     @Test
@@ -174,7 +191,6 @@ class PluginModernizerTest {
         when(config.getJenkinsPluginVersions()).thenReturn(new URL("https://plugin-versions-url.com"));
         when(config.getPluginHealthScore()).thenReturn(new URL("https://health-score-url.com"));
         when(config.getPluginStatsInstallations()).thenReturn(new URL("https://stats-installations-url.com"));
-        when(config.getCachePath()).thenReturn(Paths.get("cache-path"));
         when(config.getMavenHome()).thenReturn(Paths.get("maven-home"));
         when(config.getMavenLocalRepo()).thenReturn(Paths.get("maven-local-repo"));
         when(config.isDryRun()).thenReturn(true);
@@ -188,7 +204,7 @@ class PluginModernizerTest {
         // Verify public method interactions
         verify(pluginModernizerSpy).validate();
         verify(cacheManager).init();
-        verify(pluginService).getPluginVersionData();
+        verify(pluginService).loadSnapshots();
     }
 
     @Test
@@ -210,10 +226,6 @@ class PluginModernizerTest {
         doNothing().when(pluginModernizerSpy).validate();
         doNothing().when(cacheManager).init();
 
-        // Mock getPluginVersionData to return a non-null value (required for start method)
-        PluginVersionData mockVersionData = mock(PluginVersionData.class);
-        when(pluginService.getPluginVersionData()).thenReturn(mockVersionData);
-
         // Execute
         pluginModernizerSpy.start();
 
@@ -244,10 +256,6 @@ class PluginModernizerTest {
         doNothing().when(pluginModernizerSpy).validate();
         doNothing().when(cacheManager).init();
 
-        // Mock getPluginVersionData to return a non-null value
-        PluginVersionData mockVersionData = mock(PluginVersionData.class);
-        when(pluginService.getPluginVersionData()).thenReturn(mockVersionData);
-
         // Execute
         pluginModernizerSpy.start();
 
@@ -278,10 +286,6 @@ class PluginModernizerTest {
         doNothing().when(pluginModernizerSpy).validate();
         doNothing().when(cacheManager).init();
 
-        // Mock getPluginVersionData to return a non-null value
-        PluginVersionData mockVersionData = mock(PluginVersionData.class);
-        when(pluginService.getPluginVersionData()).thenReturn(mockVersionData);
-
         // Execute
         pluginModernizerSpy.start();
 
@@ -312,6 +316,50 @@ class PluginModernizerTest {
         }
     }
 
+    @Test
+    void testStoreModernizationMetadata_ShouldIncludeReportStage() throws Exception {
+        Plugin plugin = Plugin.build("test-plugin");
+        ModernizationMetadata modernizationMetadata = mock(ModernizationMetadata.class);
+        plugin.setModernizationMetadata(modernizationMetadata);
+        StageMetrics report = new StageMetrics(10, 5, 100, 2);
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.REPORT)) {
+            plugin.addStageMetrics(PluginMetrics.Stage.REWRITE.key(), report);
+        }
+
+        java.lang.reflect.Method method =
+                PluginModernizer.class.getDeclaredMethod("storeModernizationMetadata", Plugin.class);
+        method.setAccessible(true);
+        method.invoke(pluginModernizer, plugin);
+
+        verify(modernizationMetadata)
+                .setStageMetrics(argThat(metrics -> metrics.containsKey(PluginMetrics.Stage.REPORT.key())
+                        && report.equals(metrics.get(PluginMetrics.Stage.REWRITE.key()))));
+        verify(modernizationMetadata).save();
+        verify(metadataStore).append("test-plugin", modernizationMetadata);
+    }
+
+    @Test
+    void testPublishModernizationMetadata_ShouldStoreMetadataWhenReportFails() throws Exception {
+        Plugin plugin = Plugin.build("test-plugin");
+        ModernizationMetadata modernizationMetadata = mock(ModernizationMetadata.class);
+        plugin.setModernizationMetadata(modernizationMetadata);
+        doThrow(new ModernizerException("GitHub is down")).when(ghService).fetch(plugin, RepoType.METADATA);
+
+        java.lang.reflect.Method method =
+                PluginModernizer.class.getDeclaredMethod("publishModernizationMetadata", Plugin.class);
+        method.setAccessible(true);
+        try {
+            method.invoke(pluginModernizer, plugin);
+            fail("The failure of the report stage should be propagated");
+        } catch (java.lang.reflect.InvocationTargetException e) {
+            assertEquals("GitHub is down", e.getCause().getMessage());
+        }
+
+        verify(modernizationMetadata)
+                .setStageMetrics(argThat(metrics -> metrics.containsKey(PluginMetrics.Stage.REPORT.key())));
+        verify(metadataStore).append("test-plugin", modernizationMetadata);
+    }
+
     @Test
     void testValidateModernizationMetadata_WithNullMetadata_ShouldReturnEarly() {
         // Setup
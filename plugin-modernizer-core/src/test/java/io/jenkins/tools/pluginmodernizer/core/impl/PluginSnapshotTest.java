@@ -0,0 +1,100 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.UpdateCenterData;
+import io.jenkins.tools.pluginmodernizer.core.utils.JsonUtils;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PluginSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldLookupRecordsByName() throws Exception {
+        Map<String, List<String>> records = new HashMap<>();
+        records.put("git", List.of("git", "5.7.0"));
+        records.put("git-client", Arrays.asList("git-client", null, ""));
+        records.put("\u00e4\u00f6\u00fc-plugin", List.of("unicode"));
+        records.put("empty", List.of());
+        for (int i = 0; i < 100; i++) {
+            records.put("plugin-" + i, List.of(String.valueOf(i)));
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PluginSnapshot.write(records, out);
+        PluginSnapshot snapshot = PluginSnapshot.wrap(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(records.size(), snapshot.size());
+        records.forEach((name, record) -> assertEquals(record, snapshot.get(name)));
+        assertTrue(snapshot.contains("git"));
+        assertFalse(snapshot.contains("gi"));
+        assertFalse(snapshot.contains("git-client-api"));
+        assertNull(snapshot.get("not-present"));
+    }
+
+    @Test
+    public void shouldMapSnapshotFromCache() {
+        CacheManager cacheManager = new CacheManager(tempDir);
+        cacheManager.init();
+        assertNull(cacheManager.getSnapshot(cacheManager.root(), CacheManager.UPDATE_CENTER_SNAPSHOT_KEY));
+
+        cacheManager.putSnapshot(
+                cacheManager.root(), CacheManager.UPDATE_CENTER_SNAPSHOT_KEY, Map.of("git", List.of("git", "5.7.0")));
+        PluginSnapshot snapshot =
+                cacheManager.getSnapshot(cacheManager.root(), CacheManager.UPDATE_CENTER_SNAPSHOT_KEY);
+
+        assertEquals(1, snapshot.size());
+        assertEquals(List.of("git", "5.7.0"), snapshot.get("git"));
+    }
+
+    @Test
+    public void shouldReadUpdateCenterRecords() throws Exception {
+        UpdateCenterData data = JsonUtils.fromJson("""
+                {
+                  "plugins": {
+                    "git": {"name": "git", "version": "5.7.0", "scm": "https://github.com/jenkinsci/git-plugin", "labels": ["scm"]},
+                    "old": {"name": "old", "version": "1.0", "scm": "https://github.com/jenkinsci/old-plugin"}
+                  },
+                  "deprecations": {
+                    "old": {"url": "https://example.org/old"},
+                    "removed": {"url": "https://example.org/removed"}
+                  }
+                }
+                """, UpdateCenterData.class);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PluginSnapshot.write(data.toSnapshotRecords(), out);
+        PluginSnapshot snapshot = PluginSnapshot.wrap(ByteBuffer.wrap(out.toByteArray()));
+
+        assertEquals(data.getPlugins().get("git"), UpdateCenterData.pluginFromSnapshot(snapshot.get("git")));
+        assertEquals(data.getPlugins().get("old"), UpdateCenterData.pluginFromSnapshot(snapshot.get("old")));
+        assertNull(UpdateCenterData.deprecationFromSnapshot(snapshot.get("git")));
+        assertEquals(
+                data.getDeprecations().get("old"), UpdateCenterData.deprecationFromSnapshot(snapshot.get("old")));
+        assertNull(UpdateCenterData.pluginFromSnapshot(snapshot.get("removed")));
+        assertEquals(
+                data.getDeprecations().get("removed"),
+                UpdateCenterData.deprecationFromSnapshot(snapshot.get("removed")));
+    }
+
+    @Test
+    public void shouldRejectInvalidSnapshot() throws Exception {
+        Path file = tempDir.resolve("invalid.snapshot");
+        Files.writeString(file, "{}");
+        assertThrows(ModernizerException.class, () -> PluginSnapshot.open(file));
+    }
+}
@@ -0,0 +1,94 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.PluginStage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunJournalTest {
+
+    @TempDir
+    private Path cachePath;
+
+    @Test
+    public void shouldResumeFromLastDurableStage() throws Exception {
+        RunJournal journal = RunJournal.create(cachePath);
+        Plugin committed = Plugin.build("committed");
+        committed.addModifiedFiles(List.of("pom.xml"));
+        journal.record(committed, PluginStage.FETCHED);
+        journal.record(committed, PluginStage.VERIFIED);
+        journal.record(committed, PluginStage.COMMITTED);
+
+        Plugin fetched = Plugin.build("fetched");
+        journal.record(fetched, PluginStage.FETCHED);
+
+        Plugin done = Plugin.build("done");
+        journal.record(done, PluginStage.COMPLETED, RunJournal.OUTCOME_SUCCESS);
+
+        Plugin failed = Plugin.build("failed");
+        journal.record(failed, PluginStage.PUSHED);
+        journal.record(failed, PluginStage.COMPLETED, RunJournal.OUTCOME_FAIL);
+
+        // Simulate a crash in the middle of a write
+        Files.writeString(journal.getFile(), "{\"plugin\":\"trunc", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        RunJournal resumed = RunJournal.resume(cachePath, journal.getRunId());
+        assertEquals(Optional.of(PluginStage.COMMITTED), resumed.getResumeStage("committed"));
+        assertEquals(
+                List.of("pom.xml"),
+                resumed.getLastEntry("committed").orElseThrow().modifiedFiles());
+        assertEquals(Optional.empty(), resumed.getResumeStage("fetched"));
+        assertTrue(resumed.isCompleted("done"));
+        assertFalse(resumed.isCompleted("failed"));
+        assertEquals(Optional.of(PluginStage.PUSHED), resumed.getResumeStage("failed"));
+        assertFalse(resumed.isCompleted("unknown"));
+    }
+
+    @Test
+    public void shouldCreateDistinctRunIds() {
+        RunJournal first = RunJournal.create(cachePath);
+        RunJournal second = RunJournal.create(cachePath);
+        assertNotEquals(first.getRunId(), second.getRunId());
+    }
+
+    @Test
+    public void shouldFailToResumeUnknownRun() {
+        assertThrows(ModernizerException.class, () -> RunJournal.resume(cachePath, "20250101-120000"));
+    }
+
+    @Test
+    public void shouldRejectRunIdOutsideRunsDirectory() throws Exception {
+        Path outside = cachePath.resolve("outside").resolve(RunJournal.JOURNAL_FILE);
+        Files.createDirectories(outside.getParent());
+        Files.writeString(outside, "");
+        assertThrows(ModernizerException.class, () -> RunJournal.resume(cachePath, "../outside"));
+        assertThrows(ModernizerException.class, () -> RunJournal.resume(cachePath, "unknown"));
+    }
+
+    @Test
+    public void shouldNotResumeCompletedPlugin() {
+        RunJournal journal = RunJournal.create(cachePath);
+        Plugin plugin = Plugin.build("retried");
+        journal.record(plugin, PluginStage.COMMITTED);
+        journal.record(plugin, PluginStage.COMPLETED, RunJournal.OUTCOME_FAIL);
+        journal.record(plugin, PluginStage.PUSHED);
+        journal.record(plugin, PluginStage.COMPLETED, RunJournal.OUTCOME_SUCCESS);
+
+        RunJournal resumed = RunJournal.resume(cachePath, journal.getRunId());
+        assertTrue(resumed.isCompleted("retried"));
+        assertEquals(Optional.empty(), resumed.getResumeStage("retried"));
+    }
+}
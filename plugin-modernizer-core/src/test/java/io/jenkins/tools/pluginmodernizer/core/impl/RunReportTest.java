@@ -0,0 +1,110 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jenkins.tools.pluginmodernizer.core.extractor.ModernizationMetadata;
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class RunReportTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void shouldMergeShardReports() {
+        ModernizationMetadata metadata = new ModernizationMetadata();
+        metadata.setPluginName("git");
+        metadata.setMigrationStatus("success");
+        RunReport first = RunReport.of(
+                new RunReport.ShardResult("run-1", "1/2", 2, 1000),
+                List.of(
+                        result("git", "run-1", RunJournal.OUTCOME_SUCCESS, metadata),
+                        result("shared", "run-1", RunJournal.OUTCOME_FAIL, null)));
+        RunReport second = RunReport.of(
+                new RunReport.ShardResult("run-2", "2/2", 2, 1200),
+                List.of(
+                        result("ant", "run-2", RunJournal.OUTCOME_SKIPPED, null),
+                        result("shared", "run-2", RunJournal.OUTCOME_SKIPPED, null)));
+        first.write(tempDir.resolve("shard-1/runs/run-1/report.json"));
+        second.write(tempDir.resolve("shard-2/runs/run-2/report.json"));
+
+        List<Path> files = RunReport.find(List.of(tempDir.resolve("shard-1"), tempDir.resolve("shard-2")));
+        RunReport merged = RunReport.merge(files.stream().map(RunReport::read).toList());
+
+        assertEquals(
+                List.of("run-1", "run-2"),
+                merged.shards().stream().map(RunReport.ShardResult::runId).toList());
+        assertEquals(
+                List.of("ant", "git", "shared"),
+                merged.plugins().stream().map(RunReport.PluginResult::plugin).toList());
+        // A skipped result does not replace the result of the shard that processed the plugin
+        assertEquals(RunJournal.OUTCOME_FAIL, merged.plugins().get(2).outcome());
+        assertEquals(Map.of("fail", 1, "skipped", 1, "success", 1), merged.outcomes());
+        assertEquals(1500, merged.plugins().get(1).stageMetrics().get("verify").wallMillis());
+        assertEquals("success", merged.plugins().get(1).metadata().getMigrationStatus());
+    }
+
+    @Test
+    public void shouldFindLatestReportOfCache() throws Exception {
+        Path old = tempDir.resolve("shard-1/runs/run-1/report.json");
+        Path latest = tempDir.resolve("shard-1/runs/run-2/report.json");
+        Path other = tempDir.resolve("shard-2/runs/run-3/report.json");
+        for (Path file : List.of(old, latest, other)) {
+            RunReport.of(new RunReport.ShardResult(file.getParent().getFileName().toString(), null, 0, 0), List.of())
+                    .write(file);
+        }
+        Files.setLastModifiedTime(old, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+        assertEquals(List.of(latest, other), RunReport.find(List.of(tempDir.resolve("shard-1"), other.getParent())));
+        assertEquals(List.of(old), RunReport.find(List.of(old)));
+        assertThrows(ModernizerException.class, () -> RunReport.find(List.of(tempDir.resolve("missing"))));
+    }
+
+    @Test
+    public void shouldSaveMetadataToCache() {
+        ModernizationMetadata metadata = new ModernizationMetadata();
+        metadata.setPluginName("git");
+        metadata.setStageMetrics(Map.of("verify", new StageMetrics(1500, 0, 0, 0)));
+        RunReport report = RunReport.of(
+                new RunReport.ShardResult("run-1", null, 2, 1000),
+                List.of(
+                        result("git", "run-1", RunJournal.OUTCOME_SUCCESS, metadata),
+                        result("ant", "run-1", RunJournal.OUTCOME_SKIPPED, null)));
+        report.write(tempDir.resolve("report.json"));
+        CacheManager cacheManager = new CacheManager(tempDir.resolve("cache"));
+        cacheManager.init();
+
+        assertEquals(1, RunReport.read(tempDir.resolve("report.json")).saveMetadata(cacheManager));
+
+        ModernizationMetadata saved = cacheManager.getIgnoringExpiration(
+                Path.of("git"), CacheManager.MODERNIZATION_METADATA_CACHE_KEY, ModernizationMetadata.class);
+        assertEquals("git", saved.getPluginName());
+        assertEquals(1500, saved.getStageMetrics().get("verify").wallMillis());
+        assertNull(cacheManager.getIgnoringExpiration(
+                Path.of("ant"), CacheManager.MODERNIZATION_METADATA_CACHE_KEY, ModernizationMetadata.class));
+    }
+
+    private static RunReport.PluginResult result(
+            String plugin, String runId, String outcome, ModernizationMetadata metadata) {
+        return new RunReport.PluginResult(
+                plugin,
+                runId,
+                outcome,
+                null,
+                List.of(),
+                Map.of("verify", new StageMetrics(1500, 3000, 0, 2)),
+                metadata);
+    }
+}
@@ -0,0 +1,45 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.openrewrite.InMemoryExecutionContext;
+import org.openrewrite.SourceFile;
+
+public class SourceParserTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldParseSourcesByType() throws Exception {
+        Path plugin = Files.createDirectories(tempDir.resolve("plugin"));
+        Path sources = Files.createDirectories(plugin.resolve("src/main/java/org/example"));
+        Files.writeString(sources.resolve("Example.java"), "package org.example; public class Example {}");
+        Files.writeString(plugin.resolve("Jenkinsfile"), "buildPlugin()");
+        Files.writeString(plugin.resolve("README.md"), "# Example");
+        Files.write(plugin.resolve("logo.png"), new byte[] {(byte) 0x89, 'P', 'N', 'G', 0, 0});
+        Path target = Files.createDirectories(plugin.resolve("target/classes"));
+        Files.writeString(target.resolve("Generated.java"), "class Generated {}");
+
+        List<SourceFile> parsed = new SourceParser(tempDir.resolve("repository"))
+                .parse(plugin, new InMemoryExecutionContext(Throwable::printStackTrace));
+
+        Map<String, String> types = parsed.stream()
+                .collect(Collectors.toMap(
+                        source -> source.getSourcePath().toString().replace('\\', '/'),
+                        source -> source.getClass().getSimpleName()));
+        assertEquals(
+                Map.of(
+                        "src/main/java/org/example/Example.java", "CompilationUnit",
+                        "Jenkinsfile", "CompilationUnit",
+                        "README.md", "PlainText"),
+                types);
+    }
+}
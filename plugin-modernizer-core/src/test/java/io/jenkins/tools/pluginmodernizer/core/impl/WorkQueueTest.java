@@ -0,0 +1,62 @@
+package io.jenkins.tools.pluginmodernizer.core.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkQueueTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    public void shouldGiveEachPluginToOneWorker() throws Exception {
+        try (WorkQueue first = new WorkQueue(tempDir, Duration.ofMinutes(1));
+                WorkQueue second = new WorkQueue(tempDir, Duration.ofMinutes(1))) {
+            assertTrue(first.claim("git"));
+            assertFalse(second.claim("git"));
+            assertTrue(second.claim("ant"));
+
+            first.complete("git", RunJournal.OUTCOME_SUCCESS);
+            assertTrue(first.isDone("git"));
+            assertFalse(second.claim("git"));
+            assertEquals(List.of("ant"), second.remaining(List.of("git", "ant")));
+            assertEquals(
+                    first.getWorker() + " " + RunJournal.OUTCOME_SUCCESS,
+                    Files.readString(tempDir.resolve("git/done")).trim());
+        }
+    }
+
+    @Test
+    public void shouldClaimAgainExpiredLease() throws Exception {
+        try (WorkQueue dead = new WorkQueue(tempDir, Duration.ofMinutes(1));
+                WorkQueue alive = new WorkQueue(tempDir, Duration.ofMinutes(1))) {
+            assertTrue(dead.claim("git"));
+            assertFalse(alive.claim("git"));
+
+            // The dead worker no longer renews its lease
+            Files.setLastModifiedTime(tempDir.resolve("git/lease-1"), FileTime.from(Instant.now().minusSeconds(120)));
+            assertTrue(alive.claim("git"));
+            assertTrue(Files.exists(tempDir.resolve("git/lease-2")));
+        }
+    }
+
+    @Test
+    public void shouldReleaseLeasesOnClose() {
+        try (WorkQueue first = new WorkQueue(tempDir, Duration.ofMinutes(1))) {
+            assertTrue(first.claim("git"));
+        }
+        try (WorkQueue second = new WorkQueue(tempDir, Duration.ofMinutes(1))) {
+            assertTrue(second.claim("git"));
+        }
+    }
+}
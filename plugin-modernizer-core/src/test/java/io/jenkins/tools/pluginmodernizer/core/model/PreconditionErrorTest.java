@@ -0,0 +1,81 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+
+public class PreconditionErrorTest {
+
+    @Test
+    public void shouldReportMissingPom() {
+        assertEquals(Set.of(PreconditionError.NO_POM), PreconditionError.evaluate(null));
+    }
+
+    @Test
+    public void shouldReportAllErrorsAtOnce() throws Exception {
+        Document document = parse("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>1.580</version>
+                  </parent>
+                  <properties>
+                    <java.level>7</java.level>
+                  </properties>
+                  <repositories>
+                    <repository>
+                      <id>local</id>
+                      <url>file:///tmp/repo</url>
+                    </repository>
+                    <repository>
+                      <id>repo.jenkins-ci.org</id>
+                      <url>http://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                  </repositories>
+                </project>
+                """);
+        assertEquals(
+                Set.of(
+                        PreconditionError.OLDER_JAVA_LEVEL,
+                        PreconditionError.PARENT_POM_1X,
+                        PreconditionError.MAVEN_REPOSITORIES_HTTP),
+                PreconditionError.evaluate(document));
+    }
+
+    @Test
+    public void shouldReportNoErrorForModernPom() throws Exception {
+        Document document = parse("""
+                <?xml version="1.0" encoding="UTF-8"?>
+                <project xmlns="http://maven.apache.org/POM/4.0.0">
+                  <parent>
+                    <groupId>org.jenkins-ci.plugins</groupId>
+                    <artifactId>plugin</artifactId>
+                    <version>5.9</version>
+                  </parent>
+                  <properties>
+                    <jenkins.version>2.479.3</jenkins.version>
+                  </properties>
+                  <repositories>
+                    <repository>
+                      <id>repo.jenkins-ci.org</id>
+                      <url>https://repo.jenkins-ci.org/public/</url>
+                    </repository>
+                  </repositories>
+                </project>
+                """);
+        assertEquals(Set.of(), PreconditionError.evaluate(document));
+    }
+
+    private static Document parse(String pom) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(pom.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,58 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+public class RecipeTest {
+
+    @Test
+    public void singleRecipeIsNotComposite() {
+        Recipe recipe = recipe("io.jenkins.tools.pluginmodernizer.SetupDependabot", Set.of("dependencies"));
+        assertSame(recipe, Recipe.composite(List.of(recipe)));
+        assertFalse(recipe.isComposite());
+        assertEquals(List.of(recipe), recipe.getComponents());
+    }
+
+    @Test
+    public void compositeKeepsOrderAndMergesTags() {
+        Recipe first = recipe("io.jenkins.tools.pluginmodernizer.UpgradeParentVersion", Set.of("dependencies"));
+        Recipe second = recipe("io.jenkins.tools.pluginmodernizer.MigrateToJUnit5", Set.of("tests"));
+        Recipe composite = Recipe.composite(List.of(first, second, first));
+
+        assertTrue(composite.isComposite());
+        assertEquals(List.of(first, second), composite.getComponents());
+        assertEquals(
+                "io.jenkins.tools.pluginmodernizer.UpgradeParentVersion,io.jenkins.tools.pluginmodernizer.MigrateToJUnit5",
+                composite.getName());
+        assertEquals(Set.of("dependencies", "tests"), composite.getTags());
+        assertEquals(
+                "io.jenkins.tools.pluginmodernizer.UpgradeParentVersion+io.jenkins.tools.pluginmodernizer.MigrateToJUnit5",
+                composite.getMigrationId());
+        assertEquals("io.jenkins.tools.pluginmodernizer.UpgradeParentVersion", first.getMigrationId());
+    }
+
+    @Test
+    public void compositeSkipsVerificationOnlyIfAllRecipesDo() {
+        Recipe skip = recipe("io.jenkins.tools.pluginmodernizer.SetupDependabot", Set.of("skip-verification"));
+        Recipe verify = recipe("io.jenkins.tools.pluginmodernizer.MigrateToJUnit5", Set.of("tests"));
+        Recipe otherSkip = recipe("io.jenkins.tools.pluginmodernizer.AddCodeOwner", Set.of("skip-verification"));
+
+        assertFalse(Recipe.composite(List.of(skip, verify)).isSkipVerification());
+        assertTrue(Recipe.composite(List.of(skip, otherSkip)).isSkipVerification());
+    }
+
+    private static Recipe recipe(String name, Set<String> tags) {
+        Recipe recipe = new Recipe();
+        recipe.setName(name);
+        recipe.setDisplayName(name);
+        recipe.setDescription(name);
+        recipe.setTags(tags);
+        return recipe;
+    }
+}
@@ -0,0 +1,82 @@
+package io.jenkins.tools.pluginmodernizer.core.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Execution;
+import org.junit.jupiter.api.parallel.ExecutionMode;
+
+@Execution(ExecutionMode.CONCURRENT)
+public class ShardTest {
+
+    @Test
+    public void shouldParse() {
+        assertEquals(new Shard(2, 8), Shard.parse("2/8"));
+        assertEquals("2/8", Shard.parse(" 2 / 8 ").toString());
+        assertThrows(ModernizerException.class, () -> Shard.parse("0/8"));
+        assertThrows(ModernizerException.class, () -> Shard.parse("9/8"));
+        assertThrows(ModernizerException.class, () -> Shard.parse("2"));
+        assertThrows(ModernizerException.class, () -> Shard.parse("a/b"));
+    }
+
+    @Test
+    public void shouldAssignEachPluginToOneShard() {
+        List<Plugin> plugins = plugins(200);
+        List<String> assigned = new ArrayList<>();
+        for (int i = 1; i <= 4; i++) {
+            List<Plugin> selected = new Shard(i, 4).select(plugins);
+            assertTrue(selected.size() > 20, "Shard " + i + " has " + selected.size() + " plugins");
+            selected.forEach(plugin -> assigned.add(plugin.getName()));
+        }
+        assertEquals(names(plugins).stream().sorted().toList(), assigned.stream().sorted().toList());
+    }
+
+    @Test
+    public void shouldKeepAssignmentWhenPluginsChange() {
+        List<Plugin> plugins = plugins(50);
+        List<Plugin> shuffled = new ArrayList<>(plugins.subList(10, 50));
+        Collections.shuffle(shuffled);
+        List<String> before = names(new Shard(3, 5).select(plugins));
+        List<String> after = names(new Shard(3, 5).select(shuffled));
+        assertTrue(before.containsAll(after));
+    }
+
+    @Test
+    public void shouldBalanceDurations() {
+        List<Plugin> plugins = plugins(12);
+        Map<String, Long> durations = Map.of("plugin-0", 600L, "plugin-1", 500L, "plugin-2", 400L);
+        long[] totals = new long[3];
+        List<String> assigned = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            List<Plugin> selected =
+                    new Shard(i, 3).select(plugins, plugin -> durations.getOrDefault(plugin.getName(), -1L));
+            for (Plugin plugin : selected) {
+                assigned.add(plugin.getName());
+                // Unknown durations are estimated with the median of the known ones
+                totals[i - 1] += durations.getOrDefault(plugin.getName(), 500L);
+            }
+        }
+        assertEquals(names(plugins).stream().sorted().toList(), assigned.stream().sorted().toList());
+        // 6000 ms of work split in 3 shards
+        for (long total : totals) {
+            assertEquals(2000, total);
+        }
+    }
+
+    private static List<Plugin> plugins(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> Plugin.build("plugin-" + i))
+                .toList();
+    }
+
+    private static List<String> names(List<Plugin> plugins) {
+        return plugins.stream().map(Plugin::getName).toList();
+    }
+}
@@ -3,6 +3,7 @@ package io.jenkins.tools.pluginmodernizer.core.recipes;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.openrewrite.java.Assertions.java;
 
+import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ExecutionMode;
@@ -93,6 +94,10 @@ public class CountDeprecatedMethodUsagesTest implements RewriteTest {
                         """));
 
         assertEquals(3, recipe.getTotalDeprecatedCount(), "Expected 3 deprecated method usages across all files");
+        CountDeprecatedMethodUsages.Report report = recipe.getReport();
+        assertEquals(3, report.total());
+        assertEquals(Map.of("A#oldMethodA", 1, "B#oldMethodB", 2), report.bySymbol());
+        assertEquals(Map.of("A.java", 1, "B.java", 2), report.byFile());
     }
 
     @Test
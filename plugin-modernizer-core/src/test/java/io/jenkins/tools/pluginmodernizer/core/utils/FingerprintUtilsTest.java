@@ -0,0 +1,38 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class FingerprintUtilsTest {
+
+    @Test
+    public void shouldBeStableForSameInputs() {
+        assertEquals(
+                FingerprintUtils.fingerprint("abc123", "io.jenkins.tools.pluginmodernizer.SetupJenkinsfile", "1.0"),
+                FingerprintUtils.fingerprint("abc123", "io.jenkins.tools.pluginmodernizer.SetupJenkinsfile", "1.0"));
+    }
+
+    @Test
+    public void shouldChangeWithAnyInput() {
+        String fingerprint =
+                FingerprintUtils.fingerprint("abc123", "io.jenkins.tools.pluginmodernizer.SetupJenkinsfile", "1.0");
+        assertNotEquals(
+                fingerprint,
+                FingerprintUtils.fingerprint("def456", "io.jenkins.tools.pluginmodernizer.SetupJenkinsfile", "1.0"));
+        assertNotEquals(
+                fingerprint,
+                FingerprintUtils.fingerprint("abc123", "io.jenkins.tools.pluginmodernizer.AddCodeOwner", "1.0"));
+        assertNotEquals(
+                fingerprint,
+                FingerprintUtils.fingerprint("abc123", "io.jenkins.tools.pluginmodernizer.SetupJenkinsfile", "1.1"));
+    }
+
+    @Test
+    public void shouldSeparateLines() {
+        assertNotEquals(FingerprintUtils.digest(List.of("ab", "c")), FingerprintUtils.digest(List.of("a", "bc")));
+        assertEquals(64, FingerprintUtils.digest(List.of("a")).length());
+    }
+}
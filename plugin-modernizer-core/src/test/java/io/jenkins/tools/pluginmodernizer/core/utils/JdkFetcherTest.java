@@ -0,0 +1,142 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.junit5.WireMockRuntimeInfo;
+import com.github.tomakehurst.wiremock.junit5.WireMockTest;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+@WireMockTest
+public class JdkFetcherTest {
+
+    @TempDir
+    private Path cacheDir;
+
+    private byte[] archive;
+
+    @BeforeEach
+    public void setup() throws IOException {
+        archive = createArchive();
+    }
+
+    @Test
+    public void shouldDownloadAndExtract(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        wmRuntimeInfo
+                .getWireMock()
+                .register(WireMock.get(WireMock.urlEqualTo("/jdk.tar.gz"))
+                        .willReturn(WireMock.aResponse().withStatus(200).withBody(archive)));
+
+        Path partFile = cacheDir.resolve("jdk.tar.gz.part");
+        Path extractionDir = Files.createDirectories(cacheDir.resolve("jdk"));
+        String checksum = new JdkFetcher(cacheDir)
+                .downloadAndExtract(wmRuntimeInfo.getHttpBaseUrl() + "/jdk.tar.gz", partFile, extractionDir);
+
+        assertEquals(sha256(archive), checksum);
+        assertEquals("java", Files.readString(extractionDir.resolve("bin/java")));
+        assertEquals("JAVA_VERSION=\"21\"", Files.readString(extractionDir.resolve("release")));
+        assertArrayEquals(archive, Files.readAllBytes(partFile));
+    }
+
+    @Test
+    public void shouldNotResumeDownloadOfAnotherRelease() throws Exception {
+        JdkFetcher fetcher = new JdkFetcher(cacheDir);
+        String base = "https://github.com/adoptium/temurin21-binaries/releases/download/";
+        Path previous =
+                fetcher.getPartFile(21, base + "jdk-21.0.4%2B7/OpenJDK21U-jdk_x64_linux_hotspot_21.0.4_7.tar.gz");
+        Path latest =
+                fetcher.getPartFile(21, base + "jdk-21.0.5%2B11/OpenJDK21U-jdk_x64_linux_hotspot_21.0.5_11.tar.gz");
+        assertEquals("jdk21-OpenJDK21U-jdk_x64_linux_hotspot_21.0.5_11.tar.gz.part", latest.getFileName().toString());
+
+        Path legacy = previous.resolveSibling("jdk21.tar.gz.part");
+        Path otherVersion = fetcher.getPartFile(17, base + "OpenJDK17U-jdk_x64_linux_hotspot_17.0.13_11.tar.gz");
+        Files.createDirectories(previous.getParent());
+        for (Path part : List.of(previous, latest, legacy, otherVersion)) {
+            Files.writeString(part, "partial");
+        }
+        fetcher.removeStalePartFiles(21, latest);
+
+        assertFalse(Files.exists(previous));
+        assertFalse(Files.exists(legacy));
+        assertTrue(Files.exists(latest));
+        assertTrue(Files.exists(otherVersion));
+    }
+
+    @Test
+    public void shouldResumeDownload(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        int downloaded = archive.length / 2;
+        wmRuntimeInfo
+                .getWireMock()
+                .register(WireMock.get(WireMock.urlEqualTo("/jdk.tar.gz"))
+                        .withHeader("Range", WireMock.equalTo("bytes=" + downloaded + "-"))
+                        .willReturn(WireMock.aResponse()
+                                .withStatus(206)
+                                .withBody(Arrays.copyOfRange(archive, downloaded, archive.length))));
+
+        Path partFile = cacheDir.resolve("jdk.tar.gz.part");
+        Files.write(partFile, Arrays.copyOfRange(archive, 0, downloaded));
+        Path extractionDir = Files.createDirectories(cacheDir.resolve("jdk"));
+        String checksum = new JdkFetcher(cacheDir)
+                .downloadAndExtract(wmRuntimeInfo.getHttpBaseUrl() + "/jdk.tar.gz", partFile, extractionDir);
+
+        assertEquals(sha256(archive), checksum);
+        assertEquals("java", Files.readString(extractionDir.resolve("bin/java")));
+        assertArrayEquals(archive, Files.readAllBytes(partFile));
+    }
+
+    @Test
+    public void shouldRestartDownloadWhenRangeNotSupported(WireMockRuntimeInfo wmRuntimeInfo) throws Exception {
+        wmRuntimeInfo
+                .getWireMock()
+                .register(WireMock.get(WireMock.urlEqualTo("/jdk.tar.gz"))
+                        .willReturn(WireMock.aResponse().withStatus(200).withBody(archive)));
+
+        Path partFile = cacheDir.resolve("jdk.tar.gz.part");
+        Files.writeString(partFile, "garbage");
+        Path extractionDir = Files.createDirectories(cacheDir.resolve("jdk"));
+        String checksum = new JdkFetcher(cacheDir)
+                .downloadAndExtract(wmRuntimeInfo.getHttpBaseUrl() + "/jdk.tar.gz", partFile, extractionDir);
+
+        assertEquals(sha256(archive), checksum);
+        assertArrayEquals(archive, Files.readAllBytes(partFile));
+    }
+
+    private static byte[] createArchive() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (TarArchiveOutputStream tar = new TarArchiveOutputStream(new GZIPOutputStream(out))) {
+            addEntry(tar, "jdk-21/bin/java", "java");
+            addEntry(tar, "jdk-21/release", "JAVA_VERSION=\"21\"");
+        }
+        return out.toByteArray();
+    }
+
+    private static void addEntry(TarArchiveOutputStream tar, String name, String content) throws IOException {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        TarArchiveEntry entry = new TarArchiveEntry(name);
+        entry.setSize(bytes.length);
+        tar.putArchiveEntry(entry);
+        tar.write(bytes);
+        tar.closeArchiveEntry();
+    }
+
+    private static String sha256(byte[] bytes) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+    }
+}
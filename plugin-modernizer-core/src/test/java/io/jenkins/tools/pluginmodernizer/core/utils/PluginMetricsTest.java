@@ -0,0 +1,91 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.jenkins.tools.pluginmodernizer.core.model.StageMetrics;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PluginMetricsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void shouldRecordStageMetrics() {
+        Plugin plugin = Plugin.build("git");
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.FETCH)) {
+            PluginMetrics.recordGitHubApiCall(100);
+            PluginMetrics.recordGitHubApiCall(-1);
+            PluginMetrics.recordTransfer(50);
+        }
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.FETCH)) {
+            PluginMetrics.recordGitHubApiCall(10);
+        }
+        try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.REWRITE)) {
+            PluginMetrics.recordTransfer(0);
+        }
+
+        assertEquals(List.of("fetch", "rewrite"), List.copyOf(plugin.getStageMetrics().keySet()));
+        StageMetrics fetch = plugin.getStageMetrics().get("fetch");
+        assertEquals(160, fetch.bytesTransferred());
+        assertEquals(3, fetch.githubApiCalls());
+        StageMetrics rewrite = plugin.getStageMetrics().get("rewrite");
+        assertEquals(0, rewrite.bytesTransferred());
+        assertEquals(0, rewrite.githubApiCalls());
+        assertEquals(3, PluginMetrics.total(plugin).githubApiCalls());
+    }
+
+    @Test
+    public void shouldWriteOpenMetrics() throws Exception {
+        Plugin plugin = Plugin.build("git");
+        plugin.addStageMetrics("verify", new StageMetrics(1500, 3000, 2048, 2));
+        Plugin skipped = Plugin.build("skipped");
+        Path file = tempDir.resolve("metrics/plugin-modernizer.prom");
+
+        PluginMetrics.writeOpenMetrics(List.of(plugin, skipped), file);
+
+        List<String> lines = Files.readAllLines(file);
+        assertTrue(lines.contains("# TYPE plugin_modernizer_stage_duration_seconds gauge"));
+        assertTrue(lines.contains("plugin_modernizer_stage_duration_seconds{plugin=\"git\",stage=\"verify\"} 1.5"));
+        assertTrue(lines.contains("plugin_modernizer_stage_process_cpu_seconds{plugin=\"git\",stage=\"verify\"} 3.0"));
+        assertTrue(lines.contains("plugin_modernizer_stage_transferred_bytes{plugin=\"git\",stage=\"verify\"} 2048.0"));
+        assertTrue(lines.contains("plugin_modernizer_stage_github_api_calls{plugin=\"git\",stage=\"verify\"} 2.0"));
+        assertTrue(lines.stream().noneMatch(line -> line.contains("skipped")));
+        assertEquals("# EOF", lines.get(lines.size() - 1));
+    }
+
+    @Test
+    public void shouldEmitStageEvent() throws Exception {
+        Plugin plugin = Plugin.build("git");
+        Path file = tempDir.resolve("stages.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("io.jenkins.pluginmodernizer.PluginStage");
+            recording.start();
+            try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.VERIFY)) {
+                PluginMetrics.recordGitHubApiCall(42);
+            }
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.jenkins.pluginmodernizer.PluginStage"))
+                .filter(event -> "git".equals(event.getString("plugin")))
+                .toList();
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("git", event.getString("plugin"));
+        assertEquals("verify", event.getString("stage"));
+        assertEquals(42, event.getLong("bytesTransferred"));
+        assertEquals(1, event.getLong("githubApiCalls"));
+    }
+}
@@ -1,7 +1,9 @@
 package io.jenkins.tools.pluginmodernizer.core.utils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doReturn;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
@@ -12,16 +14,19 @@ import com.google.inject.Guice;
 import io.jenkins.tools.pluginmodernizer.core.GuiceModule;
 import io.jenkins.tools.pluginmodernizer.core.config.Config;
 import io.jenkins.tools.pluginmodernizer.core.impl.CacheManager;
+import io.jenkins.tools.pluginmodernizer.core.impl.PluginSnapshot;
 import io.jenkins.tools.pluginmodernizer.core.model.HealthScoreData;
 import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.PluginInstallationStatsData;
 import io.jenkins.tools.pluginmodernizer.core.model.UpdateCenterData;
+import java.io.OutputStream;
 import java.lang.reflect.Field;
 import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.tuple.Triple;
 import org.junit.jupiter.api.Test;
@@ -143,6 +148,30 @@ class PluginServiceTest {
         assertEquals("plugin-modernizer-core", result);
     }
 
+    @Test
+    public void shouldMapUpdateCenterSnapshotAgainWhenStale() throws Exception {
+        CacheManager cacheManager = Mockito.mock(CacheManager.class);
+        Path cacheRoot = Mockito.mock(Path.class);
+        Config config = Mockito.mock(Config.class);
+        UpdateCenterData updateCenterData =
+                setup(config, cacheManager, cacheRoot).getLeft();
+        Map<String, List<String>> records = updateCenterData.toSnapshotRecords();
+        PluginSnapshot mapped = writeSnapshot(records, "mapped.snapshot");
+        records.remove("valid-plugin");
+        PluginSnapshot refreshed = writeSnapshot(records, "refreshed.snapshot");
+        doReturn(cacheRoot).when(cacheManager).root();
+        doReturn(mapped, refreshed)
+                .when(cacheManager)
+                .getSnapshot(cacheRoot, CacheManager.UPDATE_CENTER_SNAPSHOT_KEY);
+        doReturn(false, true).when(cacheManager).isStale(cacheRoot, CacheManager.UPDATE_CENTER_SNAPSHOT_KEY);
+        PluginService service = getService(config, cacheManager);
+        Plugin plugin = Plugin.build("valid-plugin").withConfig(config);
+
+        assertTrue(service.existsInUpdateCenter(plugin));
+        assertTrue(service.existsInUpdateCenter(plugin));
+        assertFalse(service.existsInUpdateCenter(plugin));
+    }
+
     @Test
     public void shouldExtractRepoNameWithGitSuffix() throws Exception {
         CacheManager cacheManager = Mockito.mock(CacheManager.class);
@@ -294,6 +323,14 @@ class PluginServiceTest {
         return service;
     }
 
+    private PluginSnapshot writeSnapshot(Map<String, List<String>> records, String name) throws Exception {
+        Path file = tempDir.resolve(name);
+        try (OutputStream out = Files.newOutputStream(file)) {
+            PluginSnapshot.write(records, out);
+        }
+        return PluginSnapshot.open(file);
+    }
+
     private void setupUpdateCenterMocks(UpdateCenterData updateCenterData, CacheManager cacheManager, Path cacheRoot) {
         doReturn(updateCenterData)
                 .when(cacheManager)
@@ -0,0 +1,83 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.jenkins.tools.pluginmodernizer.core.model.ModernizerException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class StaticPomParserTest {
+
+    private static final String POM_XML = """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <modelVersion>4.0.0</modelVersion>
+              <parent>
+                <groupId>org.jenkins-ci.plugins</groupId>
+                <artifactId>plugin</artifactId>
+                <version>5.9</version>
+              </parent>
+              <artifactId>my-plugin</artifactId>
+              <packaging>hpi</packaging>
+              <properties>
+                <jenkins.baseline>2.479</jenkins.baseline>
+                <jenkins.version>${jenkins.baseline}.3</jenkins.version>
+                <gitHubRepo>jenkinsci/my-plugin</gitHubRepo>
+              </properties>
+              <dependencies>
+                <dependency>
+                  <artifactId>not-the-project</artifactId>
+                </dependency>
+              </dependencies>
+            </project>
+            """;
+
+    @Test
+    public void shouldExtractFields(@TempDir Path tempDir) throws Exception {
+        Path pom = tempDir.resolve("pom.xml");
+        Files.writeString(pom, POM_XML);
+
+        StaticPomParser parser = new StaticPomParser(pom.toString());
+        assertEquals("hpi", parser.getPackaging());
+        assertEquals("my-plugin", parser.getArtifactId());
+        assertEquals("2.479", parser.getBaseline());
+        assertEquals("${jenkins.baseline}.3", parser.getJenkinsVersion());
+        assertEquals("jenkinsci/my-plugin", parser.getGithubRepoProperty());
+        assertEquals("", parser.getScmConnectionProperty());
+    }
+
+    @Test
+    public void shouldParseAgainWhenFileChanged(@TempDir Path tempDir) throws Exception {
+        Path pom = tempDir.resolve("pom.xml");
+        Files.writeString(pom, POM_XML);
+        FileTime modified = FileTime.from(Instant.parse("2025-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(pom, modified);
+        assertEquals("hpi", new StaticPomParser(pom.toString()).getPackaging());
+
+        // Same size and modification time but a different content
+        Files.writeString(pom, POM_XML.replace("<packaging>hpi</packaging>", "<packaging>pom</packaging>"));
+        Files.setLastModifiedTime(pom, modified);
+        assertEquals("pom", new StaticPomParser(pom.toString()).getPackaging());
+    }
+
+    @Test
+    public void shouldKeepParsingFilesBeyondCacheSize(@TempDir Path tempDir) throws Exception {
+        for (int i = 0; i < 300; i++) {
+            Path pom = tempDir.resolve("pom-" + i + ".xml");
+            Files.writeString(pom, POM_XML.replace("my-plugin", "plugin-" + i));
+            assertEquals("plugin-" + i, new StaticPomParser(pom.toString()).getArtifactId());
+        }
+        Path first = tempDir.resolve("pom-0.xml");
+        assertEquals("plugin-0", new StaticPomParser(first.toString()).getArtifactId());
+    }
+
+    @Test
+    public void shouldFailOnMissingFile(@TempDir Path tempDir) {
+        assertThrows(ModernizerException.class, () -> new StaticPomParser(tempDir.resolve("pom.xml").toString()));
+    }
+}
@@ -10,6 +10,7 @@ import io.jenkins.tools.pluginmodernizer.core.extractor.PluginMetadata;
 import io.jenkins.tools.pluginmodernizer.core.model.JDK;
 import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
 import io.jenkins.tools.pluginmodernizer.core.model.Recipe;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.Execution;
@@ -1120,4 +1121,68 @@ public class TemplateUtilsTest {
         assertTrue(result.contains("jackson2-api"));
         assertTrue(result.contains("jackson3-api"));
     }
+
+    @Test
+    public void testCompositeRecipe() {
+
+        // Mocks
+        Plugin plugin = mock(Plugin.class);
+        doReturn("fake-plugin").when(plugin).getName();
+        Recipe first = new Recipe();
+        first.setName("io.jenkins.tools.pluginmodernizer.FirstRecipe");
+        first.setDisplayName("First recipe");
+        first.setDescription("First description");
+        Recipe second = new Recipe();
+        second.setName("io.jenkins.tools.pluginmodernizer.SecondRecipe");
+        second.setDisplayName("Second recipe");
+        second.setDescription("Second description");
+        Recipe recipe = Recipe.composite(List.of(first, second));
+
+        // Assert
+        assertEquals("plugin-modernizer/firstrecipe-secondrecipe", TemplateUtils.renderBranchName(plugin, recipe));
+        assertEquals(
+                "Applied recipe FirstRecipe; Applied recipe SecondRecipe",
+                TemplateUtils.renderCommitMessage(plugin, recipe));
+        assertEquals(
+                "Applied recipe FirstRecipe; Applied recipe SecondRecipe",
+                TemplateUtils.renderPullRequestTitle(plugin, recipe));
+        String body = TemplateUtils.renderPullRequestBody(plugin, recipe);
+        assertTrue(body.contains("<summary>First recipe</summary>"));
+        assertTrue(body.contains("<summary>Second recipe</summary>"));
+        assertTrue(body.indexOf("First description") < body.indexOf("Second description"));
+    }
+
+    @Test
+    public void testCompositeRecipeWithFriendlyTemplates() {
+
+        // Mocks
+        Plugin plugin = mock(Plugin.class);
+        PluginMetadata metadata = mock(PluginMetadata.class);
+        doReturn("fake-plugin").when(plugin).getName();
+        doReturn(metadata).when(plugin).getMetadata();
+        doReturn("3208.vb_21177d4b_cd9").when(metadata).getBomVersion();
+        Recipe bom = new Recipe();
+        bom.setName("io.jenkins.tools.pluginmodernizer.UpgradeBomVersion");
+        bom.setDisplayName("Upgrade BOM version");
+        bom.setDescription("Upgrade the bill of materials version");
+        Recipe dependabot = new Recipe();
+        dependabot.setName("io.jenkins.tools.pluginmodernizer.SetupDependabot");
+        dependabot.setDisplayName("Setup Dependabot");
+        dependabot.setDescription("Setup Dependabot for the plugin");
+        Recipe recipe = Recipe.composite(List.of(bom, dependabot));
+
+        // Test
+        String title = TemplateUtils.renderPullRequestTitle(plugin, recipe);
+        String body = TemplateUtils.renderPullRequestBody(plugin, recipe);
+
+        // Assert
+        assertEquals(
+                "Bump bom to 3208.vb_21177d4b_cd9; chore(dependencies): Automate dependency updates with Dependabot",
+                title);
+        assertEquals(title, TemplateUtils.renderCommitMessage(plugin, recipe));
+        assertTrue(body.startsWith("Hello `fake-plugin` developers!"));
+        assertTrue(body.contains("<summary>Upgrade BOM version</summary>"));
+        assertTrue(body.contains("<p><em>io.jenkins.tools.pluginmodernizer.SetupDependabot</em></p>"));
+        assertTrue(body.indexOf("Upgrade BOM version") < body.indexOf("Setup Dependabot"));
+    }
 }
@@ -0,0 +1,83 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.jenkins.tools.pluginmodernizer.core.model.Plugin;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TracingTest {
+
+    private final InMemorySpanExporter exporter = InMemorySpanExporter.create();
+
+    @BeforeEach
+    public void setUp() {
+        GlobalOpenTelemetry.resetForTest();
+        OpenTelemetrySdk.builder()
+                .setTracerProvider(SdkTracerProvider.builder()
+                        .addSpanProcessor(SimpleSpanProcessor.create(exporter))
+                        .build())
+                .setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+                .buildAndRegisterGlobal();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        GlobalOpenTelemetry.resetForTest();
+    }
+
+    @Test
+    public void shouldNestStageSpansInPluginSpan() {
+        Plugin plugin = Plugin.build("git");
+        Span span = Tracing.startSpan("plugin git");
+        try (Scope scope = span.makeCurrent()) {
+            try (PluginMetrics.Timer timer = PluginMetrics.start(plugin, PluginMetrics.Stage.FETCH)) {
+                PluginMetrics.recordGitHubApiCall(10);
+            }
+        } finally {
+            span.end();
+        }
+
+        List<SpanData> spans = exporter.getFinishedSpanItems();
+        assertEquals(List.of("fetch", "plugin git"), spans.stream().map(SpanData::getName).toList());
+        SpanData stage = spans.get(0);
+        SpanData root = spans.get(1);
+        assertEquals(root.getSpanId(), stage.getParentSpanId());
+        assertEquals("git", stage.getAttributes().get(Tracing.PLUGIN));
+        assertEquals("fetch", stage.getAttributes().get(Tracing.STAGE));
+        assertEquals(1L, stage.getAttributes().get(AttributeKey.longKey("plugin_modernizer.github_api_calls")));
+        assertEquals(StatusCode.UNSET, stage.getStatus().getStatusCode());
+    }
+
+    @Test
+    public void shouldExposeTraceContextOfCurrentSpan() {
+        assertTrue(Tracing.traceContext().isEmpty());
+
+        Span span = Tracing.startSpan("mvn verify");
+        try (Scope scope = span.makeCurrent()) {
+            Map<String, String> traceContext = Tracing.traceContext();
+            String traceparent = traceContext.get("traceparent");
+            assertEquals(
+                    "00-" + span.getSpanContext().getTraceId() + "-" + span.getSpanContext().getSpanId() + "-01",
+                    traceparent);
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.jenkins.tools.pluginmodernizer.core.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import javax.xml.parsers.DocumentBuilderFactory;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class XmlUtilsTest {
+
+    private static final String POM =
+            """
+            <project xmlns="http://maven.apache.org/POM/4.0.0">
+              <!-- A comment -->
+              <parent>
+                <version> 5.0 </version>
+              </parent>
+              <properties>
+                <jenkins.version>2.479.3</jenkins.version>
+              </properties>
+            </project>
+            """;
+
+    @Test
+    public void shouldNavigateNamespaceAwareDocument() throws Exception {
+        Element project = parse(true).getDocumentElement();
+        assertEquals(
+                List.of("parent", "properties"),
+                XmlUtils.children(project).stream().map(XmlUtils::name).toList());
+        assertEquals("5.0", XmlUtils.childText(XmlUtils.child(project, "parent"), "version"));
+        assertEquals("2.479.3", XmlUtils.childText(XmlUtils.child(project, "properties"), "jenkins.version"));
+    }
+
+    @Test
+    public void shouldNavigateDocumentWithoutNamespaces() throws Exception {
+        Element project = parse(false).getDocumentElement();
+        assertEquals("5.0", XmlUtils.childText(XmlUtils.child(project, "parent"), "version"));
+    }
+
+    @Test
+    public void shouldReturnNullForMissingElements() throws Exception {
+        Element project = parse(true).getDocumentElement();
+        assertNull(XmlUtils.child(project, "dependencies"));
+        assertNull(XmlUtils.child(null, "dependencies"));
+        assertNull(XmlUtils.childText(XmlUtils.child(project, "dependencies"), "dependency"));
+    }
+
+    private static Document parse(boolean namespaceAware) throws Exception {
+        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(namespaceAware);
+        return factory.newDocumentBuilder().parse(new ByteArrayInputStream(POM.getBytes(StandardCharsets.UTF_8)));
+    }
+}